@@ -13,6 +13,7 @@ package org.kitodo.api.docket;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
 
@@ -40,4 +41,30 @@ public interface DocketInterface {
      */
     File generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri) throws IOException;
 
+    /**
+     * Generates a docket from given data and writes it to a stream.
+     *
+     * @param docketData
+     *            - the data shown in the docket
+     * @param xslFileUri
+     *            - the uri to the schema xsl file
+     * @param outputStream
+     *            - the stream to write the docket to
+     */
+    void generateDocket(DocketData docketData, URI xslFileUri, OutputStream outputStream) throws IOException;
+
+    /**
+     * Generates the dockets of several processes as one document in a single
+     * pass and writes it to a stream.
+     *
+     * @param docketData
+     *            - a List data shown in the dockets
+     * @param xslFileUri
+     *            - the uri to the schema xsl file
+     * @param outputStream
+     *            - the stream to write the dockets to
+     */
+    void generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri, OutputStream outputStream)
+            throws IOException;
+
 }
@@ -117,6 +117,18 @@ public interface FileManagementInterface {
      */
     Long getSizeOfDirectory(URI directory) throws IOException;
 
+    /**
+     * Reads a directory and all its subdirectories again, so that changes made
+     * outside of the file management are taken into account by
+     * {@link #getNumberOfFiles(FilenameFilter, URI)} and
+     * {@link #getSizeOfDirectory(URI)}.
+     *
+     * @param directory
+     *            URI of directory to rescan
+     */
+    default void rescan(URI directory) {
+    }
+
     /**
      * Returns the name of a file with extension at a given URI.
      *
@@ -11,13 +11,13 @@
 
 package org.kitodo.config;
 
+import java.io.File;
 import java.util.Objects;
 
 import org.apache.commons.configuration.AbstractConfiguration;
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.configuration.ConversionException;
 import org.apache.commons.configuration.PropertiesConfiguration;
-import org.apache.commons.configuration.reloading.FileChangedReloadingStrategy;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +25,7 @@ import org.apache.logging.log4j.Logger;
 public abstract class Config {
     private static final Logger logger = LogManager.getLogger(Config.class);
     private static volatile PropertiesConfiguration config;
+    private static volatile ConfigSnapshot snapshot;
 
     /**
      * Returns the configuration.
@@ -36,9 +37,9 @@ public abstract class Config {
     static PropertiesConfiguration getConfig(String configFile) {
         if (Objects.isNull(config)) {
             synchronized (Config.class) {
-                PropertiesConfiguration initialized = config;
-                if (Objects.isNull(initialized)) {
+                if (Objects.isNull(config)) {
                     AbstractConfiguration.setDefaultListDelimiter('&');
+                    PropertiesConfiguration initialized;
                     try {
                         initialized = new PropertiesConfiguration(configFile);
                     } catch (ConfigurationException e) {
@@ -46,16 +47,61 @@ public abstract class Config {
                             e);
                         initialized = new PropertiesConfiguration();
                     }
-                    initialized.setListDelimiter('&');
-                    initialized.setReloadingStrategy(new FileChangedReloadingStrategy());
-                    initialized.setThrowExceptionOnMissing(true);
-                    config = initialized;
+                    use(initialized);
+                    File file = initialized.getFile();
+                    if (Objects.nonNull(file) && file.isFile()) {
+                        ConfigFileWatcher.watch(file.toPath(), () -> reload(file));
+                    }
                 }
             }
         }
         return config;
     }
 
+    /**
+     * Returns the current snapshot of the configuration. Reading values from
+     * it is cheaper than reading them from the configuration.
+     *
+     * @param configFile
+     *            file with configuration
+     * @return the snapshot
+     */
+    static ConfigSnapshot getSnapshot(String configFile) {
+        if (Objects.isNull(snapshot)) {
+            getConfig(configFile);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces the configuration by the changed file. If the file cannot be
+     * loaded, the configuration is kept.
+     */
+    private static void reload(File file) {
+        try {
+            use(new PropertiesConfiguration(file));
+        } catch (ConfigurationException e) {
+            logger.warn("Reloading of " + file + " failed. Keeping the configuration loaded before.", e);
+        }
+    }
+
+    /**
+     * Sets up a configuration and makes it the current one, along with a new
+     * snapshot. Changes made to the configuration in memory also replace the
+     * snapshot.
+     */
+    private static synchronized void use(PropertiesConfiguration configuration) {
+        configuration.setListDelimiter('&');
+        configuration.setThrowExceptionOnMissing(true);
+        configuration.addConfigurationListener(event -> {
+            if (!event.isBeforeUpdate() && configuration == config) {
+                snapshot = new ConfigSnapshot(configuration);
+            }
+        });
+        snapshot = new ConfigSnapshot(configuration);
+        config = configuration;
+    }
+
     /**
      * Logs a conversion exception with a helpful error message.
      *
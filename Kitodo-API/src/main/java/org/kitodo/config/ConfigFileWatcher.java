@@ -0,0 +1,115 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Watches configuration files and informs about changes, so that
+ * configurations can be read once and replaced when their file changes,
+ * instead of checking the time of modification of the file on every access.
+ * The directories of the files are watched by one daemon thread.
+ */
+public class ConfigFileWatcher {
+    private static final Logger logger = LogManager.getLogger(ConfigFileWatcher.class);
+
+    /**
+     * Actions to run on change, by file.
+     */
+    private static final Map<Path, List<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    private static WatchService watchService;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private ConfigFileWatcher() {
+
+    }
+
+    /**
+     * Runs an action whenever a file is created or changed.
+     *
+     * @param file
+     *            file to watch
+     * @param onChange
+     *            action to run when the file changed
+     */
+    public static synchronized void watch(Path file, Runnable onChange) {
+        Path absoluteFile = file.toAbsolutePath().normalize();
+        Path directory = absoluteFile.getParent();
+        if (Objects.isNull(directory)) {
+            return;
+        }
+        try {
+            if (Objects.isNull(watchService)) {
+                watchService = FileSystems.getDefault().newWatchService();
+                Thread thread = new Thread(ConfigFileWatcher::run, ConfigFileWatcher.class.getSimpleName());
+                thread.setDaemon(true);
+                thread.start();
+            }
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+            listeners.computeIfAbsent(absoluteFile, key -> new CopyOnWriteArrayList<>()).add(onChange);
+        } catch (IOException e) {
+            logger.warn("Changes of {} cannot be watched, they will be ignored: {}", absoluteFile, e.getMessage());
+        }
+    }
+
+    private static void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path) {
+                        notify(directory.resolve((Path) event.context()));
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Watching of configuration files stopped", e);
+        }
+    }
+
+    private static void notify(Path file) {
+        List<Runnable> actions = listeners.get(file);
+        if (Objects.nonNull(actions)) {
+            logger.info("Configuration file {} changed", file);
+            for (Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    logger.error(e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
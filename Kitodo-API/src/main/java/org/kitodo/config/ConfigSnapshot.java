@@ -0,0 +1,179 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.config;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.configuration.ConversionException;
+import org.apache.commons.configuration.PropertiesConfiguration;
+
+/**
+ * The values of a configuration at one point in time. Every value is read
+ * from the configuration and converted to its type once, on first access, and
+ * is then returned from a concurrent map, without locking and without
+ * checking the configuration file. When the configuration changes, the
+ * snapshot is not changed, but replaced by a new one.
+ */
+final class ConfigSnapshot {
+
+    /**
+     * Marks keys which are not in the configuration.
+     */
+    private static final Object MISSING = new Object();
+
+    private final PropertiesConfiguration configuration;
+
+    private final Map<String, Object> strings = new ConcurrentHashMap<>();
+    private final Map<String, Object> booleans = new ConcurrentHashMap<>();
+    private final Map<String, Object> ints = new ConcurrentHashMap<>();
+    private final Map<String, Object> longs = new ConcurrentHashMap<>();
+    private final Map<String, Object> stringArrays = new ConcurrentHashMap<>();
+
+    private final Function<String, Object> stringReader;
+    private final Function<String, Object> booleanReader;
+    private final Function<String, Object> intReader;
+    private final Function<String, Object> longReader;
+    private final Function<String, Object> stringArrayReader;
+
+    ConfigSnapshot(PropertiesConfiguration configuration) {
+        this.configuration = configuration;
+        this.stringReader = key -> read(key, configuration::getString);
+        this.booleanReader = key -> read(key, configuration::getBoolean);
+        this.intReader = key -> read(key, configuration::getInt);
+        this.longReader = key -> read(key, configuration::getLong);
+        this.stringArrayReader = key -> read(key, configuration::getStringArray);
+    }
+
+    private Object read(String key, Function<String, Object> getter) {
+        if (!configuration.containsKey(key)) {
+            return MISSING;
+        }
+        try {
+            return getter.apply(key);
+        } catch (ConversionException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Returns whether a key is in the configuration.
+     *
+     * @param key
+     *            key to look up
+     * @return whether the key is in the configuration
+     */
+    boolean containsKey(String key) {
+        return lookUp(strings, stringReader, key) != MISSING;
+    }
+
+    /**
+     * Returns a string value.
+     *
+     * @param key
+     *            key to look up
+     * @param defaultValue
+     *            value to return if the key is missing
+     * @return the value
+     * @throws ConversionException
+     *             if the value is not a string
+     */
+    String getString(String key, String defaultValue) {
+        return (String) get(strings, stringReader, key, defaultValue);
+    }
+
+    /**
+     * Returns a boolean value.
+     *
+     * @param key
+     *            key to look up
+     * @param defaultValue
+     *            value to return if the key is missing
+     * @return the value
+     * @throws ConversionException
+     *             if the value cannot be converted to boolean
+     */
+    boolean getBoolean(String key, boolean defaultValue) {
+        Object value = get(booleans, booleanReader, key, null);
+        return value == null ? defaultValue : (Boolean) value;
+    }
+
+    /**
+     * Returns an int value.
+     *
+     * @param key
+     *            key to look up
+     * @param defaultValue
+     *            value to return if the key is missing
+     * @return the value
+     * @throws ConversionException
+     *             if the value cannot be converted to int
+     */
+    int getInt(String key, int defaultValue) {
+        Object value = get(ints, intReader, key, null);
+        return value == null ? defaultValue : (Integer) value;
+    }
+
+    /**
+     * Returns a long value.
+     *
+     * @param key
+     *            key to look up
+     * @param defaultValue
+     *            value to return if the key is missing
+     * @return the value
+     * @throws ConversionException
+     *             if the value cannot be converted to long
+     */
+    long getLong(String key, long defaultValue) {
+        Object value = get(longs, longReader, key, null);
+        return value == null ? defaultValue : (Long) value;
+    }
+
+    /**
+     * Returns the values of a key as array.
+     *
+     * @param key
+     *            key to look up
+     * @return a new array with the values, empty if the key is missing
+     */
+    String[] getStringArray(String key) {
+        String[] values = (String[]) get(stringArrays, stringArrayReader, key, null);
+        return values == null ? new String[0] : values.clone();
+    }
+
+    private static Object get(Map<String, Object> values, Function<String, Object> reader, String key,
+            Object defaultValue) {
+        Object value = lookUp(values, reader, key);
+        if (value == MISSING) {
+            return defaultValue;
+        }
+        if (value instanceof ConversionException) {
+            throw (ConversionException) value;
+        }
+        return value;
+    }
+
+    /**
+     * Reads present values without locking, as computeIfAbsent() locks even
+     * if the key is present.
+     */
+    private static Object lookUp(Map<String, Object> values, Function<String, Object> reader, String key) {
+        if (Objects.isNull(key)) {
+            return MISSING;
+        }
+        Object value = values.get(key);
+        return value != null ? value : values.computeIfAbsent(key, reader);
+    }
+}
@@ -14,6 +14,7 @@ package org.kitodo.config;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.apache.commons.configuration.ConversionException;
@@ -86,11 +87,11 @@ public class KitodoConfig extends Config {
      */
     //TODO: there is still image management where it is needed
     public static String getParameter(String key) {
-        try {
-            return getConfig().getString(key);
-        } catch (NoSuchElementException e) {
+        String value = getSnapshot().getString(key, null);
+        if (Objects.isNull(value)) {
             throw new NoSuchElementException("No configuration found in " + CONFIG_FILE + " for key " + key + "!");
         }
+        return value;
     }
 
     /**
@@ -107,7 +108,7 @@ public class KitodoConfig extends Config {
      */
     public static String getParameter(ParameterInterface key, String defaultValue) {
         try {
-            return getConfig().getString(key.getName(), defaultValue);
+            return getSnapshot().getString(key.getName(), defaultValue);
         } catch (ConversionException e) {
             logConversionException(key.getName(), CONFIG_FILE, String.class, e, defaultValue);
             return defaultValue;
@@ -128,7 +129,7 @@ public class KitodoConfig extends Config {
     // TODO: there is still one place when it is needed
     public static String getParameter(String key, String defaultValue) {
         try {
-            return getConfig().getString(key, defaultValue);
+            return getSnapshot().getString(key, defaultValue);
         } catch (ConversionException e) {
             logConversionException(key, CONFIG_FILE, String.class, e, defaultValue);
             return defaultValue;
@@ -166,7 +167,7 @@ public class KitodoConfig extends Config {
      */
     public static boolean getBooleanParameter(ParameterInterface key, boolean defaultValue) {
         try {
-            return getConfig().getBoolean(key.getName(), defaultValue);
+            return getSnapshot().getBoolean(key.getName(), defaultValue);
         } catch (ConversionException e) {
             logConversionException(key.getName(), CONFIG_FILE, boolean.class, e, defaultValue);
             return defaultValue;
@@ -204,7 +205,7 @@ public class KitodoConfig extends Config {
      */
     public static int getIntParameter(ParameterInterface key, int defaultValue) {
         try {
-            return getConfig().getInt(key.getName(), defaultValue);
+            return getSnapshot().getInt(key.getName(), defaultValue);
         } catch (ConversionException e) {
             logConversionException(key.getName(), CONFIG_FILE, int.class, e, defaultValue);
             return defaultValue;
@@ -212,7 +213,39 @@ public class KitodoConfig extends Config {
     }
 
     /**
-     * Returns the configuration.
+     * Returns the selected long parameter from the configuration file. If no
+     * such parameter exists, returns the provided default value.
+     *
+     * @param key
+     *            as ParameterInterface enum implementation whose value is to be
+     *            returned
+     * @param defaultValue
+     *            default value in case parameter taken from config file does not
+     *            exist
+     * @return long value for the requested key, or {@code defaultValue} if not
+     *         found
+     */
+    public static long getLongParameter(ParameterInterface key, long defaultValue) {
+        return getSnapshot().getLong(key.getName(), defaultValue);
+    }
+
+    /**
+     * Returns the values of the selected parameter from the configuration
+     * file.
+     *
+     * @param key
+     *            as ParameterInterface enum implementation whose values are to be
+     *            returned
+     * @return values for the requested key, an empty array if not found
+     */
+    public static String[] getStringArrayParameter(ParameterInterface key) {
+        return getSnapshot().getStringArray(key.getName());
+    }
+
+    /**
+     * Returns the configuration. Values changed in it are taken over for
+     * reading. To read values, use the getters of this class, which are
+     * cheaper than reading from the configuration.
      *
      * @return the configuration
      */
@@ -220,6 +253,10 @@ public class KitodoConfig extends Config {
         return Config.getConfig(CONFIG_FILE);
     }
 
+    private static ConfigSnapshot getSnapshot() {
+        return Config.getSnapshot(CONFIG_FILE);
+    }
+
     /**
      * Returns the selected parameter from the configuration file, if any.
      *
@@ -230,7 +267,7 @@ public class KitodoConfig extends Config {
      */
     public static Optional<String> getOptionalString(ParameterInterface key) {
         try {
-            return Optional.of(getConfig().getString(key.getName()));
+            return Optional.of(getParameter(key));
         } catch (NoSuchElementException e) {
             logger.catching(Level.TRACE, e);
             return Optional.empty();
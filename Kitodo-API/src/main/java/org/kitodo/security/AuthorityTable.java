@@ -0,0 +1,135 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.security;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * The authorities of an authentication, compiled for lookup. The authorities
+ * are granted as strings like {@code title_GLOBAL} and
+ * {@code title_CLIENT_1}. Here they are parsed once, and for every title
+ * it is recorded whether it is granted globally, and for which clients in a
+ * bit set. Looking up an authority then neither builds strings nor allocates
+ * objects.
+ */
+final class AuthorityTable {
+
+    static final String GLOBAL_SUFFIX = "_GLOBAL";
+    static final String CLIENT_INFIX = "_CLIENT_";
+
+    /**
+     * The table of an authentication without authorities.
+     */
+    static final AuthorityTable EMPTY = new AuthorityTable(null);
+
+    /**
+     * Scopes in which an authority is granted.
+     */
+    private static final class Scopes {
+        private boolean global;
+        private final BitSet clients = new BitSet();
+    }
+
+    /**
+     * The collection of granted authorities this table was compiled from. It
+     * is compared by identity to find out whether the table is still valid.
+     */
+    private final Collection<? extends GrantedAuthority> source;
+
+    private final Map<String, Scopes> scopes = new HashMap<>();
+
+    /**
+     * Compiles the granted authorities of an authentication.
+     *
+     * @param authorities
+     *            granted authorities, may be null
+     */
+    AuthorityTable(Collection<? extends GrantedAuthority> authorities) {
+        this.source = authorities;
+        if (Objects.nonNull(authorities)) {
+            for (GrantedAuthority grantedAuthority : authorities) {
+                String authority = grantedAuthority.getAuthority();
+                if (Objects.nonNull(authority)) {
+                    add(authority);
+                }
+            }
+        }
+    }
+
+    private void add(String authority) {
+        if (authority.endsWith(GLOBAL_SUFFIX)) {
+            getScopes(authority.substring(0, authority.length() - GLOBAL_SUFFIX.length())).global = true;
+            return;
+        }
+        int infix = authority.lastIndexOf(CLIENT_INFIX);
+        if (infix < 0) {
+            return;
+        }
+        String title = authority.substring(0, infix);
+        String client = authority.substring(infix + CLIENT_INFIX.length());
+        try {
+            int clientId = Integer.parseInt(client);
+            if (clientId >= 0) {
+                getScopes(title).clients.set(clientId);
+            }
+        } catch (NumberFormatException e) {
+            // title_CLIENT_ANY is only used by the URL patterns of the security configuration
+        }
+    }
+
+    private Scopes getScopes(String title) {
+        return scopes.computeIfAbsent(title, key -> new Scopes());
+    }
+
+    /**
+     * Returns whether this table was compiled from the given authorities.
+     *
+     * @param authorities
+     *            granted authorities of the current authentication
+     * @return whether the table is valid for them
+     */
+    boolean isCompiledFrom(Collection<? extends GrantedAuthority> authorities) {
+        return source == authorities;
+    }
+
+    /**
+     * Checks if an authority is granted globally.
+     *
+     * @param title
+     *            title of the authority
+     * @return whether the authority is granted globally
+     */
+    boolean isGlobal(String title) {
+        Scopes scope = scopes.get(title);
+        return Objects.nonNull(scope) && scope.global;
+    }
+
+    /**
+     * Checks if an authority is granted for a client.
+     *
+     * @param title
+     *            title of the authority
+     * @param clientId
+     *            id of the client
+     * @return whether the authority is granted for the client
+     */
+    boolean isForClient(String title, int clientId) {
+        Scopes scope = scopes.get(title);
+        return Objects.nonNull(scope) && clientId >= 0 && scope.clients.get(clientId);
+    }
+}
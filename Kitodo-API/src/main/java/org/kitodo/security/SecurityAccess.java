@@ -11,13 +11,13 @@
 
 package org.kitodo.security;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
@@ -26,16 +26,32 @@ import org.springframework.security.core.context.SecurityContextHolder;
  */
 public abstract class SecurityAccess {
 
-    private static final String GLOBAL_IDENTIFIER = "GLOBAL";
-    private static final String CLIENT_IDENTIFIER = "CLIENT";
+    /**
+     * The authorities of the authentication last checked in a thread. As a
+     * request is processed in one thread, they are compiled once and then
+     * reused for all checks during the request, and in further requests of
+     * the same authentication.
+     */
+    private static final ThreadLocal<AuthorityTable> authorityTable = ThreadLocal
+            .withInitial(() -> AuthorityTable.EMPTY);
+
+    /**
+     * Authority titles of the comma separated lists passed to the checks, by
+     * list.
+     */
+    private final Map<String, String[]> authorityTitleLists = new ConcurrentHashMap<>();
 
-    private Collection<? extends GrantedAuthority> getAuthoritiesOfCurrentAuthentication() {
+    private AuthorityTable getAuthoritiesOfCurrentAuthentication() {
         Authentication authentication = getCurrentAuthentication();
-        if (Objects.nonNull(authentication)) {
-            return authentication.getAuthorities();
-        } else {
-            return new ArrayList<>();
+        Collection<? extends GrantedAuthority> authorities = Objects.nonNull(authentication)
+                ? authentication.getAuthorities()
+                : null;
+        AuthorityTable table = authorityTable.get();
+        if (!table.isCompiledFrom(authorities)) {
+            table = Objects.nonNull(authorities) ? new AuthorityTable(authorities) : AuthorityTable.EMPTY;
+            authorityTable.set(table);
         }
+        return table;
     }
 
     /**
@@ -54,7 +70,7 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAuthorityGlobal(String authorityTitle) {
-        return hasAuthority(authorityTitle + "_" + GLOBAL_IDENTIFIER);
+        return getAuthoritiesOfCurrentAuthentication().isGlobal(authorityTitle);
     }
 
     /**
@@ -65,8 +81,7 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAuthorityForClient(String authorityTitle) {
-        String clientAuthority = authorityTitle + "_" + CLIENT_IDENTIFIER + "_" + getClientId();
-        return hasAuthority(clientAuthority);
+        return getAuthoritiesOfCurrentAuthentication().isForClient(authorityTitle, getClientId());
     }
 
     /**
@@ -77,7 +92,8 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAuthorityGlobalOrForClient(String authorityTitle) {
-        return hasAuthorityGlobal(authorityTitle) || hasAuthorityForClient(authorityTitle);
+        AuthorityTable authorities = getAuthoritiesOfCurrentAuthentication();
+        return authorities.isGlobal(authorityTitle) || authorities.isForClient(authorityTitle, getClientId());
     }
 
     /**
@@ -90,9 +106,9 @@ public abstract class SecurityAccess {
      *         globally
      */
     public boolean hasAnyAuthorityGlobal(String authorityTitles) {
-        String[] authorityTitlesArray = getStringArray(authorityTitles);
-        for (String authorityTitle : authorityTitlesArray) {
-            if (hasAuthorityGlobal(authorityTitle)) {
+        AuthorityTable authorities = getAuthoritiesOfCurrentAuthentication();
+        for (String authorityTitle : getStringArray(authorityTitles)) {
+            if (authorities.isGlobal(authorityTitle)) {
                 return true;
             }
         }
@@ -107,9 +123,10 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAnyAuthorityForClient(String authorityTitles) {
-        String[] authorityTitlesArray = getStringArray(authorityTitles);
-        for (String authorityTitle : authorityTitlesArray) {
-            if (hasAuthorityForClient(authorityTitle)) {
+        AuthorityTable authorities = getAuthoritiesOfCurrentAuthentication();
+        int clientId = getClientId();
+        for (String authorityTitle : getStringArray(authorityTitles)) {
+            if (authorities.isForClient(authorityTitle, clientId)) {
                 return true;
             }
         }
@@ -127,7 +144,20 @@ public abstract class SecurityAccess {
      *         globally or for client
      */
     public boolean hasAnyAuthorityGlobalOrForClient(String authorityTitles) {
-        return hasAnyAuthorityGlobal(authorityTitles) || hasAnyAuthorityForClient(authorityTitles);
+        AuthorityTable authorities = getAuthoritiesOfCurrentAuthentication();
+        String[] authorityTitlesArray = getStringArray(authorityTitles);
+        for (String authorityTitle : authorityTitlesArray) {
+            if (authorities.isGlobal(authorityTitle)) {
+                return true;
+            }
+        }
+        int clientId = getClientId();
+        for (String authorityTitle : authorityTitlesArray) {
+            if (authorities.isForClient(authorityTitle, clientId)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -139,14 +169,8 @@ public abstract class SecurityAccess {
         return SecurityContextHolder.getContext().getAuthentication();
     }
 
-    private boolean hasAuthority(String authorityTitle) {
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(authorityTitle);
-        Collection<? extends GrantedAuthority> authorities = getAuthoritiesOfCurrentAuthentication();
-        return authorities.contains(authority);
-    }
-
     private String[] getStringArray(String values) {
-        // remove white spaces and split values
-        return values.replaceAll("\\s+", "").split(",");
+        // remove white spaces and split values, once for every list
+        return authorityTitleLists.computeIfAbsent(values, list -> list.replaceAll("\\s+", "").split(","));
     }
 }
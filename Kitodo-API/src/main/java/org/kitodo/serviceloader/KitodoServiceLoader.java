@@ -26,14 +26,21 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -63,6 +70,24 @@ public class KitodoServiceLoader<T> {
 
     private static final Logger logger = LogManager.getLogger(KitodoServiceLoader.class);
 
+    /**
+     * Jar files of the modules directory with size and time of last
+     * modification, as they were when the modules were loaded into the
+     * classpath, and when their frontend files were extracted.
+     */
+    private static volatile String loadedModules;
+    private static volatile String loadedFrontendFiles;
+
+    /**
+     * Implementing classes found per module interface.
+     */
+    private static final Map<Class<?>, List<Class<?>>> providers = new ConcurrentHashMap<>();
+
+    /**
+     * Instances of modules without state, per module interface.
+     */
+    private static final Map<Class<?>, Object> singletons = new ConcurrentHashMap<>();
+
     /**
      * Constructor for KitodoServiceLoader.
      *
@@ -81,12 +106,83 @@ public class KitodoServiceLoader<T> {
 
     @SuppressWarnings("unchecked")
     private ServiceLoader<T> getClassLoader() {
-        loadModulesIntoClasspath();
-        loadBeans();
-        loadFrontendFilesIntoCore();
         return ServiceLoader.load(clazz);
     }
 
+    /**
+     * Loads the jar files of the modules directory into the classpath and
+     * extracts their frontend files, if this has not been done yet or if the
+     * jar files have changed since. The frontend files can only be extracted
+     * while a faces request is processed.
+     */
+    private void discoverModules() {
+        String modules = getModulesFingerprint();
+        boolean frontend = Objects.nonNull(FacesContext.getCurrentInstance());
+        if (modules.equals(loadedModules) && (!frontend || modules.equals(loadedFrontendFiles))) {
+            return;
+        }
+        synchronized (KitodoServiceLoader.class) {
+            if (!modules.equals(loadedModules)) {
+                logger.info("Loading modules from {}", modulePath);
+                loadModulesIntoClasspath();
+                providers.clear();
+                singletons.clear();
+                loadedModules = modules;
+            }
+            if (frontend && !modules.equals(loadedFrontendFiles)) {
+                loadBeans();
+                loadFrontendFilesIntoCore();
+                loadedFrontendFiles = modules;
+            }
+        }
+    }
+
+    /**
+     * Returns the names, sizes and times of last modification of the jar
+     * files in the modules directory.
+     */
+    private String getModulesFingerprint() {
+        StringBuilder fingerprint = new StringBuilder(modulePath);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(FileSystems.getDefault().getPath(modulePath),
+            JAR)) {
+            List<String> jars = new ArrayList<>();
+            for (Path jar : stream) {
+                BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+                jars.add(jar.getFileName() + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+            }
+            Collections.sort(jars);
+            for (String jar : jars) {
+                fingerprint.append('|').append(jar);
+            }
+        } catch (IOException e) {
+            logger.error(ERROR, e.getMessage());
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Returns the classes implementing the constructed clazz. The classpath is
+     * only searched on first request, or after the modules have changed.
+     */
+    private List<Class<?>> getProviders() {
+        discoverModules();
+        return providers.computeIfAbsent(clazz, unused -> {
+            List<Class<?>> classes = new ArrayList<>();
+            getClassLoader().iterator().forEachRemaining(module -> classes.add(module.getClass()));
+            return classes;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private T newInstance(Class<?> provider) {
+        try {
+            return (T) provider.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new ServiceConfigurationError(clazz.getName() + ": Provider " + provider.getName()
+                    + " could not be instantiated", e);
+        }
+    }
+
     /**
      * Loads a module from the classpath which implements the constructed clazz.
      * Frontend files of all modules will be loaded into the core module.
@@ -94,8 +190,30 @@ public class KitodoServiceLoader<T> {
      * @return A module with type T.
      */
     public T loadModule() {
-        ServiceLoader<T> loader = getClassLoader();
-        return loader.iterator().next();
+        return newInstance(getFirstProvider());
+    }
+
+    private Class<?> getFirstProvider() {
+        List<Class<?>> modules = getProviders();
+        if (modules.isEmpty()) {
+            throw new NoSuchElementException("No module found implementing " + clazz.getName());
+        }
+        return modules.get(0);
+    }
+
+    /**
+     * Returns an instance of the module implementing the constructed clazz,
+     * which is shared between all callers. This may only be used for modules
+     * which don't keep state in their instances, which are not thread-safe
+     * otherwise. The instance is replaced after {@link #reload()}, or if the
+     * jar files of the modules have changed.
+     *
+     * @return A module with type T.
+     */
+    @SuppressWarnings("unchecked")
+    public T loadSingletonModule() {
+        Class<?> provider = getFirstProvider();
+        return (T) singletons.computeIfAbsent(clazz, unused -> newInstance(provider));
     }
 
     /**
@@ -103,12 +221,26 @@ public class KitodoServiceLoader<T> {
      * @return List of modules with type T
      */
     public List<T> loadModules() {
-        ServiceLoader<T> loader = getClassLoader();
         LinkedList<T> modules = new LinkedList<>();
-        loader.iterator().forEachRemaining(modules::add);
+        for (Class<?> provider : getProviders()) {
+            modules.add(newInstance(provider));
+        }
         return modules;
     }
 
+    /**
+     * Forgets the loaded modules, so that the modules directory is read again
+     * and the frontend files are extracted again on next use.
+     */
+    public static void reload() {
+        synchronized (KitodoServiceLoader.class) {
+            loadedModules = null;
+            loadedFrontendFiles = null;
+            providers.clear();
+            singletons.clear();
+        }
+    }
+
     /**
      * Loads bean classes and registers them to the FacesContext. Afterwards
      * they can be used in all frontend files
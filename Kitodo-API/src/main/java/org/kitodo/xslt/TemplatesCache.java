@@ -0,0 +1,116 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.xslt;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps compiled XSLT stylesheets, so that a stylesheet is not parsed and
+ * compiled again for every transformation. Compiled stylesheets are thread
+ * safe; a new transformer is created from them for every transformation. A
+ * stylesheet file is compiled again when its time of last modification or
+ * its size has changed. The cache is in the API, so the modules share it.
+ */
+public class TemplatesCache {
+    private static final Logger logger = LogManager.getLogger(TemplatesCache.class);
+
+    private static final Map<String, CompiledStylesheet> stylesheets = new ConcurrentHashMap<>();
+
+    /**
+     * A compiled stylesheet together with the state of its file when it was
+     * compiled.
+     */
+    private static final class CompiledStylesheet {
+        private final long lastModified;
+        private final long length;
+        private final Templates templates;
+
+        private CompiledStylesheet(long lastModified, long length, Templates templates) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.templates = templates;
+        }
+    }
+
+    private TemplatesCache() {
+        // private constructor to hide implicit one
+    }
+
+    /**
+     * Returns the compiled stylesheet of a stylesheet file. The stylesheet is
+     * compiled with the transformer factory of the caller, as modules may
+     * bring their own XSLT processor.
+     *
+     * @param stylesheet
+     *            stylesheet file
+     * @param transformerFactory
+     *            transformer factory to compile the stylesheet with
+     * @return the compiled stylesheet
+     * @throws TransformerConfigurationException
+     *             if the stylesheet cannot be compiled
+     */
+    public static Templates getTemplates(File stylesheet, TransformerFactory transformerFactory)
+            throws TransformerConfigurationException {
+        String key = getKey(stylesheet.getAbsolutePath(), transformerFactory);
+        long lastModified = stylesheet.lastModified();
+        long length = stylesheet.length();
+        CompiledStylesheet compiled = stylesheets.get(key);
+        if (Objects.isNull(compiled) || compiled.lastModified != lastModified || compiled.length != length) {
+            logger.debug("Compiling stylesheet {}", stylesheet);
+            compiled = new CompiledStylesheet(lastModified, length,
+                    transformerFactory.newTemplates(new StreamSource(stylesheet)));
+            stylesheets.put(key, compiled);
+        }
+        return compiled.templates;
+    }
+
+    /**
+     * Returns the compiled stylesheet of a stylesheet on the class path. Such
+     * a stylesheet cannot change while running, so it is compiled only once.
+     *
+     * @param stylesheet
+     *            URL of the stylesheet resource
+     * @param transformerFactory
+     *            transformer factory to compile the stylesheet with
+     * @return the compiled stylesheet
+     * @throws TransformerConfigurationException
+     *             if the stylesheet cannot be compiled
+     */
+    public static Templates getTemplates(URL stylesheet, TransformerFactory transformerFactory)
+            throws TransformerConfigurationException {
+        String key = getKey(stylesheet.toString(), transformerFactory);
+        CompiledStylesheet compiled = stylesheets.get(key);
+        if (Objects.isNull(compiled)) {
+            logger.debug("Compiling stylesheet {}", stylesheet);
+            compiled = new CompiledStylesheet(0, 0,
+                    transformerFactory.newTemplates(new StreamSource(stylesheet.toString())));
+            stylesheets.put(key, compiled);
+        }
+        return compiled.templates;
+    }
+
+    private static String getKey(String stylesheet, TransformerFactory transformerFactory) {
+        return transformerFactory.getClass().getName() + ' ' + stylesheet;
+    }
+}
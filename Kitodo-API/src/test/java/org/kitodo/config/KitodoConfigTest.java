@@ -115,4 +115,15 @@ public class KitodoConfigTest {
         int param = KitodoConfig.getIntParameter(ParameterAPI.DIR_PROCESSES, 3);
         assertEquals("Incorrect param!", 3, param);
     }
+
+    @Test
+    public void shouldGetChangedParameter() {
+        assertEquals("Incorrect param!", "String", KitodoConfig.getParameter(ParameterAPI.DIR_XML_CONFIG));
+        KitodoConfig.getConfig().setProperty(ParameterAPI.DIR_XML_CONFIG.getName(), "Changed");
+        try {
+            assertEquals("Changed param not read!", "Changed", KitodoConfig.getParameter(ParameterAPI.DIR_XML_CONFIG));
+        } finally {
+            KitodoConfig.getConfig().setProperty(ParameterAPI.DIR_XML_CONFIG.getName(), "String");
+        }
+    }
 }
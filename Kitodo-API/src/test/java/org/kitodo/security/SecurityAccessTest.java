@@ -0,0 +1,66 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.security;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class SecurityAccessTest {
+
+    private final SecurityAccess securityAccess = new SecurityAccess() {
+        @Override
+        public int getClientId() {
+            return 2;
+        }
+    };
+
+    @After
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void shouldCheckAuthorities() {
+        authenticate("viewProcess_GLOBAL", "editProcess_CLIENT_ANY", "editProcess_CLIENT_2", "viewTask_CLIENT_3");
+
+        assertTrue("Global authority not found!", securityAccess.hasAuthorityGlobal("viewProcess"));
+        assertFalse("Client authority found globally!", securityAccess.hasAuthorityGlobal("editProcess"));
+        assertTrue("Client authority not found!", securityAccess.hasAuthorityForClient("editProcess"));
+        assertFalse("Authority of other client found!", securityAccess.hasAuthorityForClient("viewTask"));
+        assertTrue("Authority not found!", securityAccess.hasAuthorityGlobalOrForClient("viewProcess"));
+        assertTrue("Authority not found!", securityAccess.hasAnyAuthorityGlobalOrForClient("viewTask, editProcess"));
+        assertFalse("Authority found!", securityAccess.hasAnyAuthorityGlobalOrForClient("viewTask, editTask"));
+        assertFalse("Authority found!", securityAccess.hasAnyAuthorityGlobal("editProcess, viewTask"));
+    }
+
+    @Test
+    public void shouldCheckAuthoritiesOfNewAuthentication() {
+        authenticate("viewProcess_GLOBAL");
+        assertTrue("Authority not found!", securityAccess.hasAuthorityGlobal("viewProcess"));
+
+        authenticate("viewTask_GLOBAL");
+        assertFalse("Authority of previous authentication found!", securityAccess.hasAuthorityGlobal("viewProcess"));
+        assertTrue("Authority not found!", securityAccess.hasAuthorityGlobal("viewTask"));
+
+        SecurityContextHolder.clearContext();
+        assertFalse("Authority found without authentication!", securityAccess.hasAuthorityGlobal("viewTask"));
+    }
+
+    private void authenticate(String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "", authorities));
+    }
+}
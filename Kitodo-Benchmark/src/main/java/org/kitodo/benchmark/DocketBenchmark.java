@@ -0,0 +1,115 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.kitodo.api.docket.DocketData;
+import org.kitodo.api.docket.Property;
+import org.kitodo.docket.Docket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to print the dockets of a batch of generated processes,
+ * one docket after another or all in one document.
+ *
+ * <p>
+ * Build with {@code mvn -P benchmark package -pl Kitodo-Benchmark -am} and run
+ * with {@code java -jar Kitodo-Benchmark/target/benchmarks.jar Docket} from
+ * the project directory, where the stylesheets are found.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DocketBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int processes;
+
+    private final Docket docket = new Docket();
+    private final OutputStream pdf = new NullOutputStream();
+    private final URI docketXsl = Paths.get("Kitodo/src/main/resources/docket.xsl").toUri();
+    private final URI multipageXsl = Paths.get("Kitodo/src/main/resources/docket_multipage.xsl").toUri();
+    private List<DocketData> docketData;
+
+    /**
+     * Generates the docket data of the configured number of processes.
+     */
+    @Setup
+    public void setUp() {
+        docketData = new ArrayList<>(processes);
+        for (int i = 1; i <= processes; i++) {
+            docketData.add(createDocketData(i));
+        }
+    }
+
+    private static DocketData createDocketData(int number) {
+        DocketData docketData = new DocketData();
+        docketData.setCreationDate("01.01.2100");
+        docketData.setProcessId(Integer.toString(number));
+        docketData.setProcessName("Process_" + number);
+        docketData.setProjectName("Project");
+        docketData.setRulesetName("Ruleset");
+        docketData.setComment("A comment");
+        docketData.setTemplateProperties(Collections.singletonList(createProperty("Signatur", "AZ-" + number)));
+        docketData.setWorkpieceProperties(Collections.singletonList(createProperty("docType", "manuscript")));
+        docketData.setProcessProperties(Collections.singletonList(createProperty("digitalCollection", "Musik")));
+        return docketData;
+    }
+
+    private static Property createProperty(String title, String value) {
+        Property property = new Property();
+        property.setId(1);
+        property.setTitle(title);
+        property.setValue(value);
+        return property;
+    }
+
+    /**
+     * Prints a docket for every process.
+     */
+    @Benchmark
+    public void singleDockets() throws IOException {
+        for (DocketData process : docketData) {
+            docket.generateDocket(process, docketXsl, pdf);
+        }
+    }
+
+    /**
+     * Prints the dockets of all processes as one document.
+     */
+    @Benchmark
+    public void multipleDockets() throws IOException {
+        docket.generateMultipleDockets(docketData, multipageXsl, pdf);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmark;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterImageManagement;
+import org.kitodo.imagemanagement.ImageManagement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways to create web images: a new ImageMagick process for every
+ * call, ImageMagick calls through the pool, and scaling in memory with Java.
+ * ImageMagick must be installed. To include SSH hosts, set
+ * {@code ImageManagement.sshHosts} in the kitodo_config.properties on the
+ * class path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(4)
+@Fork(1)
+public class ImageManagementBenchmark {
+
+    @Param({"process", "pool", "java"})
+    private String execution;
+
+    private final ImageManagement imageManagement = new ImageManagement();
+    private File sourceImage;
+    private URI sourceUri;
+
+    /**
+     * Configures the image management and writes a source image of the size
+     * of a scanned page.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        KitodoConfig.getConfig().setProperty(ParameterImageManagement.EXECUTION.getName(), execution);
+        KitodoConfig.getConfig().setProperty(ParameterImageManagement.JAVA_SCALING.getName(),
+            "java".equals(execution));
+
+        BufferedImage page = new BufferedImage(2480, 3508, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = page.createGraphics();
+        try {
+            graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, 2480, 3508, Color.DARK_GRAY));
+            graphics.fillRect(0, 0, 2480, 3508);
+        } finally {
+            graphics.dispose();
+        }
+        sourceImage = File.createTempFile("benchmark-", ".jpg");
+        ImageIO.write(page, "jpeg", sourceImage);
+        sourceUri = sourceImage.toURI();
+    }
+
+    /**
+     * Deletes the source image.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(sourceImage.toPath());
+    }
+
+    /**
+     * Creates a thumbnail.
+     *
+     * @return the thumbnail
+     */
+    @Benchmark
+    public Image sizedWebImage() throws IOException {
+        return imageManagement.getSizedWebImage(sourceUri, 150);
+    }
+
+    /**
+     * Creates a web image of a quarter of the size.
+     *
+     * @return the web image
+     */
+    @Benchmark
+    public Image scaledWebImage() throws IOException {
+        return imageManagement.getScaledWebImage(sourceUri, 0.25);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.dataformat.access.MetsXmlElementAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of reading and writing METS files of workpieces
+ * with different numbers of pages.
+ *
+ * <p>
+ * Build with {@code mvn -P benchmark package -pl Kitodo-Benchmark -am} and run
+ * with {@code java -jar Kitodo-Benchmark/target/benchmarks.jar}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MetsXmlElementAccessBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int pages;
+
+    private final MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+    private Workpiece workpiece;
+    private byte[] metsFile;
+
+    /**
+     * Creates a workpiece with the configured number of pages and its METS
+     * file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        workpiece = createWorkpiece(pages);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metsXmlElementAccess.save(workpiece, out);
+        metsFile = out.toByteArray();
+    }
+
+    /**
+     * Reads a METS file.
+     *
+     * @return the read workpiece
+     */
+    @Benchmark
+    public Workpiece read() throws IOException {
+        return metsXmlElementAccess.read(new ByteArrayInputStream(metsFile));
+    }
+
+    /**
+     * Writes a METS file.
+     *
+     * @return the written METS file
+     */
+    @Benchmark
+    public byte[] save() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(metsFile.length);
+        metsXmlElementAccess.save(workpiece, out);
+        return out.toByteArray();
+    }
+
+    private static Workpiece createWorkpiece(int pages) {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("1");
+        workpiece.getRootElement().setType("monograph");
+        workpiece.getRootElement().setLabel("Benchmark");
+
+        MediaVariant local = new MediaVariant();
+        local.setUse("LOCAL");
+        local.setMimeType("image/tiff");
+        for (int i = 1; i <= pages; i++) {
+            MediaUnit mediaUnit = new MediaUnit();
+            mediaUnit.setOrder(i);
+            mediaUnit.setOrderlabel(Integer.toString(i));
+            mediaUnit.getMediaFiles().put(local, URI.create(String.format("images/benchmark_media/%08d.tif", i)));
+            workpiece.getMediaUnits().add(mediaUnit);
+
+            View view = new View();
+            view.setMediaUnit(mediaUnit);
+            workpiece.getRootElement().getViews().add(view);
+            mediaUnit.getIncludedStructuralElements().add(workpiece.getRootElement());
+        }
+        return workpiece;
+    }
+}
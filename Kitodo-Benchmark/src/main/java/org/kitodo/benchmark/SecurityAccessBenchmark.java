@@ -0,0 +1,113 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.security.SecurityAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Compares the check of a list of authorities for the current user, as done
+ * by {@code hasAnyAuthorityGlobalOrForClient}: building the authority strings
+ * and searching them in the granted authorities, as done before, and the
+ * lookup in the authorities compiled once per authentication. The user has
+ * 60 authorities in each of three clients and some global ones, and the
+ * checked authorities are not granted, so all of them have to be looked up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SecurityAccessBenchmark {
+
+    private static final int CLIENT_ID = 2;
+    private static final String AUTHORITY_TITLES = "editProcess, editTask, viewAllProcesses, viewAllTasks";
+
+    private final SecurityAccess securityAccess = new SecurityAccess() {
+        @Override
+        public int getClientId() {
+            return CLIENT_ID;
+        }
+    };
+
+    /**
+     * Authenticates a user with many authorities.
+     */
+    @Setup
+    public void setUp() {
+        List<String> authorities = new ArrayList<>();
+        for (int authority = 0; authority < 60; authority++) {
+            for (int client = 1; client <= 3; client++) {
+                authorities.add("authority" + authority + "_CLIENT_ANY");
+                authorities.add("authority" + authority + "_CLIENT_" + client);
+            }
+            if (authority % 10 == 0) {
+                authorities.add("authority" + authority + "_GLOBAL");
+            }
+        }
+        SecurityContextHolder.getContext().setAuthentication(
+            new TestingAuthenticationToken("user", "", authorities.toArray(new String[0])));
+    }
+
+    /**
+     * Checks the authorities as done before, building the authority strings
+     * and searching the granted authorities linearly.
+     *
+     * @return whether any authority is granted
+     */
+    @Benchmark
+    public boolean searchGrantedAuthorities() {
+        Collection<? extends GrantedAuthority> authorities = SecurityContextHolder.getContext().getAuthentication()
+                .getAuthorities();
+        String[] titles = AUTHORITY_TITLES.replaceAll("\\s+", "").split(",");
+        for (String title : titles) {
+            if (authorities.contains(new SimpleGrantedAuthority(title + "_GLOBAL"))) {
+                return true;
+            }
+        }
+        for (String title : titles) {
+            if (authorities.contains(new SimpleGrantedAuthority(title + "_CLIENT_" + CLIENT_ID))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks the authorities with the security access.
+     *
+     * @return whether any authority is granted
+     */
+    @Benchmark
+    public boolean lookUpCompiledAuthorities() {
+        return securityAccess.hasAnyAuthorityGlobalOrForClient(AUTHORITY_TITLES);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmark;
+
+import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.kitodo.config.ConfigMain;
+import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways to limit the task list to the projects of the user: a
+ * terms query on the ids of all processes of the projects, as built before,
+ * and a query on the project ids stored in the task documents. The setup
+ * indexes 500,000 tasks into a separate index of the ElasticSearch server
+ * configured in the kitodo_config.properties on the class path, and deletes
+ * it afterwards. The former way additionally had to load the processes, which
+ * is not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TaskQueryBenchmark {
+
+    private static final String INDEX = "kitodo_benchmark_task";
+    private static final String TYPE = "task";
+    private static final int TASKS = 500_000;
+    private static final int TASKS_PER_PROCESS = 10;
+    private static final int PROJECTS = 50;
+    private static final int CLIENT = 1;
+    private static final int ROLE = 1;
+    private static final int BULK_SIZE = 10_000;
+
+    @Param({"1", "10"})
+    private int assignedProjects;
+
+    private RestClient client;
+    private RestHighLevelClient highLevelClient;
+    private List<Integer> projectIds;
+    private List<Integer> processIds;
+
+    /**
+     * Creates the index and fills it with tasks, evenly distributed over the
+     * projects.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        client = RestClient.builder(new HttpHost(ConfigMain.getParameter("elasticsearch.host", "localhost"),
+                ConfigMain.getIntParameter("elasticsearch.port", 9200),
+                ConfigMain.getParameter("elasticsearch.protocol", "http"))).build();
+        highLevelClient = new RestHighLevelClient(client);
+
+        String mapping = "{\"settings\": {\"index\": {\"number_of_shards\": 1, \"number_of_replicas\": 0}},"
+                + " \"mappings\": {\"" + TYPE + "\": {\"properties\": {"
+                + "\"" + TaskTypeField.PROCESSING_STATUS + "\": {\"type\": \"long\"},"
+                + "\"" + TaskTypeField.CLIENT_ID + "\": {\"type\": \"long\"},"
+                + "\"" + TaskTypeField.PROJECT_ID + "\": {\"type\": \"long\"},"
+                + "\"" + TaskTypeField.TEMPLATE_TASK + "\": {\"type\": \"boolean\"},"
+                + "\"processForTask\": {\"properties\": {\"id\": {\"type\": \"long\"}}},"
+                + "\"" + TaskTypeField.ROLES + "\": {\"properties\": {\"id\": {\"type\": \"long\"}}}}}}}";
+        client.performRequest("PUT", "/" + INDEX, Collections.emptyMap(),
+            new NStringEntity(mapping, ContentType.APPLICATION_JSON));
+
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int id = 1; id <= TASKS; id++) {
+            int process = (id - 1) / TASKS_PER_PROCESS + 1;
+            Map<String, Object> task = new HashMap<>();
+            task.put(TaskTypeField.PROCESSING_STATUS.getKey(), id % 4);
+            task.put(TaskTypeField.CLIENT_ID.getKey(), CLIENT);
+            task.put(TaskTypeField.PROJECT_ID.getKey(), Collections.singletonList(process % PROJECTS + 1));
+            task.put(TaskTypeField.TEMPLATE_TASK.getKey(), false);
+            task.put(TaskTypeField.PROCESS_ID.getKey(), process);
+            task.put(TaskTypeField.ROLES + ".id", ROLE);
+            bulkRequest.add(new IndexRequest(INDEX, TYPE, String.valueOf(id)).source(task));
+            if (bulkRequest.numberOfActions() == BULK_SIZE) {
+                executeBulk(bulkRequest);
+                bulkRequest = new BulkRequest();
+            }
+        }
+        if (bulkRequest.numberOfActions() > 0) {
+            executeBulk(bulkRequest);
+        }
+        client.performRequest("POST", "/" + INDEX + "/_refresh");
+
+        projectIds = new ArrayList<>();
+        for (int project = 1; project <= assignedProjects; project++) {
+            projectIds.add(project);
+        }
+        processIds = new ArrayList<>();
+        for (int process = 1; process <= TASKS / TASKS_PER_PROCESS; process++) {
+            if (projectIds.contains(process % PROJECTS + 1)) {
+                processIds.add(process);
+            }
+        }
+    }
+
+    private void executeBulk(BulkRequest bulkRequest) throws IOException {
+        BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest);
+        if (bulkResponse.hasFailures()) {
+            throw new IOException(bulkResponse.buildFailureMessage());
+        }
+    }
+
+    /**
+     * Deletes the index.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        client.performRequest("DELETE", "/" + INDEX);
+        client.close();
+    }
+
+    /**
+     * Searches the open tasks with a terms query on the ids of the processes
+     * of the assigned projects.
+     *
+     * @return the total number of hits
+     */
+    @Benchmark
+    public long processIds() throws IOException {
+        return search(termsQuery(TaskTypeField.PROCESS_ID.getKey(), processIds));
+    }
+
+    /**
+     * Searches the open tasks with a query on the project ids and the client
+     * id stored in the task documents.
+     *
+     * @return the total number of hits
+     */
+    @Benchmark
+    public long projectIds() throws IOException {
+        BoolQueryBuilder query = new BoolQueryBuilder();
+        query.must(matchQuery(TaskTypeField.TEMPLATE_TASK.getKey(), false));
+        query.must(termsQuery(TaskTypeField.PROJECT_ID.getKey(), projectIds));
+        query.must(matchQuery(TaskTypeField.CLIENT_ID.getKey(), CLIENT));
+        return search(query);
+    }
+
+    private long search(QueryBuilder projectQuery) throws IOException {
+        BoolQueryBuilder query = new BoolQueryBuilder();
+        query.must(matchQuery(TaskTypeField.PROCESSING_STATUS.getKey(), 1));
+        query.must(projectQuery);
+        query.must(matchQuery(TaskTypeField.ROLES + ".id", ROLE));
+        SearchResponse response = highLevelClient.search(new SearchRequest(INDEX).types(TYPE)
+                .source(new SearchSourceBuilder().query(query).size(10)));
+        return response.getHits().getTotalHits();
+    }
+}
@@ -11,12 +11,18 @@
 
 package org.kitodo.command;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,11 +32,27 @@ import org.kitodo.api.command.CommandResult;
 public class Command implements CommandInterface {
 
     private static final Logger logger = LogManager.getLogger(Command.class);
-    private static final String CHARSET = "UTF-8";
     private static final String MESSAGE = "Execution of Command ";
 
     /**
-     * Method executes a script.
+     * Maximum number of lines kept from each output stream of a command. The
+     * lines beyond are only written to the log.
+     */
+    private static final int MAX_MESSAGE_LINES = 1000;
+
+    /**
+     * Threads reading the output streams of running commands. Both streams are
+     * read at the same time, so that a command doesn’t block on a full pipe.
+     */
+    private static final ExecutorService streamReaders = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "command output reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Method executes a script. If the calling thread is interrupted while the
+     * script is running, the script is terminated.
      *
      * @param id
      *            The id, to identify the command and it's results.
@@ -46,15 +68,16 @@ public class Command implements CommandInterface {
 
         try {
             process = new ProcessBuilder(callSequence).start();
-            try (InputStream inputStream = process.getInputStream();
-                    InputStream errorInputStream = process.getErrorStream()) {
-                List<String> outputMessage = inputStreamArrayToList(inputStream);
-                List<String> errorMessage = inputStreamArrayToList(errorInputStream);
+            process.getOutputStream().close();
+            Future<List<String>> outputMessage = streamReaders.submit(() -> readLines(id, process.getInputStream()));
+            Future<List<String>> errorMessage = streamReaders.submit(() -> readLines(id, process.getErrorStream()));
+            try {
                 int errCode = process.waitFor();
 
-                outputMessage.addAll(errorMessage);
+                List<String> messages = new ArrayList<>(outputMessage.get());
+                messages.addAll(errorMessage.get());
 
-                commandResult = new CommandResult(id, command, errCode == 0, outputMessage);
+                commandResult = new CommandResult(id, command, errCode == 0, messages);
                 if (!commandResult.isSuccessful()) {
                     logger.error(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
                             + " failed!: " + commandResult.getMessages());
@@ -62,12 +85,21 @@ public class Command implements CommandInterface {
                     logger.info(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
                         + " was successful!: " + commandResult.getMessages());
                 }
+            } finally {
+                if (process.isAlive()) {
+                    process.destroyForcibly();
+                }
             }
         } catch (InterruptedException e) {
             commandResult = new CommandResult(id, command, false, Collections.singletonList(e.getMessage()));
             logger.error(MESSAGE + "Thread was interrupted!");
             Thread.currentThread().interrupt();
             return commandResult;
+        } catch (ExecutionException e) {
+            commandResult = new CommandResult(id, command, false, Collections.singletonList(e.getCause().toString()));
+            logger.error(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
+                    + " failed!: " + commandResult.getMessages());
+            return commandResult;
         } catch (IOException e) {
             List<String> errorMessages = new ArrayList<>();
             errorMessages.add(e.getCause().toString());
@@ -81,21 +113,34 @@ public class Command implements CommandInterface {
     }
 
     /**
-     * The method reads an InputStream and returns it as a ArrayList.
+     * The method reads an InputStream and returns it as a ArrayList. Each line
+     * is written to the log as it is read. Only the first lines are returned,
+     * followed by a note how many lines were left out.
      *
+     * @param id
+     *            The id of the command, for the log.
      * @param inputStream
      *            The Stream to convert.
      * @return A ArrayList holding the single lines.
      */
-    private static ArrayList<String> inputStreamArrayToList(InputStream inputStream) {
-        ArrayList<String> list = new ArrayList<>();
+    private static List<String> readLines(Integer id, InputStream inputStream) throws IOException {
+        List<String> list = new ArrayList<>();
+        int omitted = 0;
 
-        try (Scanner inputLines = new Scanner(inputStream, CHARSET)) {
-            while (inputLines.hasNextLine()) {
-                String myLine = inputLines.nextLine();
-                list.add(myLine);
+        try (BufferedReader inputLines = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            for (String line = inputLines.readLine(); line != null; line = inputLines.readLine()) {
+                logger.debug("Command {}: {}", id, line);
+                if (list.size() < MAX_MESSAGE_LINES) {
+                    list.add(line);
+                } else {
+                    omitted++;
+                }
             }
         }
+        if (omitted > 0) {
+            list.add("[" + omitted + " more lines]");
+        }
         return list;
     }
 }
@@ -18,7 +18,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -43,6 +47,18 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     private static final Logger logger = LogManager.getLogger(RulesetManagement.class);
 
+    /**
+     * JAXB contexts of the classes read from files. Creating a context takes
+     * long, but it is thread-safe, so it is created once for each class.
+     */
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Unmarshallers which are currently not in use, for each class. They are
+     * not thread-safe, so each one is taken out of its pool while it is used.
+     */
+    private static final Map<Class<?>, Queue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
     /**
      * The ruleset.
      */
@@ -169,8 +185,17 @@ public class RulesetManagement implements RulesetManagementInterface {
     @SuppressWarnings("unchecked")
     private <T> T read(Class<T> objectClass, File inputFile) throws IOException {
         try {
-            Unmarshaller reader = JAXBContext.newInstance(objectClass).createUnmarshaller();
-            return (T) reader.unmarshal(inputFile);
+            Queue<Unmarshaller> pool = unmarshallers.computeIfAbsent(objectClass,
+                key -> new ConcurrentLinkedQueue<>());
+            Unmarshaller reader = pool.poll();
+            if (Objects.isNull(reader)) {
+                reader = getContext(objectClass).createUnmarshaller();
+            }
+            try {
+                return (T) reader.unmarshal(inputFile);
+            } finally {
+                pool.offer(reader);
+            }
         } catch (JAXBException e) {
             /*
              * If the parser ran on an IOException, we can throw it out
@@ -188,4 +213,25 @@ public class RulesetManagement implements RulesetManagementInterface {
             }
         }
     }
+
+    /**
+     * Returns the JAXB context for a class. It is created on first use.
+     *
+     * @param objectClass
+     *            class to read
+     * @return the JAXB context
+     * @throws JAXBException
+     *             if the context cannot be created
+     */
+    private static JAXBContext getContext(Class<?> objectClass) throws JAXBException {
+        JAXBContext context = contexts.get(objectClass);
+        if (Objects.isNull(context)) {
+            context = JAXBContext.newInstance(objectClass);
+            JAXBContext concurrent = contexts.putIfAbsent(objectClass, context);
+            if (Objects.nonNull(concurrent)) {
+                context = concurrent;
+            }
+        }
+        return context;
+    }
 }
@@ -24,7 +24,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,6 +83,20 @@ import org.kitodo.dataformat.metskitodo.StructMapType;
  * @see "https://www.zvdd.de/fileadmin/AGSDD-Redaktion/METS_Anwendungsprofil_2.0.pdf"
  */
 public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
+    /**
+     * The JAXB context for METS. Creating it takes long, but it is
+     * thread-safe, so it is created once and shared by all instances.
+     */
+    private static volatile JAXBContext metsContext;
+
+    /**
+     * Unmarshallers and marshallers created from the METS context which are
+     * currently not in use. They are not thread-safe, so each one is taken out
+     * of its pool while it is used, and put back afterwards.
+     */
+    private static final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
+    private static final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+
     /**
      * The data object of this mets XML element access.
      */
@@ -187,9 +203,16 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public Workpiece read(InputStream in) throws IOException {
         try {
-            JAXBContext jc = JAXBContext.newInstance(Mets.class);
-            Unmarshaller unmarshaller = jc.createUnmarshaller();
-            Mets mets = (Mets) unmarshaller.unmarshal(in);
+            Unmarshaller unmarshaller = unmarshallers.poll();
+            if (Objects.isNull(unmarshaller)) {
+                unmarshaller = getMetsContext().createUnmarshaller();
+            }
+            Mets mets;
+            try {
+                mets = (Mets) unmarshaller.unmarshal(in);
+            } finally {
+                unmarshallers.offer(unmarshaller);
+            }
             return new MetsXmlElementAccess(mets).workpiece;
         } catch (JAXBException e) {
             if (e.getCause() instanceof IOException) {
@@ -212,10 +235,17 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public void save(Workpiece workpiece, OutputStream out) throws IOException {
         try {
-            JAXBContext context = JAXBContext.newInstance(Mets.class);
-            Marshaller marshal = context.createMarshaller();
-            marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshal.marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
+            Mets mets = new MetsXmlElementAccess(workpiece).toMets();
+            Marshaller marshal = marshallers.poll();
+            if (Objects.isNull(marshal)) {
+                marshal = getMetsContext().createMarshaller();
+                marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            }
+            try {
+                marshal.marshal(mets, out);
+            } finally {
+                marshallers.offer(marshal);
+            }
         } catch (JAXBException e) {
             if (e.getCause() instanceof IOException) {
                 throw (IOException) e.getCause();
@@ -225,6 +255,27 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
         }
     }
 
+    /**
+     * Returns the JAXB context for METS. It is created on first use.
+     *
+     * @return the JAXB context for METS
+     * @throws JAXBException
+     *             if the context cannot be created
+     */
+    private static JAXBContext getMetsContext() throws JAXBException {
+        JAXBContext context = metsContext;
+        if (Objects.isNull(context)) {
+            synchronized (MetsXmlElementAccess.class) {
+                context = metsContext;
+                if (Objects.isNull(context)) {
+                    context = JAXBContext.newInstance(Mets.class);
+                    metsContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
     /**
      * Generates a METS XML structure from this workpiece in the form of Java
      * objects in the main memory.
@@ -0,0 +1,180 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.beans;
+
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+
+import org.kitodo.data.database.enums.IndexAction;
+
+/**
+ * Entry of the index outbox. It records that an indexed object was changed in
+ * the database and the change still has to be sent to the index.
+ */
+@Entity
+@Table(name = "index_outbox")
+public class IndexOutboxEntry extends BaseBean {
+
+    /**
+     * The field objectType holds the entity name of the changed object, for
+     * example Process.
+     */
+    @Column(name = "objectType")
+    private String objectType;
+
+    /**
+     * The field objectId holds the id of the changed object.
+     */
+    @Column(name = "objectId")
+    private Integer objectId;
+
+    /**
+     * The field indexAction holds the action which has to be performed on the
+     * index, INDEX or DELETE.
+     */
+    @Column(name = "indexAction")
+    @Enumerated(EnumType.STRING)
+    private IndexAction indexAction;
+
+    /**
+     * The field attempts holds the number of failed attempts to send the
+     * change to the index.
+     */
+    @Column(name = "attempts")
+    private int attempts;
+
+    /**
+     * The field nextAttempt holds the date before which a failed change is
+     * not sent again.
+     */
+    @Column(name = "nextAttempt")
+    private Date nextAttempt;
+
+    /**
+     * The field creationDate holds the date the change was recorded.
+     */
+    @Column(name = "creationDate")
+    private Date creationDate;
+
+    /**
+     * Get objectType.
+     *
+     * @return value of objectType
+     */
+    public String getObjectType() {
+        return objectType;
+    }
+
+    /**
+     * Set objectType.
+     *
+     * @param objectType as java.lang.String
+     */
+    public void setObjectType(String objectType) {
+        this.objectType = objectType;
+    }
+
+    /**
+     * Get objectId.
+     *
+     * @return value of objectId
+     */
+    public Integer getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Set objectId.
+     *
+     * @param objectId as java.lang.Integer
+     */
+    public void setObjectId(Integer objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * Get indexAction.
+     *
+     * @return value of indexAction
+     */
+    public IndexAction getIndexAction() {
+        return indexAction;
+    }
+
+    /**
+     * Set indexAction.
+     *
+     * @param indexAction as org.kitodo.data.database.enums.IndexAction
+     */
+    public void setIndexAction(IndexAction indexAction) {
+        this.indexAction = indexAction;
+    }
+
+    /**
+     * Get attempts.
+     *
+     * @return value of attempts
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Set attempts.
+     *
+     * @param attempts as int
+     */
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Get nextAttempt.
+     *
+     * @return value of nextAttempt
+     */
+    public Date getNextAttempt() {
+        return nextAttempt;
+    }
+
+    /**
+     * Set nextAttempt.
+     *
+     * @param nextAttempt as java.util.Date
+     */
+    public void setNextAttempt(Date nextAttempt) {
+        this.nextAttempt = nextAttempt;
+    }
+
+    /**
+     * Get creationDate.
+     *
+     * @return value of creationDate
+     */
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * Set creationDate.
+     *
+     * @param creationDate as java.util.Date
+     */
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+}
@@ -13,6 +13,7 @@ package org.kitodo.data.database.persistence;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +24,8 @@ import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.kitodo.data.database.beans.BaseBean;
+import org.kitodo.data.database.beans.IndexOutboxEntry;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 
 /**
@@ -30,8 +33,6 @@ import org.kitodo.data.database.exceptions.DAOException;
  */
 public abstract class BaseDAO<T extends BaseBean> implements Serializable {
 
-    private static final Object lockObject = new Object();
-
     /**
      * Retrieves a BaseBean identified by the given id from the database.
      *
@@ -72,6 +73,36 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     public abstract List<T> getAllNotIndexed(int offset, int size) throws DAOException;
 
+    /**
+     * Retrieves BaseBean objects with id bigger than the given one, ordered by
+     * id. In contrast to {@code getAll(offset, size)} the database doesn't need
+     * to skip already read rows, so the costs of a chunk don't grow with its
+     * position in the table. Only supported by DAOs of indexed beans.
+     *
+     * @param lastId
+     *            id of the last already retrieved object, 0 to start
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public List<T> getAllAfterId(int lastId, int size) throws DAOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves not indexed BaseBean objects with id bigger than the given one,
+     * ordered by id. Only supported by DAOs of indexed beans.
+     *
+     * @param lastId
+     *            id of the last already retrieved object, 0 to start
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public List<T> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Saves a BaseBean object to the database.
      *
@@ -109,11 +140,14 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         if (baseBean.getId() != null) {
             try (Session session = HibernateUtil.getSession()) {
                 Transaction transaction = session.beginTransaction();
-                synchronized (lockObject) {
+                try {
                     Object merged = session.merge(baseBean);
                     session.delete(merged);
                     session.flush();
                     transaction.commit();
+                } catch (HibernateException e) {
+                    rollback(transaction);
+                    throw e;
                 }
             } catch (HibernateException e) {
                 throw new DAOException(e);
@@ -121,6 +155,136 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Saves list of BaseBean objects to the database in one transaction. The
+     * statements are sent in JDBC batches, and the session is flushed and
+     * cleared after each batch, so it doesn't grow with the list.
+     *
+     * @param list
+     *            of objects to persist
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void saveList(List<T> list) throws DAOException {
+        storeList(list, false);
+    }
+
+    /**
+     * Saves list of BaseBean objects to the database and records in the index
+     * outbox that they have to be indexed, all in one transaction.
+     *
+     * @param list
+     *            of objects to persist
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void saveListWithIndexOutbox(List<T> list) throws DAOException {
+        storeList(list, true);
+    }
+
+    /**
+     * Removes list of BaseBean objects from the database in one transaction.
+     * The statements are sent in JDBC batches, and the session is flushed and
+     * cleared after each batch.
+     *
+     * @param list
+     *            of beans to delete
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void removeList(List<T> list) throws DAOException {
+        deleteList(list, false);
+    }
+
+    /**
+     * Removes list of BaseBean objects from the database and records in the
+     * index outbox that they have to be removed from the index, all in one
+     * transaction.
+     *
+     * @param list
+     *            of beans to delete
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void removeListWithIndexOutbox(List<T> list) throws DAOException {
+        deleteList(list, true);
+    }
+
+    /**
+     * Saves a BaseBean object to the database and records in the index outbox
+     * that it has to be indexed. Both happens in the same transaction, so the
+     * index can't miss a change which was committed to the database.
+     *
+     * @param baseBean
+     *            object to persist
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void saveWithIndexOutbox(T baseBean) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            if (baseBean.getId() != null) {
+                session.merge(baseBean);
+            } else {
+                session.save(baseBean);
+            }
+            session.save(createIndexOutboxEntry(baseBean, IndexAction.INDEX));
+            session.flush();
+            transaction.commit();
+        } catch (HibernateException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Removes given BaseBean object from the database and records in the
+     * index outbox that it has to be removed from the index. Both happens in
+     * the same transaction.
+     *
+     * @param baseBean
+     *            bean to delete
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void removeWithIndexOutbox(T baseBean) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            Object merged = session.merge(baseBean);
+            session.delete(merged);
+            session.save(createIndexOutboxEntry(baseBean, IndexAction.DELETE));
+            session.flush();
+            transaction.commit();
+        } catch (HibernateException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    private IndexOutboxEntry createIndexOutboxEntry(T baseBean, IndexAction indexAction) {
+        IndexOutboxEntry outboxEntry = new IndexOutboxEntry();
+        outboxEntry.setObjectType(getEntityName(baseBean));
+        outboxEntry.setObjectId(baseBean.getId());
+        outboxEntry.setIndexAction(indexAction);
+        outboxEntry.setCreationDate(new Date());
+        return outboxEntry;
+    }
+
+    /**
+     * Get entity name of given bean, which can be used in queries.
+     *
+     * @param baseBean
+     *            bean object, may be a proxy
+     * @return entity name, e.g. Process
+     */
+    static String getEntityName(BaseBean baseBean) {
+        return Hibernate.getClass(baseBean).getSimpleName();
+    }
+
     /**
      * Refresh given bean object.
      *
@@ -250,11 +414,14 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
     static void removeObject(Class cls, Integer id) throws DAOException {
         try (Session session = HibernateUtil.getSession()) {
             Transaction transaction = session.beginTransaction();
-            synchronized (lockObject) {
+            try {
                 Object object = session.load(cls, id);
                 session.delete(object);
                 session.flush();
                 transaction.commit();
+            } catch (HibernateException e) {
+                rollback(transaction);
+                throw e;
             }
         } catch (HibernateException e) {
             throw new DAOException(e);
@@ -318,6 +485,30 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieve objects by given query for maximum number of objects, starting
+     * after given id. Query has to contain parameter {@code lastId}.
+     *
+     * @param query
+     *            string
+     * @param lastId
+     *            id of the last already retrieved object
+     * @param max
+     *            amount of results
+     * @return constrained list of results
+     */
+    @SuppressWarnings("unchecked")
+    List<T> retrieveObjectsAfterId(String query, int lastId, int max) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Query q = session.createQuery(query);
+            q.setParameter("lastId", lastId);
+            q.setMaxResults(max);
+            return q.list();
+        } catch (HibernateException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Retrieve all objects fro given class.
      *
@@ -357,24 +548,86 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
     }
 
     /**
-     * Store given list of objects.
+     * Store given list of objects, optionally recording them in the index
+     * outbox.
      *
      * @param list
      *            of objects
+     * @param recordInIndexOutbox
+     *            if true, an outbox entry is saved for each stored object
      */
-    void storeList(List<T> list) throws DAOException {
+    void storeList(List<T> list, boolean recordInIndexOutbox) throws DAOException {
         try (Session session = HibernateUtil.getSession()) {
             Transaction transaction = session.beginTransaction();
-            for (Object obj : list) {
-                session.saveOrUpdate(obj);
+            try {
+                int batchSize = HibernateUtil.getJdbcBatchSize();
+                int count = 0;
+                for (T baseBean : list) {
+                    session.saveOrUpdate(baseBean);
+                    if (recordInIndexOutbox) {
+                        session.save(createIndexOutboxEntry(baseBean, IndexAction.INDEX));
+                    }
+                    if (++count % batchSize == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                session.flush();
+                transaction.commit();
+            } catch (RuntimeException e) {
+                rollback(transaction);
+                throw e;
             }
-            session.flush();
-            transaction.commit();
         } catch (RuntimeException e) {
             throw new DAOException(e);
         }
     }
 
+    /**
+     * Delete given list of objects, optionally recording them in the index
+     * outbox.
+     *
+     * @param list
+     *            of objects
+     * @param recordInIndexOutbox
+     *            if true, an outbox entry is saved for each deleted object
+     */
+    private void deleteList(List<T> list, boolean recordInIndexOutbox) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                int batchSize = HibernateUtil.getJdbcBatchSize();
+                int count = 0;
+                for (T baseBean : list) {
+                    if (Objects.isNull(baseBean.getId())) {
+                        continue;
+                    }
+                    session.delete(session.merge(baseBean));
+                    if (recordInIndexOutbox) {
+                        session.save(createIndexOutboxEntry(baseBean, IndexAction.DELETE));
+                    }
+                    if (++count % batchSize == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                session.flush();
+                transaction.commit();
+            } catch (RuntimeException e) {
+                rollback(transaction);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    private static void rollback(Transaction transaction) {
+        if (transaction.isActive()) {
+            transaction.rollback();
+        }
+    }
+
     /**
      * Evict object associated with the session.
      *
@@ -49,6 +49,18 @@ public class BatchDAO extends BaseDAO<Batch> {
             size);
     }
 
+    @Override
+    public List<Batch> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Batch WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Batch> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Batch WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Batch.class, id);
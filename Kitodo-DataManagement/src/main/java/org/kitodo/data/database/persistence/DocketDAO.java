@@ -43,6 +43,18 @@ public class DocketDAO extends BaseDAO<Docket> {
                 size);
     }
 
+    @Override
+    public List<Docket> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Docket WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Docket> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Docket WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Docket.class, id);
@@ -46,6 +46,18 @@ public class FilterDAO extends BaseDAO<Filter> {
                 size);
     }
 
+    @Override
+    public List<Filter> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Filter WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Filter> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Filter WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Filter.class, id);
@@ -20,6 +20,7 @@ import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 
 /**
  * Current version of HibernateUtil.
@@ -28,6 +29,7 @@ public class HibernateUtil {
     private static StandardServiceRegistry registry;
     private static SessionFactory sessionFactory;
     private static final ThreadLocal<Session> threadSession = new ThreadLocal<>();
+    private static final int DEFAULT_BATCH_SIZE = 50;
 
     /**
      * Private constructor to hide the implicit public one.
@@ -59,6 +61,23 @@ public class HibernateUtil {
         return session;
     }
 
+    /**
+     * Get number of statements which are sent to the database in one JDBC
+     * batch, as configured by hibernate.jdbc.batch_size.
+     *
+     * @return JDBC batch size, at least 1
+     */
+    static int getJdbcBatchSize() {
+        SessionFactory sessionFactory = getSessionFactory();
+        if (sessionFactory instanceof SessionFactoryImplementor) {
+            int batchSize = ((SessionFactoryImplementor) sessionFactory).getSessionFactoryOptions().getJdbcBatchSize();
+            if (batchSize > 0) {
+                return batchSize;
+            }
+        }
+        return DEFAULT_BATCH_SIZE;
+    }
+
     /**
      * Retrieve current SessionFactory.
      *
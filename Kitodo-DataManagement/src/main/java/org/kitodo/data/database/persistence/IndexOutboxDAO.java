@@ -0,0 +1,169 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.kitodo.data.database.beans.BaseBean;
+import org.kitodo.data.database.beans.IndexOutboxEntry;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class IndexOutboxDAO extends BaseDAO<IndexOutboxEntry> {
+
+    @Override
+    public IndexOutboxEntry getById(Integer id) throws DAOException {
+        IndexOutboxEntry outboxEntry = retrieveObject(IndexOutboxEntry.class, id);
+        if (Objects.isNull(outboxEntry)) {
+            throw new DAOException("Object cannot be found in database");
+        }
+        return outboxEntry;
+    }
+
+    @Override
+    public List<IndexOutboxEntry> getAll() throws DAOException {
+        return retrieveAllObjects(IndexOutboxEntry.class);
+    }
+
+    @Override
+    public List<IndexOutboxEntry> getAll(int offset, int size) throws DAOException {
+        return retrieveObjects("FROM IndexOutboxEntry ORDER BY id ASC", offset, size);
+    }
+
+    /**
+     * Get entries which are due to be sent to the index, in the order of
+     * recording. Entries which failed too often, or whose next attempt is not
+     * yet due, are left out.
+     *
+     * @param maxAttempts
+     *            number of failed attempts after which an entry is no longer
+     *            sent
+     * @param size
+     *            maximal number of entries
+     * @return due outbox entries
+     */
+    public List<IndexOutboxEntry> getDue(int maxAttempts, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("maxAttempts", maxAttempts);
+        parameters.put("now", new Date());
+        return getByQuery("FROM IndexOutboxEntry WHERE attempts < :maxAttempts AND (nextAttempt IS NULL"
+                + " OR nextAttempt <= :now) ORDER BY id ASC", parameters, 0, size);
+    }
+
+    @Override
+    public List<IndexOutboxEntry> getAllNotIndexed(int offset, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(Integer id) throws DAOException {
+        removeObject(IndexOutboxEntry.class, id);
+    }
+
+    /**
+     * Check if there are changes of given object waiting in the outbox.
+     * Changes which failed too often are not waiting any more.
+     *
+     * @param baseBean
+     *            changed object
+     * @param maxAttempts
+     *            number of failed attempts after which an entry is no longer
+     *            sent
+     * @return true if a change of the object was not yet sent to the index
+     */
+    public boolean isPending(BaseBean baseBean, int maxAttempts) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("objectType", getEntityName(baseBean));
+        parameters.put("objectId", baseBean.getId());
+        parameters.put("maxAttempts", maxAttempts);
+        return count("SELECT COUNT(*) FROM IndexOutboxEntry WHERE objectType = :objectType AND objectId = :objectId"
+                + " AND attempts < :maxAttempts", parameters) > 0;
+    }
+
+    /**
+     * Remove entries which were successfully sent to the index from the outbox
+     * and set index action of the indexed objects to DONE, unless a newer
+     * change of an object was recorded meanwhile. Older entries of
+     * the sent objects, which are waiting for a retry, are removed as well, as
+     * the current state of the objects was sent. All happens in one
+     * transaction.
+     *
+     * @param objectType
+     *            entity name of the indexed objects
+     * @param entryIds
+     *            ids of the processed outbox entries
+     * @param sentObjectIds
+     *            ids of the objects which were sent to the index
+     * @param indexedObjectIds
+     *            ids of the objects which were added to the index
+     */
+    public void complete(String objectType, List<Integer> entryIds, List<Integer> sentObjectIds,
+            List<Integer> indexedObjectIds) throws DAOException {
+        if (entryIds.isEmpty()) {
+            return;
+        }
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createQuery("DELETE FROM IndexOutboxEntry WHERE id IN (:ids)").setParameterList("ids", entryIds)
+                    .executeUpdate();
+            if (!sentObjectIds.isEmpty()) {
+                session.createQuery("DELETE FROM IndexOutboxEntry WHERE objectType = :objectType"
+                        + " AND objectId IN (:objectIds) AND id < :lastId")
+                        .setParameter("objectType", objectType).setParameterList("objectIds", sentObjectIds)
+                        .setParameter("lastId", Collections.max(entryIds)).executeUpdate();
+            }
+            if (!indexedObjectIds.isEmpty()) {
+                session.createQuery("UPDATE " + objectType + " indexed SET indexed.indexAction = :done"
+                        + " WHERE indexed.id IN (:ids) AND NOT EXISTS (SELECT entry.id FROM IndexOutboxEntry entry"
+                        + " WHERE entry.objectType = :objectType AND entry.objectId = indexed.id)")
+                        .setParameter("done", IndexAction.DONE).setParameterList("ids", indexedObjectIds)
+                        .setParameter("objectType", objectType).executeUpdate();
+            }
+            transaction.commit();
+        } catch (HibernateException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Increase the number of attempts of entries which couldn't be sent to the
+     * index. They stay in the outbox and will be retried not before the given
+     * date.
+     *
+     * @param entryIds
+     *            ids of the failed outbox entries
+     * @param nextAttempt
+     *            date of the next attempt, null to retry in the next run
+     */
+    public void fail(List<Integer> entryIds, Date nextAttempt) throws DAOException {
+        if (entryIds.isEmpty()) {
+            return;
+        }
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createQuery("UPDATE IndexOutboxEntry SET attempts = attempts + 1, nextAttempt = :nextAttempt"
+                    + " WHERE id IN (:ids)").setParameter("nextAttempt", nextAttempt)
+                    .setParameterList("ids", entryIds).executeUpdate();
+            transaction.commit();
+        } catch (HibernateException e) {
+            throw new DAOException(e);
+        }
+    }
+}
@@ -43,6 +43,18 @@ public class ProcessDAO extends BaseDAO<Process> {
             offset, size);
     }
 
+    @Override
+    public List<Process> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Process WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Process> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Process WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC", lastId,
+            size);
+    }
+
     /**
      * Save process with regard to its progress.
      *
@@ -59,19 +71,6 @@ public class ProcessDAO extends BaseDAO<Process> {
         save(process);
     }
 
-    /**
-     * Save list of processes.
-     *
-     * @param list
-     *            of processes
-     * @throws DAOException
-     *             an exception that can be thrown from the underlying saveList()
-     *             procedure failure.
-     */
-    public void saveList(List<Process> list) throws DAOException {
-        storeList(list);
-    }
-
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Process.class, id);
@@ -43,6 +43,18 @@ public class ProjectDAO extends BaseDAO<Project> {
             offset, size);
     }
 
+    @Override
+    public List<Project> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Project WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Project> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Project WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Project.class, id);
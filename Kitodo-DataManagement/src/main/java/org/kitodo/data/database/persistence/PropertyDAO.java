@@ -43,6 +43,18 @@ public class PropertyDAO extends BaseDAO<Property> {
             offset, size);
     }
 
+    @Override
+    public List<Property> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Property WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Property> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Property WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Property.class, id);
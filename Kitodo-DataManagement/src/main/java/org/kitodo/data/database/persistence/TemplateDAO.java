@@ -45,17 +45,16 @@ public class TemplateDAO extends BaseDAO<Template> {
             offset, size);
     }
 
-    /**
-     * Save list of templates.
-     *
-     * @param list
-     *            of templates
-     * @throws DAOException
-     *             an exception that can be thrown from the underlying saveList()
-     *             procedure failure.
-     */
-    public void saveList(List<Template> list) throws DAOException {
-        storeList(list);
+    @Override
+    public List<Template> getAllAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Template WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Template> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Template WHERE id > :lastId AND (indexAction = 'INDEX' OR indexAction IS NULL) ORDER BY id ASC", lastId,
+            size);
     }
 
     @Override
@@ -12,15 +12,19 @@
 package org.kitodo.data.elasticsearch.index;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.ws.rs.HttpMethod;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
@@ -141,6 +145,50 @@ public class IndexRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Add and delete documents of one type in one bulk request. Failures of
+     * single items don't fail the whole request, instead the ids of the failed
+     * documents are returned, so the caller can retry them later.
+     *
+     * @param type
+     *            for which request is performed
+     * @param documentsToIndex
+     *            map of ids and documents which will be added to the index
+     * @param idsToDelete
+     *            ids of documents which will be removed from the index
+     * @param waitForRefresh
+     *            if true, request returns after changes are visible for search
+     * @return ids of documents which couldn't be added or deleted
+     */
+    Set<Integer> performBulkRequest(String type, Map<Integer, Map<String, Object>> documentsToIndex,
+            Collection<Integer> idsToDelete, boolean waitForRefresh) throws CustomResponseException {
+        BulkRequest bulkRequest = prepareBulkRequest(type, documentsToIndex);
+        for (Integer id : idsToDelete) {
+            bulkRequest.add(new DeleteRequest(this.index, type, String.valueOf(id)));
+        }
+        if (bulkRequest.numberOfActions() == 0) {
+            return Collections.emptySet();
+        }
+        if (waitForRefresh) {
+            bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+        }
+
+        Set<Integer> failedIds = new HashSet<>();
+        try {
+            BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest);
+            if (bulkResponse.hasFailures()) {
+                for (BulkItemResponse itemResponse : bulkResponse.getItems()) {
+                    if (itemResponse.isFailed()) {
+                        failedIds.add(Integer.valueOf(itemResponse.getId()));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new CustomResponseException(e);
+        }
+        return failedIds;
+    }
+
     /**
      * Delete document from the index.
      *
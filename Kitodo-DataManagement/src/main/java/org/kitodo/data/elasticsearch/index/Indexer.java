@@ -12,8 +12,10 @@
 package org.kitodo.data.elasticsearch.index;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.ws.rs.HttpMethod;
 
@@ -121,6 +123,37 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
         }
     }
 
+    /**
+     * Add already created documents to the index in one bulk request. It allows
+     * to build the documents and to send them to the index in separate threads.
+     *
+     * @param documents
+     *            map of ids and documents which will be added to index
+     */
+    public void performMultipleRequests(Map<Integer, Map<String, Object>> documents) throws CustomResponseException {
+        IndexRestClient restClient = initiateRestClient();
+        if (!documents.isEmpty()) {
+            restClient.addTypeSync(this.type, documents);
+        }
+    }
+
+    /**
+     * Add and delete already created documents in one bulk request, which
+     * returns after the changes are visible for search. Items which fail are
+     * reported back instead of failing the whole request.
+     *
+     * @param documents
+     *            map of ids and documents which will be added to index
+     * @param idsToDelete
+     *            ids of documents which will be removed from index
+     * @return ids of documents which couldn't be added or deleted
+     */
+    public Set<Integer> performBulkRequest(Map<Integer, Map<String, Object>> documents,
+            Collection<Integer> idsToDelete) throws CustomResponseException {
+        IndexRestClient restClient = initiateRestClient();
+        return restClient.performBulkRequest(this.type, documents, idsToDelete, true);
+    }
+
     private IndexRestClient initiateRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndex(index);
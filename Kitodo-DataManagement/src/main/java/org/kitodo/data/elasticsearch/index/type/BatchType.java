@@ -26,7 +26,6 @@ public class BatchType extends BaseType<Batch> {
     Map<String, Object> getJsonObject(Batch batch) {
         Map<String, Object> jsonObject = new HashMap<>();
         jsonObject.put(BatchTypeField.TITLE.getKey(), preventNull(batch.getTitle()));
-        jsonObject.put(BatchTypeField.PROCESSES.getKey(), addObjectRelation(batch.getProcesses(), true));
         return jsonObject;
     }
 }
@@ -48,7 +48,6 @@ public class ProjectType extends BaseType<Project> {
         jsonObject.put(ProjectTypeField.FILE_FORMAT_INTERNAL.getKey(), project.getFileFormatInternal());
         jsonObject.put(ProjectTypeField.METS_RIGTS_OWNER.getKey(), project.getMetsRightsOwner());
         jsonObject.put(ProjectTypeField.ACTIVE.getKey(), project.isActive());
-        jsonObject.put(ProjectTypeField.PROCESSES.getKey(), addObjectRelation(project.getProcesses(), true));
         jsonObject.put(ProjectTypeField.TEMPLATES.getKey(), addObjectRelation(project.getTemplates(), true));
         jsonObject.put(ProjectTypeField.USERS.getKey(), addObjectRelation(project.getUsers(), true));
         jsonObject.put(ProjectTypeField.CLIENT_ID.getKey(), getId(project.getClient()));
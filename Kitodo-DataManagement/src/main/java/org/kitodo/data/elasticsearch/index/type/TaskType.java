@@ -65,6 +65,7 @@ public class TaskType extends BaseType<Task> {
         jsonObject.put(TaskTypeField.PROJECT_ID.getKey(), getProjectIds(task));
         jsonObject.put(TaskTypeField.TEMPLATE_ID.getKey(), getId(task.getTemplate()));
         jsonObject.put(TaskTypeField.TEMPLATE_TITLE.getKey(), getTitle(task.getTemplate()));
+        jsonObject.put(TaskTypeField.TEMPLATE_TASK.getKey(), Objects.isNull(task.getProcess()));
         jsonObject.put(TaskTypeField.ROLES.getKey(), addObjectRelation(task.getRoles()));
         return jsonObject;
     }
@@ -14,8 +14,7 @@ package org.kitodo.data.elasticsearch.index.type.enums;
 public enum BatchTypeField implements TypeInterface {
 
     ID("id"),
-    TITLE("title"),
-    PROCESSES("processes");
+    TITLE("title");
 
     private String name;
 
@@ -23,7 +23,6 @@ public enum ProjectTypeField implements TypeInterface {
     FILE_FORMAT_INTERNAL("fileFormatInternal"),
     METS_RIGTS_OWNER("metsRightsOwner"),
     ACTIVE("active"),
-    PROCESSES("processes"),
     TEMPLATES("templates"),
     USERS("users"),
     CLIENT_ID("client.id"),
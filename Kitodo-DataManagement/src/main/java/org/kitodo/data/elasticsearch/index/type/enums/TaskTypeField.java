@@ -38,6 +38,7 @@ public enum TaskTypeField implements TypeInterface {
     PROJECT_ID("projectForTask"),
     TEMPLATE_ID("templateForTask.id"),
     TEMPLATE_TITLE("templateForTask.title"),
+    TEMPLATE_TASK("templateTask"),
     ROLES("roles");
 
     private String name;
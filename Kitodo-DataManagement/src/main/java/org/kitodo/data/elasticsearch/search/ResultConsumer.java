@@ -0,0 +1,35 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.search;
+
+import org.kitodo.data.exceptions.DataException;
+
+/**
+ * Receives the results of a search one after another, while scrolling
+ * through them.
+ *
+ * @param <T>
+ *            type of the results
+ */
+@FunctionalInterface
+public interface ResultConsumer<T> {
+
+    /**
+     * Processes a result.
+     *
+     * @param result
+     *            next result of the search
+     * @throws DataException
+     *             if the result cannot be processed, which stops scrolling
+     */
+    void accept(T result) throws DataException;
+}
@@ -23,18 +23,24 @@ import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
 import org.apache.http.util.EntityUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.Aggregations;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -44,6 +50,14 @@ import org.kitodo.data.exceptions.DataException;
  */
 public class SearchRestClient extends KitodoRestClient {
 
+    private static final Logger logger = LogManager.getLogger(SearchRestClient.class);
+
+    /**
+     * Time for which ElasticSearch keeps the state of a scroll between two
+     * requests.
+     */
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
     /**
      * SearchRestClient singleton.
      */
@@ -192,6 +206,89 @@ public class SearchRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Start to scroll through the documents responding to given query. The
+     * documents are returned page by page, so that any number of them can be
+     * read. If no sort is given, the documents are returned in index order,
+     * which is the cheapest.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find documents
+     * @param sort
+     *            sort conditions, may be null
+     * @param fields
+     *            fields of the source to return, all if null, none if empty
+     * @param pageSize
+     *            number of documents per page
+     * @return first page of documents, null if the index doesn't exist
+     */
+    SearchResponse startScroll(String type, QueryBuilder query, SortBuilder sort, String[] fields, int pageSize)
+            throws CustomResponseException, DataException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(query);
+        sourceBuilder.sort(Objects.nonNull(sort) ? sort : SortBuilders.fieldSort("_doc"));
+        sourceBuilder.size(pageSize);
+        if (Objects.nonNull(fields)) {
+            if (fields.length == 0) {
+                sourceBuilder.fetchSource(false);
+            } else {
+                sourceBuilder.fetchSource(fields, null);
+            }
+        }
+
+        SearchRequest searchRequest = new SearchRequest(this.index);
+        searchRequest.types(type);
+        searchRequest.source(sourceBuilder);
+        searchRequest.scroll(SCROLL_KEEP_ALIVE);
+
+        try {
+            return highLevelClient.search(searchRequest);
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return null;
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Get the next page of documents of a scroll.
+     *
+     * @param scrollId
+     *            id of the scroll, as returned with the previous page
+     * @return next page of documents, empty at the end
+     */
+    SearchResponse continueScroll(String scrollId) throws CustomResponseException, DataException {
+        SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
+        scrollRequest.scroll(SCROLL_KEEP_ALIVE);
+        try {
+            return highLevelClient.searchScroll(scrollRequest);
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return null;
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Release the state of a scroll in ElasticSearch, before it expires.
+     *
+     * @param scrollId
+     *            id of the scroll
+     */
+    void clearScroll(String scrollId) {
+        ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+        clearScrollRequest.addScrollId(scrollId);
+        try {
+            highLevelClient.clearScroll(clearScrollRequest);
+        } catch (IOException e) {
+            logger.warn("Scroll could not be cleared, it expires after {}: {}", SCROLL_KEEP_ALIVE, e.getMessage());
+        }
+    }
+
     private String performRequest(String type, HttpEntity entity, String httpMethod, String urlRequest)
             throws CustomResponseException, DataException {
         String output = "";
@@ -14,6 +14,7 @@ package org.kitodo.data.elasticsearch.search;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +23,7 @@ import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 
+import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.SearchHit;
@@ -39,6 +41,11 @@ import org.kitodo.data.exceptions.DataException;
  */
 public class Searcher extends Index {
 
+    /**
+     * Number of documents fetched with one request while scrolling.
+     */
+    private static final int SCROLL_PAGE_SIZE = 1000;
+
     /**
      * Constructor for searcher with type names equal to table names.
      *
@@ -210,6 +217,47 @@ public class Searcher extends Index {
         return searchResults;
     }
 
+    /**
+     * Go through all documents responding to given query, page by page. Unlike
+     * {@link #findDocuments(QueryBuilder)}, the number of documents is not
+     * limited, and only one page is kept in memory at a time.
+     *
+     * @param query
+     *            of searched documents
+     * @param sort
+     *            sort conditions, if null, documents come in index order
+     * @param fields
+     *            fields to return, all if null, only the id if empty
+     * @param consumer
+     *            receives the documents page by page
+     */
+    public void scrollDocuments(QueryBuilder query, SortBuilder sort, String[] fields,
+            ResultConsumer<List<Map<String, Object>>> consumer) throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        SearchResponse response = restClient.startScroll(this.type, query, sort, fields, SCROLL_PAGE_SIZE);
+        String scrollId = null;
+        try {
+            while (Objects.nonNull(response) && response.getHits().getHits().length > 0) {
+                scrollId = response.getScrollId();
+                List<Map<String, Object>> page = new ArrayList<>(response.getHits().getHits().length);
+                for (SearchHit hit : response.getHits().getHits()) {
+                    Map<String, Object> result = hit.hasSource() ? hit.getSourceAsMap() : new HashMap<>();
+                    result.put("id", hit.getId());
+                    page.add(result);
+                }
+                consumer.accept(page);
+                response = restClient.continueScroll(scrollId);
+            }
+            if (Objects.nonNull(response)) {
+                scrollId = response.getScrollId();
+            }
+        } finally {
+            if (Objects.nonNull(scrollId)) {
+                restClient.clearScroll(scrollId);
+            }
+        }
+    }
+
     private SearchRestClient initiateRestClient() {
         SearchRestClient restClient = SearchRestClient.getInstance();
         restClient.setIndex(index);
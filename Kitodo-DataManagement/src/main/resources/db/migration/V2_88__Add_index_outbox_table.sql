@@ -0,0 +1,32 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Create table index_outbox
+--
+-- Changes of indexed objects are recorded here in the same transaction as
+-- the change itself and are sent to the index later by a background writer.
+-- Entries which couldn't be sent are retried not before nextAttempt.
+
+CREATE TABLE index_outbox
+(
+  id           int(11)     NOT NULL AUTO_INCREMENT,
+  objectType   varchar(50) NOT NULL,
+  objectId     int(11)     NOT NULL,
+  indexAction  varchar(6)  NOT NULL,
+  attempts     int(11)     NOT NULL DEFAULT 0,
+  nextAttempt  datetime    DEFAULT NULL,
+  creationDate datetime    DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY index_outbox_object (objectType, objectId),
+  KEY index_outbox_attempts (attempts, nextAttempt)
+) DEFAULT CHARACTER SET = utf8mb4
+  COLLATE utf8mb4_unicode_ci;
@@ -0,0 +1,101 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.kitodo.data.database.beans.Batch;
+import org.kitodo.data.database.beans.IndexOutboxEntry;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class IndexOutboxDaoIT {
+
+    @Test
+    public void runPersistenceSuitTest() throws DAOException {
+        BatchDAO batchDAO = new BatchDAO();
+        IndexOutboxDAO indexOutboxDAO = new IndexOutboxDAO();
+
+        Batch batch = new Batch();
+        batch.setTitle("outbox_batch");
+        batch.setIndexAction(IndexAction.INDEX);
+        batchDAO.saveWithIndexOutbox(batch);
+        batch.setTitle("outbox_batch_changed");
+        batchDAO.saveWithIndexOutbox(batch);
+
+        List<IndexOutboxEntry> entries = indexOutboxDAO.getAll();
+        assertEquals("Outbox entries were not saved!", 2, entries.size());
+        assertEquals("Wrong object type recorded!", "Batch", entries.get(0).getObjectType());
+        assertEquals("Wrong object id recorded!", batch.getId(), entries.get(0).getObjectId());
+        assertEquals("Wrong index action recorded!", IndexAction.INDEX, entries.get(0).getIndexAction());
+        assertTrue("Changes should be pending!", indexOutboxDAO.isPending(batch, 10));
+
+        indexOutboxDAO.fail(Collections.singletonList(entries.get(1).getId()), null);
+        assertEquals("Attempts were not increased!", 1, indexOutboxDAO.getById(entries.get(1).getId()).getAttempts());
+
+        indexOutboxDAO.complete("Batch", Collections.singletonList(entries.get(0).getId()), Collections.emptyList(),
+            Collections.singletonList(batch.getId()));
+        assertEquals("Outbox entry was not removed!", 1, indexOutboxDAO.getAll().size());
+        assertEquals("Index action was updated despite a newer change!", IndexAction.INDEX,
+            batchDAO.getById(batch.getId()).getIndexAction());
+
+        indexOutboxDAO.complete("Batch", Collections.singletonList(entries.get(1).getId()), Collections.emptyList(),
+            Collections.singletonList(batch.getId()));
+        assertFalse("Changes should not be pending!", indexOutboxDAO.isPending(batch, 10));
+        assertEquals("Index action was not updated!", IndexAction.DONE, batchDAO.getById(batch.getId()).getIndexAction());
+
+        batchDAO.removeWithIndexOutbox(batchDAO.getById(batch.getId()));
+        entries = indexOutboxDAO.getAll();
+        assertEquals("Outbox entry for removal was not saved!", 1, entries.size());
+        assertEquals("Wrong index action recorded!", IndexAction.DELETE, entries.get(0).getIndexAction());
+        assertTrue("Object was not removed!",
+            batchDAO.getAll().stream().noneMatch(removed -> removed.getId().equals(batch.getId())));
+
+        indexOutboxDAO.remove(entries.get(0).getId());
+    }
+
+    @Test
+    public void shouldRemoveListWithIndexOutbox() throws DAOException {
+        BatchDAO batchDAO = new BatchDAO();
+        IndexOutboxDAO indexOutboxDAO = new IndexOutboxDAO();
+
+        List<Batch> batches = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Batch batch = new Batch();
+            batch.setTitle("outbox_list_batch_" + i);
+            batches.add(batch);
+        }
+        batchDAO.saveList(batches);
+        for (Batch batch : batches) {
+            assertEquals("Object was not saved!", batch.getTitle(), batchDAO.getById(batch.getId()).getTitle());
+        }
+
+        batchDAO.removeListWithIndexOutbox(batches);
+        List<IndexOutboxEntry> entries = indexOutboxDAO.getAll();
+        assertEquals("Outbox entries for removal were not saved!", 3, entries.size());
+        for (IndexOutboxEntry entry : entries) {
+            assertEquals("Wrong index action recorded!", IndexAction.DELETE, entry.getIndexAction());
+            indexOutboxDAO.remove(entry.getId());
+        }
+        for (Batch batch : batches) {
+            assertTrue("Object was not removed!",
+                batchDAO.getAll().stream().noneMatch(removed -> removed.getId().equals(batch.getId())));
+        }
+    }
+}
@@ -39,6 +39,10 @@ public class RulesetDaoIT {
 
         assertEquals("Objects were not saved or not found!", 3, rulesetDAO.getAll().size());
         assertEquals("Objects were not saved or not found!", 2, rulesetDAO.getAll(1,2).size());
+        assertEquals("Objects were not saved or not found!", 2, rulesetDAO.getAllAfterId(1, 5).size());
+        assertEquals("Objects were not saved or not found!", 1, rulesetDAO.getAllAfterId(0, 1).size());
+        assertEquals("Not indexed objects were not found!", 2, rulesetDAO.getAllNotIndexedAfterId(0, 5).size());
+        assertEquals("Not indexed objects were not found!", 1, rulesetDAO.getAllNotIndexedAfterId(2, 5).size());
         assertEquals("Object was not saved or not found!", "first_ruleset", rulesetDAO.getById(1).getTitle());
 
         rulesetDAO.remove(1);
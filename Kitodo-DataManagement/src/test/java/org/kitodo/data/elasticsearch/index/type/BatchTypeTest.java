@@ -21,7 +21,6 @@ import org.junit.Test;
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.elasticsearch.index.type.enums.BatchTypeField;
-import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 
 /**
  * Test class for BatchType.
@@ -70,19 +69,6 @@ public class BatchTypeTest {
         Map<String, Object> actual = batchType.createDocument(batch);
 
         assertEquals("Key title doesn't match to given value!", "Batch1", BatchTypeField.TITLE.getStringValue(actual));
-
-        List<Map<String, Object>> processes = BatchTypeField.PROCESSES.getJsonArray(actual);
-        assertEquals("Size processes doesn't match to given value!", 2, processes.size());
-
-        Map<String, Object> process = processes.get(0);
-        assertEquals("Key processes.id doesn't match to given value!", 1, ProcessTypeField.ID.getIntValue(process));
-        assertEquals("Key processes.title doesn't match to given value!", "First",
-            ProcessTypeField.TITLE.getStringValue(process));
-
-        process = processes.get(1);
-        assertEquals("Key processes.id doesn't match to given value!", 2, ProcessTypeField.ID.getIntValue(process));
-        assertEquals("Key processes.title doesn't match to given value!", "Second",
-            ProcessTypeField.TITLE.getStringValue(process));
     }
 
     @Test
@@ -93,9 +79,6 @@ public class BatchTypeTest {
         Map<String, Object> actual = batchType.createDocument(batch);
 
         assertEquals("Key title doesn't match to given value!", "Batch2", BatchTypeField.TITLE.getStringValue(actual));
-
-        List<Map<String, Object>> processes = BatchTypeField.PROCESSES.getJsonArray(actual);
-        assertEquals("Size processes doesn't match to given value!", 0, processes.size());
     }
 
     @Test
@@ -105,11 +88,7 @@ public class BatchTypeTest {
         Batch batch = prepareData().get(0);
         Map<String, Object> actual = batchType.createDocument(batch);
 
-        assertEquals("Amount of keys is incorrect!", 2, actual.keySet().size());
-
-        List<Map<String, Object>> processes = BatchTypeField.PROCESSES.getJsonArray(actual);
-        Map<String, Object> process = processes.get(0);
-        assertEquals("Amount of keys in processes is incorrect!", 2, process.keySet().size());
+        assertEquals("Amount of keys is incorrect!", 1, actual.keySet().size());
     }
 
     @Test
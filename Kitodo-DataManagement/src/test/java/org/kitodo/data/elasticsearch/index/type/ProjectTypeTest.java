@@ -29,7 +29,6 @@ import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Template;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.enums.LinkingMode;
-import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.ProjectTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.TemplateTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.UserTypeField;
@@ -200,14 +199,6 @@ public class ProjectTypeTest {
         assertEquals("Key client.clientName doesn't match to given value!", "TestClient",
             ProjectTypeField.CLIENT_NAME.getStringValue(actual));
 
-        List<Map<String, Object>> processes = ProjectTypeField.PROCESSES.getJsonArray(actual);
-        assertEquals("Size processes doesn't match to given value!", 1, processes.size());
-
-        Map<String, Object> process = processes.get(0);
-        assertEquals("Key processes.id doesn't match to given value!", 2, ProcessTypeField.ID.getIntValue(process));
-        assertEquals("Key processes.title doesn't match to given value!", "Second",
-            ProcessTypeField.TITLE.getStringValue(process));
-
         List<Map<String, Object>> templates = ProjectTypeField.TEMPLATES.getJsonArray(actual);
         assertEquals("Size templates doesn't match to given value!", 1, templates.size());
 
@@ -323,14 +314,6 @@ public class ProjectTypeTest {
         assertEquals("Key client.clientName doesn't match to given value!", "",
             ProjectTypeField.CLIENT_NAME.getStringValue(actual));
 
-        List<Map<String, Object>> processes = ProjectTypeField.PROCESSES.getJsonArray(actual);
-        assertEquals("Size processes doesn't match to given value!", 1, processes.size());
-
-        Map<String, Object> process = processes.get(0);
-        assertEquals("Key processes.id doesn't match to given value!", 2, ProcessTypeField.ID.getIntValue(process));
-        assertEquals("Key processes.title doesn't match to given value!", "Second",
-            ProcessTypeField.TITLE.getStringValue(process));
-
         List<Map<String, Object>> templates = ProjectTypeField.TEMPLATES.getJsonArray(actual);
         assertEquals("Size templates doesn't match to given value!", 1, templates.size());
 
@@ -447,9 +430,6 @@ public class ProjectTypeTest {
         assertEquals("Key client.clientName doesn't match to given value!", "",
             ProjectTypeField.CLIENT_NAME.getStringValue(actual));
 
-        List<Map<String, Object>> processes = ProjectTypeField.PROCESSES.getJsonArray(actual);
-        assertEquals("Size processes doesn't match to given value!", 0, processes.size());
-
         List<Map<String, Object>> folder = ProjectTypeField.FOLDER.getJsonArray(actual);
         assertEquals("Size projectFileGroups doesn't match to given value!", 0, folder.size());
 
@@ -464,11 +444,7 @@ public class ProjectTypeTest {
         Project project = prepareData().get(0);
         Map<String, Object> actual = processType.createDocument(project);
 
-        assertEquals("Amount of keys is incorrect!", 15, actual.keySet().size());
-
-        List<Map<String, Object>> processes = ProjectTypeField.PROCESSES.getJsonArray(actual);
-        Map<String, Object> process = processes.get(0);
-        assertEquals("Amount of keys in processes is incorrect!", 2, process.keySet().size());
+        assertEquals("Amount of keys is incorrect!", 14, actual.keySet().size());
 
         List<Map<String, Object>> templates = ProjectTypeField.TEMPLATES.getJsonArray(actual);
         Map<String, Object> template = templates.get(0);
@@ -153,6 +153,8 @@ public class TaskTypeTest {
             TaskTypeField.PROCESS_ID.getIntValue(actual));
         assertEquals("Key processForTask.title doesn't match to given value!", "First",
             TaskTypeField.PROCESS_TITLE.getStringValue(actual));
+        assertFalse("Key templateTask doesn't match to given value!",
+            TaskTypeField.TEMPLATE_TASK.getBooleanValue(actual));
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         assertEquals("Size roles doesn't match to given value!", 2, roles.size());
@@ -208,6 +210,8 @@ public class TaskTypeTest {
             TaskTypeField.PROCESS_ID.getIntValue(actual));
         assertEquals("Key processForTask.title doesn't match to given value!", "",
             TaskTypeField.PROCESS_TITLE.getStringValue(actual));
+        assertTrue("Key templateTask doesn't match to given value!",
+            TaskTypeField.TEMPLATE_TASK.getBooleanValue(actual));
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         assertEquals("Size roles doesn't match to given value!", 2, roles.size());
@@ -257,6 +261,8 @@ public class TaskTypeTest {
             TaskTypeField.PROCESS_ID.getIntValue(actual));
         assertEquals("Key processForTask.title doesn't match to given value!", "",
             TaskTypeField.PROCESS_TITLE.getStringValue(actual));
+        assertTrue("Key templateTask doesn't match to given value!",
+            TaskTypeField.TEMPLATE_TASK.getBooleanValue(actual));
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         assertEquals("Size roles doesn't match to given value!", 0, roles.size());
@@ -269,7 +275,7 @@ public class TaskTypeTest {
         Task task = prepareData().get(0);
         Map<String, Object> actual = taskType.createDocument(task);
 
-        assertEquals("Amount of keys is incorrect!", 25, actual.keySet().size());
+        assertEquals("Amount of keys is incorrect!", 26, actual.keySet().size());
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         Map<String, Object> role = roles.get(0);
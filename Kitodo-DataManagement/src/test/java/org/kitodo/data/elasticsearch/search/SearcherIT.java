@@ -15,6 +15,8 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -188,6 +190,26 @@ public class SearcherIT {
             getIdFromJSONObject(searcher.findDocuments(query, sort, 1, 2).get(1)).intValue()));
     }
 
+    @Test
+    public void shouldScrollDocuments() {
+        await().ignoreExceptions().untilAsserted(() -> {
+            List<Map<String, Object>> documents = new ArrayList<>();
+            searcher.scrollDocuments(query, null, null, documents::addAll);
+            assertEquals("Incorrect result - size doesn't match to given int value!", 4, documents.size());
+        });
+
+        SortBuilder sort = new FieldSortBuilder("title").order(SortOrder.DESC);
+        await().ignoreExceptions().untilAsserted(() -> {
+            List<Map<String, Object>> documents = new ArrayList<>();
+            searcher.scrollDocuments(query, sort, new String[] {"title" }, documents::addAll);
+            assertEquals("Incorrect result - id doesn't match to given int values!", 2,
+                getIdFromJSONObject(documents.get(0)).intValue());
+            assertEquals("Incorrect result - title doesn't match to given plain text!", "Sort",
+                documents.get(0).get("title"));
+            assertEquals("Incorrect result - only title and id should be returned!", 2, documents.get(0).size());
+        });
+    }
+
     private static IndexRestClient initializeIndexRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndex(testIndexName);
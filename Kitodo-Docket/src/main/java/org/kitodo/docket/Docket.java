@@ -11,9 +11,11 @@
 
 package org.kitodo.docket;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
 
@@ -24,12 +26,10 @@ public class Docket implements DocketInterface {
 
     @Override
     public File generateDocket(DocketData docketData, URI xslFileUri) throws IOException {
-        ExportDocket exportDocket = new ExportDocket();
-
         File file = File.createTempFile("docket.pdf", ".tmp");
 
-        try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
-            exportDocket.startExport(docketData, fileOutputStream, new File(xslFileUri));
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            generateDocket(docketData, xslFileUri, outputStream);
         }
 
         return file;
@@ -37,14 +37,24 @@ public class Docket implements DocketInterface {
 
     @Override
     public File generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri) throws IOException {
-        ExportDocket exportDocket = new ExportDocket();
-
         File file = File.createTempFile("docket_multipage.pdf", ".tmp");
 
-        try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
-            exportDocket.startExport(docketData, fileOutputStream, new File(xslFileUri));
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            generateMultipleDockets(docketData, xslFileUri, outputStream);
         }
 
         return file;
     }
+
+    @Override
+    public void generateDocket(DocketData docketData, URI xslFileUri, OutputStream outputStream)
+            throws IOException {
+        new ExportDocket().startExport(docketData, outputStream, new File(xslFileUri));
+    }
+
+    @Override
+    public void generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri,
+            OutputStream outputStream) throws IOException {
+        new ExportDocket().startExport(docketData, outputStream, new File(xslFileUri));
+    }
 }
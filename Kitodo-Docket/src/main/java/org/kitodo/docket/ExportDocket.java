@@ -30,6 +30,7 @@ import org.apache.fop.apps.FopFactory;
 import org.apache.fop.apps.FopFactoryBuilder;
 import org.apache.fop.apps.MimeConstants;
 import org.kitodo.api.docket.DocketData;
+import org.kitodo.xslt.TemplatesCache;
 
 /**
  * This class provides generating a run note based on the generated xml log.
@@ -38,6 +39,18 @@ import org.kitodo.api.docket.DocketData;
  */
 public class ExportDocket {
 
+    /**
+     * The FOP factory holds the font and image caches and is thread safe, so
+     * one factory is used for all dockets.
+     */
+    private static final FopFactory fopFactory = createFopFactory();
+
+    private static FopFactory createFopFactory() {
+        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
+        builder.setStrictFOValidation(false);
+        return builder.build();
+    }
+
     /**
      * This method exports the production metadata as run note to a given
      * stream. the docket.xsl has to be in the config-folder.
@@ -52,16 +65,12 @@ public class ExportDocket {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         exl.startExport(docketData, out);
 
-        byte[] pdfBytes = generatePdfBytes(out, xsltFile);
-
-        os.write(pdfBytes);
-        os.flush();
-        os.close();
+        generatePdf(out, xsltFile, os);
     }
 
     /**
-     * This method exports the production metadata as run note to a given
-     * stream. the docket.xsl has to be in the config-folder.
+     * This method exports the production metadata of several processes as one
+     * run note to a given stream. The processes are rendered in a single pass.
      *
      * @param docketDataList
      *            the docketData to export for several processes
@@ -73,23 +82,16 @@ public class ExportDocket {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         exl.startMultipleExport(docketDataList, out);
 
-        byte[] pdfBytes = generatePdfBytes(out, xsltFile);
-
-        os.write(pdfBytes);
+        generatePdf(out, xsltFile, os);
     }
 
-    private byte[] generatePdfBytes(ByteArrayOutputStream out, File xsltFile) throws IOException {
-        // generate pdf file
+    private void generatePdf(ByteArrayOutputStream out, File xsltFile, OutputStream os) throws IOException {
         StreamSource source = new StreamSource(new ByteArrayInputStream(out.toByteArray()));
-        StreamSource transformSource = new StreamSource(xsltFile);
-        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
-        builder.setStrictFOValidation(false);
-        FopFactory fopFactory = builder.build();
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        // transform xml
+        // transform xml, the pdf is written to the stream while rendering
         try {
-            Transformer xslTransformer = TransformerFactory.newInstance().newTransformer(transformSource);
-            Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, outStream);
+            Transformer xslTransformer = TemplatesCache.getTemplates(xsltFile, TransformerFactory.newInstance())
+                    .newTransformer();
+            Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, os);
             Result res = new SAXResult(fop.getDefaultHandler());
             xslTransformer.transform(source, res);
         } catch (FOPException e) {
@@ -97,9 +99,7 @@ public class ExportDocket {
         } catch (TransformerException e) {
             throw new IOException("TransformerException occurred", e);
         }
-
-        // write the content to output stream
-        return outStream.toByteArray();
+        os.flush();
     }
 
 }
@@ -20,7 +20,19 @@ public enum ParameterFileManagement implements ParameterInterface {
      */
     DIRECTORY_SUFFIX("DIRECTORY_SUFFIX"),
     CREATE_SOURCE_FOLDER("createSourceFolder"),
-    FILE_MAX_WAIT_MILLISECONDS("file.maxWaitMilliseconds");
+    FILE_MAX_WAIT_MILLISECONDS("file.maxWaitMilliseconds"),
+    /**
+     * Whether the number and size of files in directories are kept in memory.
+     */
+    MANIFEST("file.manifest"),
+    /**
+     * Interval in minutes to rescan the directories kept in memory.
+     */
+    MANIFEST_RECONCILE_INTERVAL("file.manifest.reconcileInterval"),
+    /**
+     * Maximum number of directories whose trees are kept in memory.
+     */
+    MANIFEST_MAXIMUM_ROOTS("file.manifest.maximumRoots");
 
     private String name;
 
@@ -37,7 +37,7 @@ class CommandService {
             return null;
         }
         KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-        CommandInterface command = serviceLoader.loadModule();
+        CommandInterface command = serviceLoader.loadSingletonModule();
 
         CommandResult commandResult = command.runCommand(random.nextInt(), script);
         List<String> commandResultMessages = commandResult.getMessages();
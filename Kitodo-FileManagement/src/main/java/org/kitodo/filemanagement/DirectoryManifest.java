@@ -0,0 +1,392 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.filemanagement;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterFileManagement;
+
+/**
+ * Keeps the number and the total size of the files in directory trees, so
+ * that they don't have to be counted by walking through the tree every time.
+ *
+ * <p>
+ * For every directory, the files directly inside and the time of last
+ * modification of the directory are recorded. Creating, deleting or renaming
+ * an entry changes the time of last modification of its directory, so on
+ * reading, only directories whose time has changed are listed again. Changes
+ * made through the file management are recorded at once. Files changed in
+ * place by others don't change the time of their directory, so their size is
+ * corrected by a background reconciler, which rescans all known trees in the
+ * configured interval, or by an explicit rescan.
+ *
+ * <p>
+ * Only the trees of a limited number of directories asked for are kept, the
+ * least recently asked for are dropped first. Trees which weren't asked for
+ * between two runs of the reconciler are dropped by it. Symbolic links to
+ * directories are not followed, so links pointing upwards can't lead into an
+ * endless walk.
+ */
+class DirectoryManifest {
+    private static final Logger logger = LogManager.getLogger(DirectoryManifest.class);
+
+    /**
+     * Times of modification closer to the listing than this can't be
+     * trusted, as a file system may store them with a resolution of seconds.
+     */
+    private static final long RACY_MILLIS = 2000;
+
+    /**
+     * Default interval of the reconciler in minutes.
+     */
+    private static final int DEFAULT_RECONCILE_INTERVAL = 60;
+
+    /**
+     * Default maximum number of directory trees kept.
+     */
+    private static final int DEFAULT_MAXIMUM_ROOTS = 10000;
+
+    /**
+     * All known directories.
+     */
+    private static final Map<File, Node> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * Directories which were asked for, in the order of last access, they are
+     * rescanned by the reconciler. The value is whether the directory was asked
+     * for since the last run of the reconciler. Access must be synchronized on
+     * the map.
+     */
+    private static final Map<File, Boolean> roots = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static volatile ScheduledExecutorService reconciler;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private DirectoryManifest() {
+
+    }
+
+    /**
+     * Recorded state of one directory.
+     */
+    private static final class Node {
+        private final File directory;
+        private long lastModified;
+        private boolean dirty = true;
+        private int files;
+        private long size;
+        private Map<String, Node> subdirectories = Collections.emptyMap();
+
+        private Node(File directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Lists the directory again if it was changed, and checks its
+         * subdirectories.
+         */
+        private synchronized void validate() {
+            long modified = directory.lastModified();
+            if (dirty || modified != lastModified) {
+                list(modified);
+            }
+            for (Node subdirectory : subdirectories.values()) {
+                subdirectory.validate();
+            }
+        }
+
+        private void list(long modified) {
+            int listedFiles = 0;
+            long listedSize = 0;
+            Map<String, Node> listedSubdirectories = new HashMap<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory.toPath())) {
+                for (Path entry : entries) {
+                    BasicFileAttributes attributes = readAttributes(entry, LinkOption.NOFOLLOW_LINKS);
+                    if (Objects.isNull(attributes)) {
+                        continue;
+                    }
+                    if (attributes.isSymbolicLink()) {
+                        if (!Files.isDirectory(entry)) {
+                            listedFiles++;
+                        }
+                    } else if (attributes.isDirectory()) {
+                        File subdirectory = entry.toFile();
+                        listedSubdirectories.put(subdirectory.getName(), getNode(subdirectory));
+                    } else {
+                        listedFiles++;
+                        listedSize += attributes.size();
+                    }
+                }
+            } catch (NoSuchFileException | NotDirectoryException e) {
+                logger.trace("{} is not a directory", directory, e);
+            } catch (IOException e) {
+                logger.warn("Listing of {} failed: {}", directory, e.getMessage());
+            }
+            for (Map.Entry<String, Node> previous : subdirectories.entrySet()) {
+                if (!listedSubdirectories.containsKey(previous.getKey())) {
+                    forget(previous.getValue());
+                }
+            }
+            files = listedFiles;
+            size = listedSize;
+            subdirectories = listedSubdirectories;
+            lastModified = modified;
+            dirty = System.currentTimeMillis() - modified < RACY_MILLIS;
+        }
+
+        private synchronized void invalidate() {
+            dirty = true;
+        }
+
+        private synchronized int getNumberOfFiles() {
+            int numberOfFiles = files;
+            for (Node subdirectory : subdirectories.values()) {
+                numberOfFiles += subdirectory.getNumberOfFiles();
+            }
+            return numberOfFiles;
+        }
+
+        private synchronized long getSize() {
+            long totalSize = size;
+            for (Node subdirectory : subdirectories.values()) {
+                totalSize += subdirectory.getSize();
+            }
+            return totalSize;
+        }
+
+        private synchronized List<Node> getSubdirectories() {
+            return new ArrayList<>(subdirectories.values());
+        }
+    }
+
+    /**
+     * Returns the number of files in a directory and all its subdirectories.
+     * Symbolic links to files are counted, symbolic links to directories are
+     * not followed.
+     *
+     * @param directory
+     *            directory to count the files of
+     * @return number of files, 0 if the directory doesn't exist
+     */
+    static int getNumberOfFiles(File directory) {
+        return getValidatedRoot(directory).getNumberOfFiles();
+    }
+
+    /**
+     * Returns the total size of the files in a directory and all its
+     * subdirectories. Files behind symbolic links are not counted.
+     *
+     * @param directory
+     *            directory to sum up the files of
+     * @return total size in bytes
+     */
+    static long getSize(File directory) {
+        return getValidatedRoot(directory).getSize();
+    }
+
+    /**
+     * Records that a file or directory was created, changed or deleted.
+     *
+     * @param file
+     *            changed file or directory
+     */
+    static void invalidate(File file) {
+        Node node = nodes.get(file.getAbsoluteFile());
+        if (Objects.nonNull(node)) {
+            node.invalidate();
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (Objects.nonNull(parent)) {
+            Node parentNode = nodes.get(parent);
+            if (Objects.nonNull(parentNode)) {
+                parentNode.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Records that a directory and everything in it may have changed.
+     *
+     * @param directory
+     *            changed directory
+     */
+    static void invalidateAll(File directory) {
+        invalidate(directory);
+        Node node = nodes.get(directory.getAbsoluteFile());
+        if (Objects.nonNull(node)) {
+            invalidateTree(node);
+        }
+    }
+
+    /**
+     * Lists a directory and all its subdirectories again, to take changes
+     * into account which were made without the file management.
+     *
+     * @param directory
+     *            directory to rescan
+     */
+    static void rescan(File directory) {
+        Node root = getNode(directory.getAbsoluteFile());
+        invalidateTree(root);
+        root.validate();
+    }
+
+    private static Node getValidatedRoot(File directory) {
+        File root = directory.getAbsoluteFile();
+        remember(root);
+        startReconciler();
+        Node node = getNode(root);
+        node.validate();
+        return node;
+    }
+
+    private static void remember(File root) {
+        File eldest = null;
+        synchronized (roots) {
+            roots.put(root, Boolean.TRUE);
+            if (roots.size() > KitodoConfig.getIntParameter(ParameterFileManagement.MANIFEST_MAXIMUM_ROOTS,
+                DEFAULT_MAXIMUM_ROOTS)) {
+                Iterator<File> leastRecentlyUsed = roots.keySet().iterator();
+                eldest = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+        }
+        if (Objects.nonNull(eldest)) {
+            drop(eldest);
+        }
+    }
+
+    /**
+     * Removes the tree of a directory which is no longer asked for, unless it
+     * is part of the tree of another directory still asked for.
+     */
+    private static void drop(File root) {
+        synchronized (roots) {
+            for (File parent = root.getParentFile(); Objects.nonNull(parent); parent = parent.getParentFile()) {
+                if (roots.containsKey(parent)) {
+                    return;
+                }
+            }
+        }
+        Node node = nodes.get(root);
+        if (Objects.nonNull(node)) {
+            forget(node);
+        }
+    }
+
+    private static Node getNode(File directory) {
+        return nodes.computeIfAbsent(directory, Node::new);
+    }
+
+    private static void invalidateTree(Node node) {
+        node.invalidate();
+        for (Node subdirectory : node.getSubdirectories()) {
+            invalidateTree(subdirectory);
+        }
+    }
+
+    private static void forget(Node node) {
+        nodes.remove(node.directory);
+        synchronized (roots) {
+            roots.remove(node.directory);
+        }
+        for (Node subdirectory : node.getSubdirectories()) {
+            forget(subdirectory);
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path, LinkOption... options) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, options);
+        } catch (IOException e) {
+            logger.trace("Attributes of {} cannot be read", path, e);
+            return null;
+        }
+    }
+
+    private static void startReconciler() {
+        if (Objects.isNull(reconciler)) {
+            synchronized (DirectoryManifest.class) {
+                if (Objects.isNull(reconciler)) {
+                    int interval = KitodoConfig.getIntParameter(ParameterFileManagement.MANIFEST_RECONCILE_INTERVAL,
+                        DEFAULT_RECONCILE_INTERVAL);
+                    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, DirectoryManifest.class.getSimpleName());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    if (interval > 0) {
+                        scheduler.scheduleWithFixedDelay(DirectoryManifest::reconcile, interval, interval,
+                            TimeUnit.MINUTES);
+                    }
+                    reconciler = scheduler;
+                }
+            }
+        }
+    }
+
+    private static void reconcile() {
+        try {
+            List<File> accessed = new ArrayList<>();
+            List<File> unused = new ArrayList<>();
+            synchronized (roots) {
+                for (Iterator<Map.Entry<File, Boolean>> entries = roots.entrySet().iterator(); entries.hasNext();) {
+                    Map.Entry<File, Boolean> root = entries.next();
+                    if (root.getValue()) {
+                        accessed.add(root.getKey());
+                        root.setValue(Boolean.FALSE);
+                    } else {
+                        unused.add(root.getKey());
+                        entries.remove();
+                    }
+                }
+            }
+            for (File root : unused) {
+                drop(root);
+            }
+            for (File root : accessed) {
+                if (root.isDirectory()) {
+                    rescan(root);
+                } else {
+                    forget(getNode(root));
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.kitodo.filemanagement;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FilenameFilter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -58,6 +59,7 @@ public class FileManagement implements FileManagementInterface {
         if (!directory.exists() && !directory.mkdir()) {
             throw new IOException("Could not create directory.");
         }
+        DirectoryManifest.invalidate(directory);
         return fileMapper.unmapUriFromKitodoDataDirectoryUri(Paths.get(directory.getPath()).toUri());
     }
 
@@ -65,6 +67,7 @@ public class FileManagement implements FileManagementInterface {
         targetFolder = fileMapper.mapUriToKitodoDataDirectoryUri(targetFolder);
         File file = new File(Paths.get(new File(targetFolder).getPath(), fileName).toUri());
         if (file.exists() || file.createNewFile()) {
+            DirectoryManifest.invalidate(file);
             return fileMapper.unmapUriFromKitodoDataDirectoryUri(Paths.get(file.getPath()).toUri());
         }
         return URI.create("");
@@ -73,7 +76,24 @@ public class FileManagement implements FileManagementInterface {
     @Override
     public OutputStream write(URI uri) throws IOException {
         uri = fileMapper.mapUriToKitodoDataDirectoryUri(uri);
-        return Files.newOutputStream(Paths.get(uri));
+        File file = new File(uri);
+        OutputStream outputStream = Files.newOutputStream(file.toPath());
+        DirectoryManifest.invalidate(file);
+        return new FilterOutputStream(outputStream) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    DirectoryManifest.invalidate(file);
+                }
+            }
+        };
     }
 
     @Override
@@ -98,6 +118,7 @@ public class FileManagement implements FileManagementInterface {
         } else if (isDirectory(sourceUri)) {
             copyDirectory(new File(sourceUri), new File(targetUri));
         }
+        DirectoryManifest.invalidateAll(targetFile);
     }
 
     private void copyDirectory(File sourceDirectory, File targetDirectory) throws IOException {
@@ -126,6 +147,7 @@ public class FileManagement implements FileManagementInterface {
         }
         uri = fileMapper.mapUriToKitodoDataDirectoryUri(uri);
         File file = new File(uri);
+        DirectoryManifest.invalidateAll(file);
         if (file.exists()) {
             if (file.isFile()) {
                 return Files.deleteIfExists(file.toPath());
@@ -206,6 +228,9 @@ public class FileManagement implements FileManagementInterface {
                     "Renaming of " + fileToRename.getName() + " into " + renamedFile.getName() + " failed.");
         }
 
+        DirectoryManifest.invalidateAll(fileToRename);
+        DirectoryManifest.invalidateAll(renamedFile);
+
         if (millisWaited > 0) {
             logger.info("Rename finally succeeded after {} milliseconds.", Integer.toString(millisWaited));
         }
@@ -249,7 +274,9 @@ public class FileManagement implements FileManagementInterface {
     public Integer getNumberOfFiles(FilenameFilter filter, URI directory) {
         int count = 0;
         directory = fileMapper.mapUriToKitodoDataDirectoryUri(directory);
-        if (filter == null) {
+        if (filter == null && KitodoConfig.getBooleanParameter(ParameterFileManagement.MANIFEST, true)) {
+            count += DirectoryManifest.getNumberOfFiles(new File(directory));
+        } else if (filter == null) {
             count += iterateOverDirectories(directory);
         } else {
             count += iterateOverSpecificDirectories(filter, directory);
@@ -305,13 +332,21 @@ public class FileManagement implements FileManagementInterface {
         if (!directory.isAbsolute()) {
             directory = fileMapper.mapUriToKitodoDataDirectoryUri(directory);
         }
-        if (isDirectory(directory)) {
+        if (isDirectory(directory) && KitodoConfig.getBooleanParameter(ParameterFileManagement.MANIFEST, true)) {
+            return DirectoryManifest.getSize(new File(directory));
+        } else if (isDirectory(directory)) {
             return FileUtils.sizeOfDirectory(new File(directory));
         } else {
             throw new IOException("Given URI doesn't point to the directory!");
         }
     }
 
+    @Override
+    public void rescan(URI directory) {
+        directory = fileMapper.mapUriToKitodoDataDirectoryUri(directory);
+        DirectoryManifest.rescan(new File(directory));
+    }
+
     @Override
     public String getFileNameWithExtension(URI uri) {
         return FilenameUtils.getName(uri.getPath());
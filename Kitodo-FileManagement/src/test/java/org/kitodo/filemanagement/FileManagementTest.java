@@ -121,6 +121,57 @@ public class FileManagementTest {
         assertEquals("URI cannot be read!", 1, numberOfFiles);
     }
 
+    @Test
+    public void shouldUpdateNumberOfFilesAndSizeOnChanges() throws IOException {
+        URI directory = fileManagement.create(URI.create("fileTest"), "manifest", false);
+        assertEquals("Empty directory should contain no files!", 0,
+            (int) fileManagement.getNumberOfFiles(null, directory));
+
+        URI file = fileManagement.create(directory, "image.tif", true);
+        URI subdirectory = fileManagement.create(directory, "sub", false);
+        fileManagement.create(subdirectory, "image.jpg", true);
+        assertEquals("Created files should be counted!", 2, (int) fileManagement.getNumberOfFiles(null, directory));
+
+        try (OutputStream outputStream = fileManagement.write(file)) {
+            outputStream.write(new byte[] {1, 2, 3 });
+        }
+        assertEquals("Written bytes should be summed up!", 3, (long) fileManagement.getSizeOfDirectory(directory));
+
+        fileManagement.delete(subdirectory);
+        assertEquals("Deleted files should not be counted!", 1,
+            (int) fileManagement.getNumberOfFiles(null, directory));
+
+        fileManagement.delete(directory);
+    }
+
+    @Test
+    public void shouldRescanChangesMadeOutside() throws IOException {
+        URI directory = fileManagement.create(URI.create("fileTest"), "rescan", false);
+        URI file = fileManagement.create(directory, "image.tif", true);
+        assertEquals("Empty file should have no size!", 0, (long) fileManagement.getSizeOfDirectory(directory));
+
+        Files.write(fileManagement.getFile(file).toPath(), new byte[] {1, 2 });
+        fileManagement.rescan(directory);
+        assertEquals("Rescan should find changed size!", 2, (long) fileManagement.getSizeOfDirectory(directory));
+
+        fileManagement.delete(directory);
+    }
+
+    @Test
+    public void shouldNotFollowSymbolicLinkToParentDirectory() throws IOException {
+        assumeTrue(!SystemUtils.IS_OS_WINDOWS);
+        URI directory = fileManagement.create(URI.create("fileTest"), "cycle", false);
+        fileManagement.create(directory, "image.tif", true);
+        File cycle = fileManagement.getFile(directory);
+        Files.createSymbolicLink(cycle.toPath().resolve("parent"), cycle.toPath());
+        fileManagement.rescan(directory);
+
+        assertEquals("Link to parent directory should not be followed!", 1,
+            (int) fileManagement.getNumberOfFiles(null, directory));
+
+        fileManagement.delete(directory);
+    }
+
     @Test
     public void shouldCreateUriForExistingProcess() {
         assertEquals("URI cannot be created!", URI.create("10"), fileManagement.createUriForExistingProcess("10"));
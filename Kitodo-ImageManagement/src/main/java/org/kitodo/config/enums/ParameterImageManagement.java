@@ -16,7 +16,11 @@ public enum ParameterImageManagement implements ParameterInterface {
     DIR_TMP("ImageManagement.tmpDir"),
     SEARCH_PATH("ImageManagement.searchPath"),
     TIMEOUT_SEC("ImageManagement.timeoutSec"),
-    SSH_HOST("ImageManagement.sshHosts");
+    SSH_HOST("ImageManagement.sshHosts"),
+    EXECUTION("ImageManagement.execution"),
+    POOL_SIZE("ImageManagement.pool.size"),
+    SSH_CONTROL_PERSIST("ImageManagement.ssh.controlPersist"),
+    JAVA_SCALING("ImageManagement.javaScaling");
 
     private String name;
 
@@ -0,0 +1,149 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.imagemanagement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterImageManagement;
+
+/**
+ * Distributes the {@code convert} calls to the local machine or to the
+ * configured SSH hosts. Every host runs at most the configured number of calls
+ * at the same time, further calls wait. A new call is given to the host with
+ * the fewest running and waiting calls. The pool is set up from the
+ * configuration on first use.
+ */
+class ConvertPool {
+    private static final Logger logger = LogManager.getLogger(ConvertPool.class);
+
+    private static volatile ConvertPool instance;
+
+    /**
+     * Hosts to run the {@code convert} command on.
+     */
+    private final List<Host> hosts = new ArrayList<>();
+
+    /**
+     * A host of the pool.
+     */
+    static class Host {
+        /**
+         * SSH address of the host, empty for the local machine.
+         */
+        private final Optional<String> address;
+
+        /**
+         * Number of calls the host may run at the same time.
+         */
+        private final Semaphore slots;
+
+        /**
+         * Number of calls running on or waiting for the host. Guarded by the
+         * pool.
+         */
+        private int queueDepth;
+
+        private Host(Optional<String> address, int size) {
+            this.address = address;
+            this.slots = new Semaphore(size, true);
+        }
+
+        /**
+         * Returns the SSH address of the host.
+         *
+         * @return the SSH address, empty for the local machine
+         */
+        Optional<String> getAddress() {
+            return address;
+        }
+    }
+
+    private ConvertPool() {
+        int size = Math.max(KitodoConfig.getIntParameter(ParameterImageManagement.POOL_SIZE,
+            Runtime.getRuntime().availableProcessors()), 1);
+        Optional<String> sshHosts = KitodoConfig.getOptionalString(ParameterImageManagement.SSH_HOST);
+        if (sshHosts.isPresent()) {
+            for (String host : sshHosts.get().split(",")) {
+                hosts.add(new Host(Optional.of(host.trim()), size));
+            }
+        } else {
+            hosts.add(new Host(Optional.empty(), size));
+        }
+        logger.info("Running up to {} convert calls on each of {} host(s)", size, hosts.size());
+    }
+
+    /**
+     * Returns the pool.
+     *
+     * @return the pool
+     */
+    static ConvertPool getInstance() {
+        ConvertPool localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (ConvertPool.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new ConvertPool();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    /**
+     * Chooses the host with the fewest running and waiting calls and waits
+     * until it has a free slot. The host must be released after the call.
+     *
+     * @return the host to run the call on
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting
+     */
+    Host acquire() throws InterruptedException {
+        Host host;
+        synchronized (this) {
+            host = Collections.min(hosts, Comparator.comparingInt(candidate -> candidate.queueDepth));
+            host.queueDepth++;
+        }
+        try {
+            host.slots.acquire();
+        } catch (InterruptedException e) {
+            synchronized (this) {
+                host.queueDepth--;
+            }
+            throw e;
+        }
+        return host;
+    }
+
+    /**
+     * Frees the slot of a host after the call has finished.
+     *
+     * @param host
+     *            host the call was run on
+     */
+    void release(Host host) {
+        host.slots.release();
+        synchronized (this) {
+            host.queueDepth--;
+        }
+    }
+}
@@ -14,8 +14,10 @@ package org.kitodo.imagemanagement;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +44,17 @@ class ConvertRunner {
      */
     private static final String CONVERT_COMMAND = "convert";
 
+    /**
+     * Value of {@code ImageManagement.execution} to run the calls through the
+     * {@link ConvertPool}.
+     */
+    private static final String EXECUTION_POOL = "pool";
+
+    /**
+     * Default time in seconds an idle shared SSH connection is kept open.
+     */
+    private static final int DEFAULT_SSH_CONTROL_PERSIST_SECS = 600;
+
     /**
      * Randomness generator used to distribute the requests evenly on several
      * configured SSH hosts.
@@ -59,7 +72,10 @@ class ConvertRunner {
     private String convertCommand = CONVERT_COMMAND;
 
     /**
-     * Executes the ImageMagick command using Apache Commons Exec.
+     * Executes the ImageMagick command. If the execution is set to
+     * {@code pool}, the command waits for a free slot on the least busy host
+     * of the {@link ConvertPool} and SSH connections are shared, otherwise it
+     * runs at once on a host chosen by chance.
      *
      * @param commandLine
      *            command line to execute
@@ -67,27 +83,94 @@ class ConvertRunner {
      *             if I/O fails
      */
     void run(IMOperation commandLine) throws IOException {
-        Executor executor = new DefaultExecutor();
-
-        OutputStream outAndErr = new ByteArrayOutputStream();
-        executor.setStreamHandler(new PumpStreamHandler(outAndErr));
-
-        long timeoutMillis = 1000 * KitodoConfig.getIntParameter(ParameterImageManagement.TIMEOUT_SEC, DEFAULT_TIMEOUT_MINS);
-        executor.setWatchdog(new ExecuteWatchdog(timeoutMillis));
+        if (EXECUTION_POOL.equals(KitodoConfig.getParameter(ParameterImageManagement.EXECUTION, ""))) {
+            ConvertPool pool = ConvertPool.getInstance();
+            ConvertPool.Host host;
+            try {
+                host = pool.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a free convert slot");
+            }
+            try {
+                execute(createCommand(commandLine, host.getAddress(), true));
+            } finally {
+                pool.release(host);
+            }
+        } else {
+            execute(createCommand(commandLine, getRandomSshHost(), false));
+        }
+    }
 
-        CommandLine command;
+    /**
+     * Chooses one of the configured SSH hosts by chance.
+     *
+     * @return the SSH host, empty if SSH is not configured
+     */
+    private static Optional<String> getRandomSshHost() {
         try {
             String sshHosts = KitodoConfig.getParameter(ParameterImageManagement.SSH_HOST);
-            command = new CommandLine("ssh");
             String[] hosts = sshHosts.split(",");
-            String host = hosts[RANDOMNESS_GENERATOR.nextInt(hosts.length)];
-            command.addArgument(host, false);
-            command.addArgument(convertCommand + ' ' + commandLine.toString(), false);
+            return Optional.of(hosts[RANDOMNESS_GENERATOR.nextInt(hosts.length)]);
         } catch (NoSuchElementException e) {
             logger.trace("SSH not configured.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates the command line to run ImageMagick, locally or on an SSH host.
+     *
+     * @param commandLine
+     *            ImageMagick command line
+     * @param sshHost
+     *            SSH host to run the command on, empty to run it locally
+     * @param shareConnection
+     *            whether the SSH connection is kept open and shared with
+     *            other calls to the same host
+     * @return the command line to execute
+     */
+    private CommandLine createCommand(IMOperation commandLine, Optional<String> sshHost, boolean shareConnection) {
+        CommandLine command;
+        if (sshHost.isPresent()) {
+            command = new CommandLine("ssh");
+            if (shareConnection) {
+                String controlPath = new File(KitodoConfig.getParameter(ParameterImageManagement.DIR_TMP,
+                    System.getProperty("java.io.tmpdir")), "kitodo-ssh-%C").getAbsolutePath();
+                int controlPersist = KitodoConfig.getIntParameter(ParameterImageManagement.SSH_CONTROL_PERSIST,
+                    DEFAULT_SSH_CONTROL_PERSIST_SECS);
+                command.addArgument("-o", false);
+                command.addArgument("ControlMaster=auto", false);
+                command.addArgument("-o", false);
+                command.addArgument("ControlPath=" + controlPath, false);
+                command.addArgument("-o", false);
+                command.addArgument("ControlPersist=" + controlPersist, false);
+            }
+            command.addArgument(sshHost.get(), false);
+            command.addArgument(convertCommand + ' ' + commandLine.toString(), false);
+        } else {
             command = new CommandLine(convertCommand);
             command.addArguments(commandLine.toString());
         }
+        return command;
+    }
+
+    /**
+     * Executes a command line using Apache Commons Exec.
+     *
+     * @param command
+     *            command line to execute
+     * @throws IOException
+     *             if I/O fails
+     */
+    private void execute(CommandLine command) throws IOException {
+        Executor executor = new DefaultExecutor();
+
+        OutputStream outAndErr = new ByteArrayOutputStream();
+        executor.setStreamHandler(new PumpStreamHandler(outAndErr));
+
+        long timeoutMillis = 1000 * KitodoConfig.getIntParameter(ParameterImageManagement.TIMEOUT_SEC, DEFAULT_TIMEOUT_MINS);
+        executor.setWatchdog(new ExecuteWatchdog(timeoutMillis));
 
         try {
             logger.debug("Executing: {}", command);
@@ -17,12 +17,15 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Function;
 
 import javax.imageio.ImageIO;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.imagemanagement.ImageDerivative;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
 import org.kitodo.api.imagemanagement.ImageManagementInterface;
 import org.kitodo.config.KitodoConfig;
@@ -96,6 +99,32 @@ public class ImageManagement implements ImageManagementInterface {
         return new File(resultUri).exists();
     }
 
+    /**
+     * {@inheritDoc} All derivatives are created by one ImageMagick call.
+     *
+     * @see org.kitodo.api.imagemanagement.ImageManagementInterface#createDerivatives(java.net.URI,
+     *      java.util.Collection)
+     */
+    @Override
+    public boolean createDerivatives(URI sourceUri, Collection<ImageDerivative> derivatives) throws IOException {
+        if (derivatives.isEmpty()) {
+            return true;
+        }
+        ImageConverter imageConverter = new ImageConverter(sourceUri);
+        for (ImageDerivative derivative : derivatives) {
+            validateParameters(sourceUri, derivative.getPercent());
+            if (derivative.getResultFileUri() == null) {
+                throw new NullPointerException("resultUri must not be null");
+            }
+            imageConverter.addResult(derivative.getResultFileUri(), derivative.getResultFileFormat())
+                    .resize(derivative.getPercent());
+            logger.info("Creating derivative from {} as {}, format {}, factor {}%", sourceUri,
+                derivative.getResultFileUri(), derivative.getResultFileFormat(), 100 * derivative.getPercent());
+        }
+        imageConverter.run();
+        return derivatives.stream().allMatch(derivative -> new File(derivative.getResultFileUri()).exists());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -105,6 +134,12 @@ public class ImageManagement implements ImageManagementInterface {
     @Override
     public Image getScaledWebImage(URI sourceUri, double factor) throws IOException {
         validateParameters(sourceUri, factor);
+        if (KitodoConfig.getBooleanParameter(ParameterImageManagement.JAVA_SCALING)) {
+            Optional<Image> image = JavaImageScaler.scale(sourceUri, width -> (int) Math.round(width * factor));
+            if (image.isPresent()) {
+                return image.get();
+            }
+        }
         return summarize("scaledWebImage-", WEB_IMAGE_FORMAT, sourceUri, lambda -> lambda.resize(factor),
             "Generating scaled web image from {} as {}, factor {}%", 100 * factor);
     }
@@ -124,6 +159,12 @@ public class ImageManagement implements ImageManagementInterface {
         if (width <= 0) {
             throw new IllegalArgumentException("width must be > 0, but was " + width);
         }
+        if (KitodoConfig.getBooleanParameter(ParameterImageManagement.JAVA_SCALING)) {
+            Optional<Image> image = JavaImageScaler.scale(sourceUri, sourceWidth -> width);
+            if (image.isPresent()) {
+                return image.get();
+            }
+        }
 
         return summarize("sizedWebImage-", WEB_IMAGE_FORMAT, sourceUri, lambda -> lambda.resizeToWidth(width),
             "Generating sized web image from {} as {}, width {} px", width);
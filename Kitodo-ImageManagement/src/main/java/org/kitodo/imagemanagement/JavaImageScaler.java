@@ -0,0 +1,127 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.imagemanagement;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Scales images in memory with the on-board tools of Java, without calling
+ * ImageMagick. Only JPEG, PNG and TIFF images are scaled, and only if Java
+ * has a reader for them. Otherwise, nothing is returned and the caller has to
+ * use ImageMagick.
+ */
+class JavaImageScaler {
+    private static final Logger logger = LogManager.getLogger(JavaImageScaler.class);
+
+    /**
+     * Formats to scale in memory, as ImageIO format names in lower case.
+     */
+    private static final Collection<String> FORMATS = Arrays.asList("jpeg", "jpg", "png", "tif", "tiff");
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private JavaImageScaler() {
+
+    }
+
+    /**
+     * Reads an image and scales it.
+     *
+     * @param sourceUri
+     *            image to scale
+     * @param width
+     *            function calculating the width of the scaled image from the
+     *            width of the source image. The height is scaled
+     *            proportionally.
+     * @return the scaled image, empty if the image cannot be scaled in memory
+     * @throws IOException
+     *             if the image cannot be read
+     */
+    static Optional<Image> scale(URI sourceUri, IntUnaryOperator width) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new File(sourceUri))) {
+            if (Objects.isNull(input)) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                if (!FORMATS.contains(reader.getFormatName().toLowerCase(Locale.ROOT))) {
+                    return Optional.empty();
+                }
+                reader.setInput(input, true, true);
+                BufferedImage source = reader.read(0);
+                int scaledWidth = Math.max(width.applyAsInt(source.getWidth()), 1);
+                int scaledHeight = Math.max((int) Math.round((double) source.getHeight() * scaledWidth
+                        / source.getWidth()), 1);
+                logger.info("Scaling {} in memory to {} x {} px", sourceUri, scaledWidth, scaledHeight);
+                return Optional.of(resize(source, scaledWidth, scaledHeight));
+            } catch (IIOException e) {
+                logger.debug("Java cannot decode {}, using ImageMagick", sourceUri, e);
+                return Optional.empty();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Resizes an image. When shrinking, the size is halved step by step, so
+     * that every pixel of the source image contributes to the result.
+     * Transparent areas become white.
+     */
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = currentWidth > width ? Math.max(currentWidth / 2, width) : width;
+            currentHeight = currentHeight > height ? Math.max(currentHeight / 2, height) : height;
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+}
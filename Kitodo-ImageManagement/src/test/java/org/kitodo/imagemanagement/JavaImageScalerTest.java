@@ -0,0 +1,65 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.imagemanagement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+public class JavaImageScalerTest {
+
+    @Test
+    public void shouldScaleImage() throws IOException {
+        File png = File.createTempFile("scale-", ".png");
+        try {
+            ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB), "png", png);
+
+            Optional<Image> scaled = JavaImageScaler.scale(png.toURI(), width -> width / 4);
+
+            assertTrue("Image was not scaled!", scaled.isPresent());
+            assertEquals("Wrong width!", 100, scaled.get().getWidth(null));
+            assertEquals("Wrong height!", 75, scaled.get().getHeight(null));
+        } finally {
+            Files.delete(png.toPath());
+        }
+    }
+
+    @Test
+    public void shouldNotScaleOtherFormats() throws IOException {
+        File bmp = File.createTempFile("scale-", ".bmp");
+        File text = File.createTempFile("scale-", ".txt");
+        try {
+            ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), "bmp", bmp);
+            Files.write(text.toPath(), Collections.singletonList("No, this is not an image."));
+
+            assertFalse("BMP image should be left to ImageMagick!",
+                JavaImageScaler.scale(bmp.toURI(), width -> 100).isPresent());
+            assertFalse("Text file should be left to ImageMagick!",
+                JavaImageScaler.scale(text.toURI(), width -> 100).isPresent());
+        } finally {
+            Files.delete(bmp.toPath());
+            Files.delete(text.toPath());
+        }
+    }
+}
@@ -13,11 +13,9 @@ package org.kitodo.modsxmlschemaconverter;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InvalidClassException;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.nio.file.Files;
 import java.util.Objects;
 import java.util.UnknownFormatConversionException;
 
@@ -25,7 +23,9 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Result;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXResult;
@@ -33,13 +33,13 @@ import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 
 import org.kitodo.api.schemaconverter.DataRecord;
 import org.kitodo.api.schemaconverter.FileFormat;
 import org.kitodo.api.schemaconverter.MetadataFormat;
 import org.kitodo.api.schemaconverter.SchemaConverterInterface;
 import org.kitodo.exceptions.ConfigException;
+import org.kitodo.xslt.TemplatesCache;
 import org.xml.sax.InputSource;
 
 public class ModsXMLSchemaConverter implements SchemaConverterInterface {
@@ -75,14 +75,14 @@ public class ModsXMLSchemaConverter implements SchemaConverterInterface {
             String xmlString = (String)record.getOriginalData();
             String conversionResult;
 
-            if (Objects.nonNull(mappingFile)) {
-                try (InputStream fileStream = Files.newInputStream(mappingFile.toPath())) {
-                    conversionResult = transformXmlByXslt(xmlString, fileStream);
-                }
-            } else {
-                try (InputStream fileStream = getClass().getResourceAsStream(XSLT_FILEPATH)) {
-                    conversionResult = transformXmlByXslt(xmlString, fileStream);
-                }
+            try {
+                TransformerFactory transformerFactory = TransformerFactory.newInstance();
+                Templates stylesheet = Objects.nonNull(mappingFile)
+                        ? TemplatesCache.getTemplates(mappingFile, transformerFactory)
+                        : TemplatesCache.getTemplates(getClass().getResource(XSLT_FILEPATH), transformerFactory);
+                conversionResult = transformXmlByXslt(xmlString, stylesheet);
+            } catch (TransformerConfigurationException e) {
+                throw new ConfigException("Error in transforming the response in intern format : ", e);
             }
 
             DataRecord resultRecord = new DataRecord();
@@ -116,7 +116,7 @@ public class ModsXMLSchemaConverter implements SchemaConverterInterface {
         return supportedSourceFileFormat.equals(format);
     }
 
-    private String transformXmlByXslt(String xmlString, InputStream stylesheetFile) {
+    private String transformXmlByXslt(String xmlString, Templates stylesheet) {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         try {
             factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
@@ -126,8 +126,7 @@ public class ModsXMLSchemaConverter implements SchemaConverterInterface {
         factory.setNamespaceAware(true);
         try {
             StringWriter stringWriter = new StringWriter();
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer xsltTransformer = transformerFactory.newTransformer(new StreamSource(stylesheetFile));
+            Transformer xsltTransformer = stylesheet.newTransformer();
             TransformerHandler handler
                     = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
             handler.setResult(new StreamResult(stringWriter));
@@ -356,7 +356,7 @@ public class MetadataValidation implements MetadataValidationInterface {
      * @return a file management
      */
     private static FileManagementInterface getFileManagement() {
-        return new KitodoServiceLoader<FileManagementInterface>(FileManagementInterface.class).loadModule();
+        return new KitodoServiceLoader<FileManagementInterface>(FileManagementInterface.class).loadSingletonModule();
     }
 
     /**
@@ -11,8 +11,13 @@
 
 package org.goobi.mq;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.Connection;
 import javax.jms.DeliveryMode;
@@ -49,6 +54,14 @@ import org.kitodo.config.enums.ParameterCore;
  * why without inspecting the source code.
  *
  * <p>
+ * Every processor is attached to its queue with the configured number of
+ * consumers. Each consumer has a session of its own, so the queues are
+ * processed in parallel and a slow processor doesn’t hold up the others. As
+ * the server hands out only a few messages to each consumer ahead of
+ * processing, further messages wait on the server until a consumer is free.
+ * Results are sent to the results topic in the background.
+ *
+ * <p>
  * The class ActiveMQDirector also provides a basic ExceptionListener
  * implementation as required for the connection.
  */
@@ -67,6 +80,8 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
     protected static Connection connection = null;
     protected static Session session = null;
     protected static MessageProducer resultsTopic;
+    private static final List<Session> consumerSessions = new CopyOnWriteArrayList<>();
+    private static ExecutorService resultsPublisher;
 
     /**
      * The method is called by the web container on startup
@@ -81,10 +96,10 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
         if (activeMQHost.isPresent()) {
             session = connectToServer(activeMQHost.get());
             if (Objects.nonNull(session)) {
-                registerListeners(services);
                 Optional<String> activeMQResultsTopic = ConfigCore
                         .getOptionalString(ParameterCore.ACTIVE_MQ_RESULTS_TOPIC);
                 activeMQResultsTopic.ifPresent(topic -> resultsTopic = setUpReportChannel(topic));
+                registerListeners(services);
             }
         }
     }
@@ -96,11 +111,14 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
      * @param server
      *            should be “tcp://{host}:{port}” or “vm://localhost” in case
      *            that the server is run inside the same virtual machine
-     * @return the session object or “null” upon error
+     * @return the session object for the results topic or “null” upon error
      */
     protected Session connectToServer(String server) {
         try {
-            connection = new ActiveMQConnectionFactory(server).createConnection();
+            ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(server);
+            connectionFactory.getPrefetchPolicy()
+                    .setQueuePrefetch(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ACTIVE_MQ_PREFETCH));
+            connection = connectionFactory.createConnection();
             connection.start();
             connection.setExceptionListener(this); // ActiveMQDirector.onException()
             return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
@@ -114,22 +132,29 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
      * This method registers the listeners with the active MQ server.
      *
      * <p>
-     * If a queue name was configured for a service, a MessageConsumer is set up
+     * If a queue name was configured for a service, MessageConsumers are set up
      * to listen on that queue and, in case of incoming messages, make the
-     * service process the message. The message checker is saved inside the
-     * service to be able to shut it down later.
+     * service process the message. Each consumer gets a session of its own,
+     * which is served by a thread of its own, and acknowledges its messages
+     * after processing. The message checkers are saved inside the service to
+     * be able to shut them down later.
      */
     protected void registerListeners(ActiveMQProcessor[] processors) {
         for (ActiveMQProcessor processor : processors) {
             if (Objects.nonNull(processor.getQueueName())) {
-                MessageConsumer messageChecker;
-                try {
-                    Destination queue = session.createQueue(processor.getQueueName());
-                    messageChecker = session.createConsumer(queue);
-                    messageChecker.setMessageListener(processor);
-                    processor.saveChecker(messageChecker);
-                } catch (JMSException | RuntimeException e) {
-                    logger.fatal("Error setting up monitoring for \"" + processor.getQueueName() + "\": Giving up.", e);
+                for (int i = 0; i < processor.getConsumers(); i++) {
+                    try {
+                        Session consumerSession = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
+                        consumerSessions.add(consumerSession);
+                        Destination queue = consumerSession.createQueue(processor.getQueueName());
+                        MessageConsumer messageChecker = consumerSession.createConsumer(queue);
+                        messageChecker.setMessageListener(processor);
+                        processor.saveChecker(messageChecker);
+                    } catch (JMSException | RuntimeException e) {
+                        logger.fatal("Error setting up monitoring for \"" + processor.getQueueName() + "\": Giving up.",
+                            e);
+                        break;
+                    }
                 }
             }
         }
@@ -146,6 +171,11 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
      * http://docs.oracle.com/javaee/6/api/javax/jms/MessageProducer.html#setTimeToLive%28long%29
      * )
      *
+     * <p>
+     * The results are sent by a thread of their own, which is the only one to
+     * use the session of the topic, so that processors don’t wait for the
+     * server to receive their results.
+     *
      * @param topic
      *            name of the active MQ topic
      * @return a MessageProducer object ready for writing or “null” on error
@@ -157,6 +187,11 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
             reportChannel = session.createProducer(channel);
             reportChannel.setDeliveryMode(DeliveryMode.PERSISTENT);
             reportChannel.setTimeToLive(ConfigCore.getLongParameterOrDefaultValue(ParameterCore.ACTIVE_MQ_RESULTS_TTL));
+            resultsPublisher = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ActiveMQ results publisher");
+                thread.setDaemon(true);
+                return thread;
+            });
             return reportChannel;
         } catch (JMSException | RuntimeException e) {
             logger.fatal("Error setting up report channel \"" + topic + "\": Giving up.", e);
@@ -176,7 +211,8 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
 
     /**
      * Any class that wants to create new Active MQ Messages needs read access
-     * to the session, since Active MQ messages don’t have a constructor.
+     * to the session, since Active MQ messages don’t have a constructor. The
+     * session must only be used from tasks run by the results publisher.
      *
      * @return the session object
      */
@@ -194,9 +230,20 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
         return resultsTopic;
     }
 
+    /**
+     * Returns the executor which sends the results to the results topic.
+     *
+     * @return the results publisher, or “null” if no results topic is
+     *         configured
+     */
+    public static ExecutorService getResultsPublisher() {
+        return resultsPublisher;
+    }
+
     /**
      * The method contextDestroyed is called by the web container on shutdown.
-     * It shuts down all listeners, the session and last, the connection.
+     * It shuts down all listeners, waits for the results to be sent, closes the
+     * sessions and last, the connection.
      *
      * @see javax.servlet.ServletContextListener#contextDestroyed(javax.servlet.ServletContextEvent)
      */
@@ -204,8 +251,7 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
     public void contextDestroyed(ServletContextEvent destruction) {
         // Shut down all watchers on any queues
         for (ActiveMQProcessor service : services) {
-            MessageConsumer watcher = service.getChecker();
-            if (Objects.nonNull(watcher)) {
+            for (MessageConsumer watcher : service.getCheckers()) {
                 try {
                     watcher.close();
                 } catch (JMSException e) {
@@ -214,7 +260,27 @@ public class ActiveMQDirector implements ServletContextListener, ExceptionListen
             }
         }
 
-        // quit session
+        // send the pending results
+        if (Objects.nonNull(resultsPublisher)) {
+            resultsPublisher.shutdown();
+            try {
+                if (!resultsPublisher.awaitTermination(10, TimeUnit.SECONDS)) {
+                    logger.warn("Not all results could be sent to the results topic.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // quit sessions
+        for (Session consumerSession : consumerSessions) {
+            try {
+                consumerSession.close();
+            } catch (JMSException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        consumerSessions.clear();
         try {
             if (Objects.nonNull(session)) {
                 session.close();
@@ -11,8 +11,11 @@
 
 package org.goobi.mq;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.jms.JMSException;
 import javax.jms.MapMessage;
@@ -20,6 +23,8 @@ import javax.jms.Message;
 import javax.jms.MessageConsumer;
 import javax.jms.MessageListener;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.production.enums.ReportLevel;
 import org.kitodo.production.helper.Helper;
@@ -29,13 +34,20 @@ import org.kitodo.production.helper.Helper;
  * incoming messages available as MapMessages and publishing the results. When I
  * came clear that this code would be necessary for every processor, I thought
  * an abstract class would be the right place for it. ActiveMQProcessor also
- * provides a place to save the checker for the ActiveMQDirector, to be able to
- * shut it down later.
+ * provides a place to save the checkers for the ActiveMQDirector, to be able to
+ * shut them down later.
+ *
+ * <p>
+ * A processor may be attached to its queue with several consumers. Then
+ * onMessage() is called from several threads at the same time, so processors
+ * must not keep the state of a message in fields.
  */
 public abstract class ActiveMQProcessor implements MessageListener {
+    private static final Logger logger = LogManager.getLogger(ActiveMQProcessor.class);
 
     private String queueName; // the queue name will be available here
-    private MessageConsumer checker;
+    private final int consumers;
+    private final List<MessageConsumer> checkers = new CopyOnWriteArrayList<>();
 
     /**
      * Implement the method process() to let your service actually do what you
@@ -67,7 +79,22 @@ public abstract class ActiveMQProcessor implements MessageListener {
      *            processor from being connected.
      */
     public ActiveMQProcessor(String queueName) {
+        this(queueName, 1);
+    }
+
+    /**
+     * Creates a processor which is attached to its queue with several
+     * consumers, so that messages are processed in parallel.
+     *
+     * @param queueName
+     *            the queue name, if configured, or “null” to prevent the
+     *            processor from being connected.
+     * @param consumers
+     *            number of messages to process at the same time
+     */
+    public ActiveMQProcessor(String queueName, int consumers) {
         this.queueName = queueName;
+        this.consumers = Math.max(1, consumers);
     }
 
     /**
@@ -80,6 +107,11 @@ public abstract class ActiveMQProcessor implements MessageListener {
      * Since this will be the same for all processors which use MapMessages, I
      * extracted the portion into the abstract class.
      *
+     * <p>
+     * The message is acknowledged only after it has been processed and the
+     * result has been reported, so that a message is delivered again if the
+     * server shuts down while it is processed.
+     *
      * @see javax.jms.MessageListener#onMessage(javax.jms.Message)
      */
     @Override
@@ -111,8 +143,19 @@ public abstract class ActiveMQProcessor implements MessageListener {
             // if everything ‘s fine, report success
             new WebServiceResult(queueName, ticketID, ReportLevel.SUCCESS).send();
         } catch (Exception e) {
+            Helper.setActiveMQReporting(null);
             // report any errors
             new WebServiceResult(queueName, ticketID, ReportLevel.FATAL, e.getMessage()).send();
+        } finally {
+            acknowledge(arg);
+        }
+    }
+
+    private void acknowledge(Message message) {
+        try {
+            message.acknowledge();
+        } catch (JMSException | RuntimeException e) {
+            logger.error("Error acknowledging message on \"" + queueName + "\"", e);
         }
     }
 
@@ -126,25 +169,33 @@ public abstract class ActiveMQProcessor implements MessageListener {
     }
 
     /**
-     * The parent object which is there to check for new messages and to trigger
-     * the method onMessage() is saved inside the class, to have it lately for
-     * shutting down the service again.
+     * This method is used to get the number of consumers upon initialisation.
      *
-     * @param checker
-     *            the MessageConsumer object responsible for checking messages
+     * @return the number of messages to process at the same time
      */
+    public int getConsumers() {
+        return consumers;
+    }
 
+    /**
+     * The parent objects which are there to check for new messages and to
+     * trigger the method onMessage() are saved inside the class, to have them
+     * lately for shutting down the service again.
+     *
+     * @param checker
+     *            a MessageConsumer object responsible for checking messages
+     */
     public void saveChecker(MessageConsumer checker) {
-        this.checker = checker;
+        checkers.add(checker);
     }
 
     /**
-     * This method is used to get back the message checking object upon
+     * This method is used to get back the message checking objects upon
      * shutdown.
      *
-     * @return the MessageConsumer object responsible for checking messages
+     * @return the MessageConsumer objects responsible for checking messages
      */
-    public MessageConsumer getChecker() {
-        return checker;
+    public List<MessageConsumer> getCheckers() {
+        return Collections.unmodifiableList(checkers);
     }
 }
@@ -12,6 +12,8 @@
 package org.goobi.mq;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.jms.JMSException;
 import javax.jms.MapMessage;
@@ -67,33 +69,44 @@ public class WebServiceResult {
     }
 
     /**
-     * Send.
+     * Send. The result is sent to the results topic in the background, so the
+     * processor can go on with the next message.
      */
     public void send() {
-        if (Objects.isNull(ActiveMQDirector.getResultsTopic())) {
+        ExecutorService resultsPublisher = ActiveMQDirector.getResultsPublisher();
+        if (Objects.isNull(ActiveMQDirector.getResultsTopic()) || Objects.isNull(resultsPublisher)) {
             // If reporting to ActiveMQ is disabled, write log message
             logger.log(level == ReportLevel.SUCCESS ? Level.INFO : Level.WARN,
                 "Processing message \"" + id + '@' + queueName + "\" reports " + level.toLowerCase() + "."
                         + (Objects.nonNull(message) ? " (" + message + ")" : ""));
         } else {
+            String timestamp = ISODateTimeFormat.dateTime().print(new DateTime());
             try {
-                MapMessage report = ActiveMQDirector.getSession().createMapMessage();
-
-                DateTime now = new DateTime();
-                report.setString("timestamp", ISODateTimeFormat.dateTime().print(now));
-                report.setString("queue", queueName);
-                report.setString("id", id);
-                report.setString("level", level.toLowerCase());
-                if (Objects.nonNull(message)) {
-                    report.setString("message", message);
-                }
+                resultsPublisher.execute(() -> publish(timestamp));
+            } catch (RejectedExecutionException e) {
+                logger.fatal("Error sending report  for \"" + id + '@' + queueName + "\" (" + level.toLowerCase()
+                        + (Objects.nonNull(message) ? ": " + message : "") + "): Shutting down.", e);
+            }
+        }
+    }
 
-                ActiveMQDirector.getResultsTopic().send(report);
+    private void publish(String timestamp) {
+        try {
+            MapMessage report = ActiveMQDirector.getSession().createMapMessage();
 
-            } catch (JMSException | RuntimeException e) {
-                logger.fatal("Error sending report  for \"" + id + '@' + queueName + "\" (" + level.toLowerCase()
-                        + (Objects.nonNull(message) ? ": " + message : "") + "): Giving up.", e);
+            report.setString("timestamp", timestamp);
+            report.setString("queue", queueName);
+            report.setString("id", id);
+            report.setString("level", level.toLowerCase());
+            if (Objects.nonNull(message)) {
+                report.setString("message", message);
             }
+
+            ActiveMQDirector.getResultsTopic().send(report);
+
+        } catch (JMSException | RuntimeException e) {
+            logger.fatal("Error sending report  for \"" + id + '@' + queueName + "\" (" + level.toLowerCase()
+                    + (Objects.nonNull(message) ? ": " + message : "") + "): Giving up.", e);
         }
     }
 }
@@ -73,7 +73,8 @@ public class CreateNewProcessProcessor extends ActiveMQProcessor {
     private static final String ERROR_CREATE = "errorCreating";
 
     public CreateNewProcessProcessor() {
-        super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_CREATE_NEW_PROCESSES_QUEUE).orElse(null));
+        super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_CREATE_NEW_PROCESSES_QUEUE).orElse(null),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ACTIVE_MQ_CREATE_NEW_PROCESSES_CONSUMERS));
     }
 
     @Override
@@ -42,7 +42,8 @@ public class FinaliseStepProcessor extends ActiveMQProcessor {
      * ActiveMQDirector.registerListeners() from starting this service.
      */
     public FinaliseStepProcessor() {
-        super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_FINALIZE_STEP_QUEUE).orElse(null));
+        super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_FINALIZE_STEP_QUEUE).orElse(null),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ACTIVE_MQ_FINALIZE_STEP_CONSUMERS));
     }
 
     /**
@@ -0,0 +1,64 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.goobi.production.flow.helper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes search results as comma separated values according to RFC 4180. The
+ * first line contains the column headers, the title is left out.
+ */
+class CsvSearchResultWriter implements SearchResultWriter {
+
+    private static final String LINE_BREAK = "\r\n";
+
+    private final Writer writer;
+
+    CsvSearchResultWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void start(String title, List<String> header) throws IOException {
+        writeRow(header);
+    }
+
+    @Override
+    public void writeRow(List<String> row) throws IOException {
+        for (int i = 0; i < row.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(row.get(i)));
+        }
+        writer.write(LINE_BREAK);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
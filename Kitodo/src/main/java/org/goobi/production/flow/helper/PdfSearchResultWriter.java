@@ -0,0 +1,90 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.goobi.production.flow.helper;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes search results as a table into a PDF file. The table is handed over
+ * to the PDF writer in parts, so that the finished pages don't stay in
+ * memory.
+ */
+class PdfSearchResultWriter implements SearchResultWriter {
+
+    /**
+     * Number of rows after which the table written so far is output.
+     */
+    private static final int ROWS_PER_PART = 500;
+
+    private final Document document;
+    private PdfPTable table;
+    private int rows;
+
+    PdfSearchResultWriter(OutputStream outputStream) throws IOException {
+        document = new Document(new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth()));
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+            writer.setCloseStream(false);
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        }
+        document.open();
+    }
+
+    @Override
+    public void start(String title, List<String> header) throws IOException {
+        add(new Paragraph(title));
+        table = new PdfPTable(header.size());
+        table.setSpacingBefore(20);
+        table.setComplete(false);
+        table.setHeaderRows(1);
+        for (String value : header) {
+            table.addCell(value);
+        }
+    }
+
+    @Override
+    public void writeRow(List<String> row) throws IOException {
+        for (String value : row) {
+            table.addCell(value);
+        }
+        if (++rows % ROWS_PER_PART == 0) {
+            add(table);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        table.setComplete(true);
+        add(table);
+        document.close();
+    }
+
+    private void add(Element element) throws IOException {
+        try {
+            document.add(element);
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        }
+    }
+}
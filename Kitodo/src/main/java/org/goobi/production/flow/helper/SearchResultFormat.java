@@ -0,0 +1,65 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.goobi.production.flow.helper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * File formats in which search results can be exported.
+ */
+public enum SearchResultFormat {
+
+    /**
+     * Comma separated values. Rows are written as they are read, so there is
+     * no limit of the number of rows.
+     */
+    CSV("search.csv"),
+
+    /**
+     * PDF table. Rows are written page by page, so there is no limit of the
+     * number of rows.
+     */
+    PDF("search.pdf"),
+
+    /**
+     * Excel workbook. It is kept in memory until it is complete. If the rows
+     * don't fit into one sheet, further sheets are added.
+     */
+    XLS("search.xls");
+
+    private final String fileName;
+
+    SearchResultFormat(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the name under which the file is offered for download.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    SearchResultWriter createWriter(OutputStream outputStream) throws IOException {
+        switch (this) {
+            case CSV:
+                return new CsvSearchResultWriter(outputStream);
+            case PDF:
+                return new PdfSearchResultWriter(outputStream);
+            default:
+                return new XlsSearchResultWriter(outputStream);
+        }
+    }
+}
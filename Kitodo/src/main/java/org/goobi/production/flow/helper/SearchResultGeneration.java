@@ -11,26 +11,28 @@
 
 package org.goobi.production.flow.helper;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.text.DateFormat;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.function.LongConsumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.search.sort.SortOrder;
-import org.kitodo.data.database.beans.Process;
-import org.kitodo.data.database.beans.Property;
-import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.exceptions.DataException;
-import org.kitodo.production.dto.ProcessDTO;
+import org.kitodo.production.dto.PropertyDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
@@ -40,10 +42,20 @@ public class SearchResultGeneration {
     private String filter;
     private boolean showClosedProcesses;
     private boolean showInactiveProjects;
+    private final List<String> header;
     private static final Logger logger = LogManager.getLogger(SearchResultGeneration.class);
 
+    private static final String ALT_REF_NO = "AltRefNo";
+    private static final String B_NUMBER = "b-number";
+    private static final String INDEX_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final String[] FIELDS = {ProcessTypeField.TITLE.getKey(), ProcessTypeField.CREATION_DATE.getKey(),
+        ProcessTypeField.SORT_HELPER_IMAGES.getKey(), ProcessTypeField.SORT_HELPER_DOCSTRUCTS.getKey(),
+        ProcessTypeField.SORT_HELPER_STATUS.getKey(), ProcessTypeField.PROJECT_TITLE.getKey(),
+        ProcessTypeField.PROPERTIES.getKey() };
+
     /**
-     * Constructor.
+     * Constructor. The column headers are translated here, so that the result
+     * can also be written outside of the request.
      *
      * @param filter
      *            String
@@ -56,37 +68,53 @@ public class SearchResultGeneration {
         this.filter = filter;
         this.showClosedProcesses = showClosedProcesses;
         this.showInactiveProjects = showInactiveProjects;
+        this.header = Arrays.asList(Helper.getTranslation("title"), Helper.getTranslation("ID"),
+            Helper.getTranslation("Datum"), Helper.getTranslation("CountImages"),
+            Helper.getTranslation("CountMetadata"), Helper.getTranslation("Project"), Helper.getTranslation("Status"),
+            Helper.getTranslation(ALT_REF_NO), Helper.getTranslation(B_NUMBER));
     }
 
     /**
-     * Get result.
+     * Count the processes found by the filter.
      *
-     * @return HSSFWorkbook
+     * @return number of processes
      */
-    public HSSFWorkbook getResult() {
-        List<ProcessDTO> resultsWithFilter = getResultsWithFilter();
-
-        List<Process> processes = new ArrayList<>();
-        try {
-            processes = ServiceManager.getProcessService().convertDtosToBeans(resultsWithFilter);
-        } catch (DAOException e) {
-            logger.error(e.getMessage(), e);
-        }
-
-        return getWorkbook(processes);
+    public Long count() throws DataException {
+        return ServiceManager.getProcessService().count(getQueryForFilter(ObjectType.PROCESS));
     }
 
-    private List<ProcessDTO> getResultsWithFilter() {
-        List<ProcessDTO> processDTOS = new ArrayList<>();
-
-        try {
-            processDTOS = ServiceManager.getProcessService().findByQuery(getQueryForFilter(ObjectType.PROCESS),
-                    ServiceManager.getProcessService().sortByTitle(SortOrder.ASC), false);
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
-        }
-
-        return processDTOS;
+    /**
+     * Write the processes found by the filter to an output stream. The
+     * processes are read from the index page by page and written right away,
+     * the database is not accessed.
+     *
+     * @param format
+     *            file format to write
+     * @param outputStream
+     *            stream to write to, it is flushed, but not closed
+     * @param progress
+     *            is informed about the number of processes written so far
+     */
+    public void write(SearchResultFormat format, OutputStream outputStream, LongConsumer progress)
+            throws DataException, IOException {
+        SearchResultWriter writer = format.createWriter(outputStream);
+        writer.start(this.filter, header);
+        long[] written = {0 };
+        ServiceManager.getProcessService().scrollDocumentsByQuery(getQueryForFilter(ObjectType.PROCESS),
+            ServiceManager.getProcessService().sortByTitle(SortOrder.ASC), FIELDS, page -> {
+                Map<Integer, PropertyDTO> properties = ServiceManager.getPropertyService()
+                        .findTitlesAndValues(getPropertyIds(page));
+                try {
+                    for (Map<String, Object> process : page) {
+                        writer.writeRow(prepareRow(process, properties));
+                    }
+                } catch (IOException e) {
+                    throw new DataException(e);
+                }
+                written[0] += page.size();
+                progress.accept(written[0]);
+            });
+        writer.finish();
     }
 
     /**
@@ -113,63 +141,63 @@ public class SearchResultGeneration {
         return query;
     }
 
-    private HSSFWorkbook getWorkbook(List<Process> processes) {
-        HSSFWorkbook workbook = new HSSFWorkbook();
-        HSSFSheet sheet = workbook.createSheet("Search results");
-
-        HSSFRow title = sheet.createRow(0);
-        title.createCell(0).setCellValue(this.filter);
-        for (int i = 1; i < 9; i++) {
-            title.createCell(i).setCellValue("");
+    private Set<Integer> getPropertyIds(List<Map<String, Object>> page) throws DataException {
+        Set<Integer> propertyIds = new HashSet<>();
+        for (Map<String, Object> process : page) {
+            List<Map<String, Object>> properties = ProcessTypeField.PROPERTIES.getJsonArray(process);
+            if (Objects.nonNull(properties)) {
+                for (Map<String, Object> property : properties) {
+                    propertyIds.add((Integer) property.get("id"));
+                }
+            }
         }
+        return propertyIds;
+    }
 
-        HSSFRow rowHeader = sheet.createRow(1);
-        rowHeader.createCell(0).setCellValue(Helper.getTranslation("title"));
-        rowHeader.createCell(1).setCellValue(Helper.getTranslation("ID"));
-        rowHeader.createCell(2).setCellValue(Helper.getTranslation("Datum"));
-        rowHeader.createCell(3).setCellValue(Helper.getTranslation("CountImages"));
-        rowHeader.createCell(4).setCellValue(Helper.getTranslation("CountMetadata"));
-        rowHeader.createCell(5).setCellValue(Helper.getTranslation("Project"));
-        rowHeader.createCell(6).setCellValue(Helper.getTranslation("Status"));
-        rowHeader.createCell(7).setCellValue(Helper.getTranslation("AltRefNo"));
-        rowHeader.createCell(8).setCellValue(Helper.getTranslation("b-number"));
-
-        int rowCounter = 2;
-        for (Process process : processes) {
-            prepareRow(rowCounter, sheet, process);
-            rowCounter++;
+    private List<String> prepareRow(Map<String, Object> process, Map<Integer, PropertyDTO> properties)
+            throws DataException {
+        List<String> row = new ArrayList<>(header.size());
+        row.add(Objects.toString(ProcessTypeField.TITLE.getStringValue(process), ""));
+        row.add(String.valueOf(process.get(ProcessTypeField.ID.getKey())));
+        row.add(formatCreationDate(ProcessTypeField.CREATION_DATE.getStringValue(process)));
+        row.add(Objects.toString(process.get(ProcessTypeField.SORT_HELPER_IMAGES.getKey()), ""));
+        row.add(Objects.toString(process.get(ProcessTypeField.SORT_HELPER_DOCSTRUCTS.getKey()), ""));
+        row.add(Objects.toString(ProcessTypeField.PROJECT_TITLE.getStringValue(process), ""));
+        String sortHelperStatus = ProcessTypeField.SORT_HELPER_STATUS.getStringValue(process);
+        if (Objects.nonNull(sortHelperStatus) && sortHelperStatus.length() >= 6) {
+            sortHelperStatus = sortHelperStatus.substring(0, 3) + " / " + sortHelperStatus.substring(3, 6) + " / "
+                    + sortHelperStatus.substring(6);
+        }
+        row.add(Objects.toString(sortHelperStatus, ""));
+        String altRefNo = "";
+        String bNumber = "";
+        List<Map<String, Object>> processProperties = ProcessTypeField.PROPERTIES.getJsonArray(process);
+        if (Objects.nonNull(processProperties)) {
+            for (Map<String, Object> processProperty : processProperties) {
+                PropertyDTO property = properties.get(processProperty.get("id"));
+                if (Objects.nonNull(property) && ALT_REF_NO.equals(property.getTitle())) {
+                    altRefNo = property.getValue();
+                } else if (Objects.nonNull(property) && B_NUMBER.equals(property.getTitle())) {
+                    bNumber = property.getValue();
+                }
+            }
         }
-        return workbook;
+        row.add(altRefNo);
+        row.add(bNumber);
+        return row;
     }
 
-    private void prepareRow(int rowCounter, HSSFSheet sheet, Process process) {
-        HSSFRow row = sheet.createRow(rowCounter);
-        row.createCell(0).setCellValue(process.getTitle());
-        row.createCell(1).setCellValue(process.getId());
-        DateFormat df = new SimpleDateFormat("dd MMM yyyy kk:mm:ss z");
-        df.setTimeZone(TimeZone.getTimeZone("GMT"));
-        String gmtCreationDate = df.format(process.getCreationDate());
-        row.createCell(2).setCellValue(gmtCreationDate);
-        row.createCell(3).setCellValue(process.getSortHelperImages());
-        row.createCell(4).setCellValue(process.getSortHelperDocstructs());
-        row.createCell(5).setCellValue(process.getProject().getTitle());
-        String sortHelperStatus = "";
-        if (Objects.nonNull(process.getSortHelperStatus())) {
-            sortHelperStatus = process.getSortHelperStatus().substring(0, 3) + " / "
-                    + process.getSortHelperStatus().substring(3, 6) + " / "
-                    + process.getSortHelperStatus().substring(6);
+    private String formatCreationDate(String creationDate) {
+        if (Objects.isNull(creationDate) || creationDate.isEmpty()) {
+            return "";
         }
-        row.createCell(6).setCellValue(sortHelperStatus);
-        HSSFCell cellSeven = row.createCell(7);
-        cellSeven.setCellValue("");
-        HSSFCell cellEight = row.createCell(8);
-        cellEight.setCellValue("");
-        for (Property property : process.getProperties()) {
-            if (property.getTitle().equals("AltRefNo")) {
-                cellSeven.setCellValue(property.getValue());
-            } else if (property.getTitle().equals("b-number")) {
-                cellEight.setCellValue(property.getValue());
-            }
+        try {
+            DateFormat df = new SimpleDateFormat("dd MMM yyyy kk:mm:ss z");
+            df.setTimeZone(TimeZone.getTimeZone("GMT"));
+            return df.format(new SimpleDateFormat(INDEX_DATE_FORMAT).parse(creationDate));
+        } catch (ParseException e) {
+            logger.warn("Creation date {} cannot be parsed", creationDate);
+            return creationDate;
         }
     }
 }
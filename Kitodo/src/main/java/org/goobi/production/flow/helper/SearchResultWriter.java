@@ -0,0 +1,44 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.goobi.production.flow.helper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes search results in a file format, row by row.
+ */
+interface SearchResultWriter {
+
+    /**
+     * Writes the title and the column headers.
+     *
+     * @param title
+     *            title of the search result, the filter
+     * @param header
+     *            column headers
+     */
+    void start(String title, List<String> header) throws IOException;
+
+    /**
+     * Writes a row.
+     *
+     * @param row
+     *            values of the row, one per column
+     */
+    void writeRow(List<String> row) throws IOException;
+
+    /**
+     * Completes the file. The output stream is flushed, but not closed.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.goobi.production.flow.helper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+
+/**
+ * Writes search results into an Excel workbook. The first sheet starts with
+ * the title, every sheet with the column headers. When a sheet is full, the
+ * rows continue on a new sheet.
+ */
+class XlsSearchResultWriter implements SearchResultWriter {
+
+    /**
+     * Maximal number of rows of a sheet in the Excel 97 format.
+     */
+    private static final int MAX_ROWS = 65536;
+
+    private static final String SHEET_NAME = "Search results";
+
+    private final OutputStream outputStream;
+    private final HSSFWorkbook workbook = new HSSFWorkbook();
+    private List<String> header;
+    private HSSFSheet sheet;
+    private int rowCounter;
+
+    XlsSearchResultWriter(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void start(String title, List<String> header) {
+        this.header = header;
+        sheet = workbook.createSheet(SHEET_NAME);
+        HSSFRow titleRow = sheet.createRow(0);
+        titleRow.createCell(0).setCellValue(title);
+        for (int i = 1; i < header.size(); i++) {
+            titleRow.createCell(i).setCellValue("");
+        }
+        rowCounter = 1;
+        writeCells(header);
+    }
+
+    @Override
+    public void writeRow(List<String> row) {
+        if (rowCounter == MAX_ROWS) {
+            sheet = workbook.createSheet(SHEET_NAME + " (" + (workbook.getNumberOfSheets() + 1) + ")");
+            rowCounter = 0;
+            writeCells(header);
+        }
+        writeCells(row);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(outputStream);
+        outputStream.flush();
+    }
+
+    private void writeCells(List<String> values) {
+        HSSFRow row = sheet.createRow(rowCounter++);
+        for (int i = 0; i < values.size(); i++) {
+            row.createCell(i).setCellValue(values.get(i));
+        }
+    }
+}
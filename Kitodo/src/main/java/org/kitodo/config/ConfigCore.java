@@ -95,19 +95,6 @@ public class ConfigCore extends KitodoConfig {
         throw new ConfigParameterException(parameter.getKey(), "long");
     }
 
-    /**
-     * Request long parameter or default value from configuration.
-     *
-     * @param key
-     *            as Parameter whose value is to be returned
-     * @param defaultValue
-     *            as long
-     * @return Parameter as long or default value
-     */
-    public static long getLongParameter(ParameterCore key, long defaultValue) {
-        return getConfig().getLong(key.getName(), defaultValue);
-    }
-
     /**
      * Request Duration parameter from configuration.
      *
@@ -122,17 +109,6 @@ public class ConfigCore extends KitodoConfig {
         return new Duration(TimeUnit.MILLISECONDS.convert(duration, timeUnit));
     }
 
-    /**
-     * Request String[]-parameter from Configuration.
-     *
-     * @param key
-     *            as Parameter whose value is to be returned
-     * @return Parameter as String[]
-     */
-    public static String[] getStringArrayParameter(ParameterCore key) {
-        return getConfig().getStringArray(key.getName());
-    }
-
     /**
      * Get Kitodo diagram directory.
      *
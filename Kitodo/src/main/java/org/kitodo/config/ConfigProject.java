@@ -14,6 +14,7 @@ package org.kitodo.config;
 import de.unigoettingen.sub.search.opac.ConfigOpac;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,7 +27,6 @@ import javax.faces.model.SelectItem;
 
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.configuration.XMLConfiguration;
-import org.apache.commons.configuration.reloading.FileChangedReloadingStrategy;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,6 +37,12 @@ public class ConfigProject {
 
     private static final Logger logger = LogManager.getLogger(ConfigProject.class);
 
+    /**
+     * The parsed project configuration, shared by all instances. It is
+     * replaced when the file changes.
+     */
+    private static volatile XMLConfiguration projectConfiguration;
+
     private XMLConfiguration config;
     private String projectTitle;
 
@@ -54,19 +60,7 @@ public class ConfigProject {
      *             if config file not found
      */
     public ConfigProject(String projectTitle) throws IOException {
-        KitodoConfigFile configFile = KitodoConfigFile.PROJECT_CONFIGURATION;
-
-        if (!configFile.exists()) {
-            throw new IOException("File not found: " + configFile.getAbsolutePath());
-        }
-        try {
-            this.config = new XMLConfiguration(configFile.getAbsolutePath());
-        } catch (ConfigurationException e) {
-            logger.error(e.getMessage(), e);
-            this.config = new XMLConfiguration();
-        }
-        this.config.setListDelimiter('&');
-        this.config.setReloadingStrategy(new FileChangedReloadingStrategy());
+        this.config = getProjectConfiguration();
 
         int countProjects = this.config.getMaxIndex("project");
         for (int i = 0; i <= countProjects; i++) {
@@ -84,6 +78,54 @@ public class ConfigProject {
         }
     }
 
+    private static XMLConfiguration getProjectConfiguration() throws IOException {
+        XMLConfiguration configuration = projectConfiguration;
+        if (Objects.isNull(configuration)) {
+            synchronized (ConfigProject.class) {
+                configuration = projectConfiguration;
+                if (Objects.isNull(configuration)) {
+                    KitodoConfigFile configFile = KitodoConfigFile.PROJECT_CONFIGURATION;
+                    if (!configFile.exists()) {
+                        throw new IOException("File not found: " + configFile.getAbsolutePath());
+                    }
+                    configuration = loadProjectConfiguration(configFile);
+                    projectConfiguration = configuration;
+                    ConfigFileWatcher.watch(Paths.get(configFile.getAbsolutePath()),
+                        () -> reloadProjectConfiguration(configFile));
+                }
+            }
+        }
+        return configuration;
+    }
+
+    /**
+     * Replaces the project configuration by the changed file. If the file
+     * cannot be loaded, for example because it is only half written, the
+     * configuration is kept.
+     */
+    static void reloadProjectConfiguration(KitodoConfigFile configFile) {
+        try {
+            XMLConfiguration configuration = new XMLConfiguration(configFile.getAbsolutePath());
+            configuration.setListDelimiter('&');
+            projectConfiguration = configuration;
+        } catch (ConfigurationException e) {
+            logger.warn("Reloading of " + configFile.getAbsolutePath()
+                    + " failed. Keeping the configuration loaded before.", e);
+        }
+    }
+
+    private static XMLConfiguration loadProjectConfiguration(KitodoConfigFile configFile) {
+        XMLConfiguration configuration;
+        try {
+            configuration = new XMLConfiguration(configFile.getAbsolutePath());
+        } catch (ConfigurationException e) {
+            logger.error(e.getMessage(), e);
+            configuration = new XMLConfiguration();
+        }
+        configuration.setListDelimiter('&');
+        return configuration;
+    }
+
     /**
      * Get doc type.
      *
@@ -226,7 +268,6 @@ public class ConfigProject {
      */
     public String getParamString(String inParameter) {
         try {
-            this.config.setListDelimiter('&');
             String paramString = this.config.getString(this.projectTitle + inParameter);
             return cleanXmlFormattedString(paramString);
         } catch (RuntimeException e) {
@@ -243,7 +284,6 @@ public class ConfigProject {
      */
     public String getParamString(String parameter, String defaultIfNull) {
         try {
-            this.config.setListDelimiter('&');
             String myParam = this.projectTitle + parameter;
             String paramString = this.config.getString(myParam, defaultIfNull);
             return cleanXmlFormattedString(paramString);
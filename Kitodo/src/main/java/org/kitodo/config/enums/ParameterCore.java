@@ -176,6 +176,18 @@ public enum ParameterCore implements ParameterInterface {
      */
     SCRIPT_DELETE_SYMLINK(new Parameter<UndefinedParameter>("script_deleteSymLink")),
 
+    /**
+     * Integer, number of scripts run at the same time. Further scripts wait
+     * until one of them has finished. Defaults to 4.
+     */
+    SCRIPT_THREADS(new Parameter<>("script.threads", 4)),
+
+    /**
+     * Integer, maximum run time of a script in seconds, after which it is
+     * terminated. 0 means no limit. Defaults to 0.
+     */
+    SCRIPT_TIMEOUT(new Parameter<>("script.timeout", 0)),
+
     /**
      * Process property to use in the name of the smLink.
      */
@@ -219,6 +231,13 @@ public enum ParameterCore implements ParameterInterface {
      */
     DONE_DIRECTORY_NAME(new Parameter<>("image.doneDirectoryName", "fertig/")),
 
+    /**
+     * Integer, number of images for which derivatives are generated at the
+     * same time. 1 generates them one after the other, 0 uses one thread per
+     * processor core.
+     */
+    IMAGE_GENERATOR_THREADS(new Parameter<>("image.generator.threads", 1)),
+
     /*
      * VISUAL APPEARANCE
      *
@@ -296,6 +315,12 @@ public enum ParameterCore implements ParameterInterface {
     METS_EDITOR_LOCKING_TIME(
             new Parameter<>("metsEditor.lockingTime", TimeUnit.MILLISECONDS.convert(30, TimeUnit.MINUTES))),
 
+    /**
+     * Integer, number of rulesets which are kept opened for the metadata
+     * editor, validation and process creation. Defaults to 20.
+     */
+    RULESET_CACHE_SIZE(new Parameter<>("rulesetCacheSize", 20)),
+
     /**
      * Use special image folder for METS editor if exists (define suffix here).
      */
@@ -410,6 +435,12 @@ public enum ParameterCore implements ParameterInterface {
      */
     MASS_IMPORT_UNIQUE_TITLE(new Parameter<>("MassImportUniqueTitle", true)),
 
+    /**
+     * Integer, number of records fetched at the same time during a mass
+     * import, e.g. from a library catalogue. Defaults to 4.
+     */
+    MASS_IMPORT_FETCH_THREADS(new Parameter<>("massImport.fetchThreads", 4)),
+
     /**
      * Colours used to represent the issues in the calendar editor.
      */
@@ -422,6 +453,18 @@ public enum ParameterCore implements ParameterInterface {
      */
     MINIMAL_NUMBER_OF_PAGES(new Parameter<UndefinedParameter>("numberOfPages.minimum")),
 
+    /**
+     * Integer, number of newspaper processes which are created together in
+     * one transaction and sent to the index in one request. Defaults to 100.
+     */
+    NEWSPAPER_CHUNK_SIZE(new Parameter<>("newspaper.chunkSize", 100)),
+
+    /**
+     * Integer, number of METS files written at the same time during newspaper
+     * process creation. Defaults to 4.
+     */
+    NEWSPAPER_WRITE_THREADS(new Parameter<>("newspaper.writeThreads", 4)),
+
     /*
      * Batch processing
      */
@@ -532,6 +575,19 @@ public enum ParameterCore implements ParameterInterface {
      */
     EXPORT_WITHOUT_TIME_LIMIT(new Parameter<>("exportWithoutTimeLimit", true)),
 
+    /**
+     * Integer, number of files copied at the same time during an export.
+     * Defaults to 4.
+     */
+    EXPORT_COPY_THREADS(new Parameter<>("export.copyThreads", 4)),
+
+    /**
+     * Whether files are hard-linked instead of copied during an export, if
+     * the export folder is on the same file system. Boolean, defaults to
+     * {@code false}.
+     */
+    EXPORT_HARD_LINKS(new Parameter<>("export.hardLinks", false)),
+
     /*
      * REMOTE SERVICES
      *
@@ -602,6 +658,12 @@ public enum ParameterCore implements ParameterInterface {
      */
     PROCESS_PROPERTIES(new Parameter<>("processPropertyColumns")),
 
+    /**
+     * Integer, number of processes from which a search result is exported by
+     * a task in the task manager instead of directly. Defaults to 10000.
+     */
+    SEARCH_RESULT_BACKGROUND_THRESHOLD(new Parameter<>("searchResult.backgroundThreshold", 10000)),
+
     /**
      * Default client parameter to be returned if no session client could be determined by user service.
      */
@@ -622,6 +684,24 @@ public enum ParameterCore implements ParameterInterface {
 
     ACTIVE_MQ_FINALIZE_STEP_QUEUE(new Parameter<UndefinedParameter>("activeMQ.finaliseStep.queue")),
 
+    /**
+     * Integer, number of messages from the create new process queue which are
+     * processed at the same time. Defaults to 1.
+     */
+    ACTIVE_MQ_CREATE_NEW_PROCESSES_CONSUMERS(new Parameter<>("activeMQ.createNewProcess.consumers", 1)),
+
+    /**
+     * Integer, number of messages from the finalise step queue which are
+     * processed at the same time. Defaults to 1.
+     */
+    ACTIVE_MQ_FINALIZE_STEP_CONSUMERS(new Parameter<>("activeMQ.finaliseStep.consumers", 1)),
+
+    /**
+     * Integer, number of messages the server hands out to each consumer ahead
+     * of processing. Defaults to 1.
+     */
+    ACTIVE_MQ_PREFETCH(new Parameter<>("activeMQ.prefetch", 1)),
+
     ACTIVE_MQ_RESULTS_TOPIC(new Parameter<UndefinedParameter>("activeMQ.results.topic")),
 
     /**
@@ -635,7 +715,58 @@ public enum ParameterCore implements ParameterInterface {
      */
 
     ELASTICSEARCH_BATCH(new Parameter<>("elasticsearch.batch", 500)),
-    ELASTICSEARCH_INDEXLIMIT(new Parameter<>("elasticsearch.indexLimit", 5000));
+
+    /**
+     * Integer, number of threads which build index documents while indexing one
+     * object type. It can be set for single object type by appending its name,
+     * e.g. elasticsearch.indexing.workers.process=4.
+     */
+    ELASTICSEARCH_INDEXING_WORKERS(new Parameter<>("elasticsearch.indexing.workers", 2)),
+
+    /**
+     * Integer, number of threads which send bulk requests to the index while
+     * indexing one object type. It can be set for single object type by
+     * appending its name, e.g. elasticsearch.indexing.senders.process=2.
+     */
+    ELASTICSEARCH_INDEXING_SENDERS(new Parameter<>("elasticsearch.indexing.senders", 1)),
+
+    /**
+     * Integer, number of batches which can wait between two stages of indexing.
+     * If a queue is full, the previous stage waits.
+     */
+    ELASTICSEARCH_INDEXING_QUEUE_SIZE(new Parameter<>("elasticsearch.indexing.queueSize", 4)),
+
+    /**
+     * Boolean, if true, the metadata of processes is read from the METS file
+     * by a streaming parser which only keeps the dmdSec elements, otherwise
+     * the whole file is converted to JSON first. Both give the same index
+     * documents.
+     */
+    ELASTICSEARCH_INDEXING_STREAM_METADATA(new Parameter<>("elasticsearch.indexing.streamMetadata", true)),
+
+    /**
+     * Boolean, if true, saving an object only records the change in the index
+     * outbox table, and a background writer sends the changes to the index.
+     */
+    ELASTICSEARCH_OUTBOX(new Parameter<>("elasticsearch.outbox", false)),
+
+    /**
+     * Integer, value in milliseconds the background writer waits between two
+     * runs. Changes of the same object within this time are sent only once.
+     */
+    ELASTICSEARCH_OUTBOX_INTERVAL(new Parameter<>("elasticsearch.outbox.interval", 1000)),
+
+    /**
+     * Integer, number of failed attempts after which a change is no longer
+     * sent to the index. It stays in the index outbox table for inspection.
+     */
+    ELASTICSEARCH_OUTBOX_MAX_ATTEMPTS(new Parameter<>("elasticsearch.outbox.maxAttempts", 10)),
+
+    /**
+     * Integer, value in seconds a caller waits at most until its change is
+     * visible in the index, if it asked to wait.
+     */
+    ELASTICSEARCH_OUTBOX_WAIT_TIMEOUT(new Parameter<>("elasticsearch.outbox.waitTimeout", 30));
 
     private Parameter parameter;
 
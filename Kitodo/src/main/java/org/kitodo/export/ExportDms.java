@@ -14,6 +14,8 @@ package org.kitodo.export;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.NoSuchElementException;
@@ -51,7 +53,6 @@ public class ExportDms extends ExportMets {
     private String atsPpnBand;
     private boolean exportWithImages = true;
     private final FileService fileService = ServiceManager.getFileService();
-    private static final String EXPORT_DIR_DELETE = "errorDirectoryDeleting";
     private static final String ERROR_EXPORT = "errorExport";
 
     /**
@@ -171,24 +172,13 @@ public class ExportDms extends ExportMets {
 
             // if necessary, create process folder
             if (process.getProject().isDmsImportCreateProcessFolder()) {
-                URI userHomeProcess = fileService.createResource(userHome,
-                    File.separator + Helper.getNormalizedTitle(process.getTitle()));
-                destination = userHomeProcess;
-                boolean createProcessFolderResult = createProcessFolder(userHomeProcess, userHome, process.getTitle());
-                if (!createProcessFolderResult) {
-                    return false;
-                }
+                // a previous export is kept, its folders are replaced when copying
+                destination = fileService.createDirectory(userHome, Helper.getNormalizedTitle(process.getTitle()));
             }
         } else {
             destination = URI.create(destinationDirectory + atsPpnBand + "/");
-            // if the home exists, first delete and then create again
+            // a previous export is kept, its folders are replaced when copying
             userHome = destination;
-            if (!fileService.delete(userHome)) {
-                Helper.setErrorMessage(
-                    Helper.getTranslation(ERROR_EXPORT, Collections.singletonList(process.getTitle())),
-                    Helper.getTranslation(EXPORT_DIR_DELETE, Collections.singletonList("Home")));
-                return false;
-            }
             prepareUserDirectory(destination);
         }
         if (Objects.nonNull(exportDmsTask)) {
@@ -254,22 +244,6 @@ public class ExportDms extends ExportMets {
         return true;
     }
 
-    private boolean createProcessFolder(URI userHomeProcess, URI userHome, String processTitle)
-            throws IOException {
-        // delete old import folder
-        if (!fileService.delete(userHomeProcess)) {
-            Helper.setErrorMessage(Helper.getTranslation(ERROR_EXPORT, Collections.singletonList(processTitle)),
-                Helper.getTranslation(EXPORT_DIR_DELETE, Collections.singletonList("Import")));
-            return false;
-        }
-
-        if (!fileService.fileExist(userHomeProcess)) {
-            fileService.createDirectory(userHome, Helper.getNormalizedTitle(processTitle));
-        }
-
-        return true;
-    }
-
     private LegacyMetsModsDigitalDocumentHelper readDocument(Process process, LegacyMetsModsDigitalDocumentHelper newFile) {
         LegacyMetsModsDigitalDocumentHelper gdzfile;
         try {
@@ -430,7 +404,11 @@ public class ExportDms extends ExportMets {
     }
 
     /**
-     * Starts copying all directories configured as export folder.
+     * Starts copying all directories configured as export folder. The files
+     * are copied by several threads into a staging folder and the folders are
+     * replaced when all files have been copied. An interrupted export resumes
+     * with the files not yet copied, and files already exported unchanged are
+     * not copied again.
      *
      * @param process
      *            object
@@ -447,24 +425,31 @@ public class ExportDms extends ExportMets {
                 .collect(Collectors.toList());
         VariableReplacer variableReplacer = new VariableReplacer(null, null, process, null);
 
+        // without a process folder, the DMS import folder is shared with other processes
+        boolean ownFolder = !process.getProject().isUseDmsImport()
+                || process.getProject().isDmsImportCreateProcessFolder();
+        Path destinationPath = toPath(destination);
+        FolderExport folderExport = new FolderExport(destinationPath,
+                destinationPath.resolve("." + atsPpnBand + ".staging"),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.EXPORT_COPY_THREADS),
+                ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.EXPORT_HARD_LINKS), ownFolder);
         for (Subfolder processDir : processDirs) {
-            URI dstDir = destination.resolve(variableReplacer.replace(processDir.getFolder().getRelativePath()));
-            fileService.createDirectories(dstDir);
-
-            Collection<URI> srcs = processDir.listContents().values();
-            int progress = 0;
-            for (URI src : srcs) {
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setWorkDetail(fileService.getFileName(src));
-                }
-                fileService.copyFileToDirectory(src, dstDir);
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setProgress((int) ((progress++ + 1) * 98d / processDirs.size() / srcs.size() + 1));
-                    if (exportDmsTask.isInterrupted()) {
-                        throw new InterruptedException();
-                    }
-                }
+            folderExport.addFolder(variableReplacer.replace(processDir.getFolder().getRelativePath()),
+                processDir.listContents().values().stream().map(this::toPath).collect(Collectors.toList()));
+        }
+        int files = folderExport.getNumberOfFiles();
+        folderExport.copy(done -> {
+            if (Objects.nonNull(exportDmsTask)) {
+                exportDmsTask.setProgress((int) (done * 98d / files + 1));
             }
+        });
+        if (Objects.nonNull(exportDmsTask) && exportDmsTask.isInterrupted()) {
+            throw new InterruptedException();
         }
+        folderExport.publish();
+    }
+
+    private Path toPath(URI uri) {
+        return uri.isAbsolute() ? Paths.get(uri) : Paths.get(ConfigCore.getKitodoDataDirectory(), uri.getPath());
     }
 }
@@ -0,0 +1,309 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Copies the folders of a process into an export folder. The files are copied
+ * by several threads into a staging folder on the same file system first.
+ * Each copied file is recorded in a manifest in the staging folder, so that an
+ * interrupted export continues with the files not yet copied. Files which are
+ * already in the export folder with the same size and checksum are linked into
+ * the staging folder instead of being copied again. When all files are there,
+ * the staged folders are moved into place, replacing the previous ones, or, if
+ * the export folder is shared with other processes, the staged files are moved
+ * into the existing folders.
+ */
+class FolderExport {
+    private static final Logger logger = LogManager.getLogger(FolderExport.class);
+
+    private static final String MANIFEST = "manifest.txt";
+    private static final char SEPARATOR = '\t';
+
+    private final Path destination;
+    private final Path staging;
+    private final int threads;
+    private final boolean hardLinks;
+    private final boolean replaceFolders;
+    private volatile boolean hardLinksFailed;
+
+    /**
+     * Files to export by relative path of their folder in the export folder.
+     */
+    private final Map<String, Collection<Path>> folders = new LinkedHashMap<>();
+
+    /**
+     * Files copied into the staging folder, by path relative to the staging
+     * folder.
+     */
+    private final Map<String, ManifestEntry> manifest = new ConcurrentHashMap<>();
+    private BufferedWriter manifestWriter;
+
+    /**
+     * Source file state recorded in the manifest for a file copied.
+     */
+    private static final class ManifestEntry {
+        private final long size;
+        private final long lastModified;
+
+        private ManifestEntry(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Creates a folder export.
+     *
+     * @param destination
+     *            export folder to publish the folders to
+     * @param staging
+     *            folder to copy the files to first, must be on the same file
+     *            system as the export folder
+     * @param threads
+     *            number of files copied at the same time
+     * @param hardLinks
+     *            whether source files may be hard-linked instead of copied
+     * @param replaceFolders
+     *            whether the folders in the export folder belong to this
+     *            export alone and are replaced as a whole
+     */
+    FolderExport(Path destination, Path staging, int threads, boolean hardLinks, boolean replaceFolders) {
+        this.destination = destination;
+        this.staging = staging;
+        this.threads = Math.max(1, threads);
+        this.hardLinks = hardLinks;
+        this.replaceFolders = replaceFolders;
+    }
+
+    /**
+     * Adds a folder to export.
+     *
+     * @param relativePath
+     *            path of the folder in the export folder
+     * @param files
+     *            files to export into the folder
+     */
+    void addFolder(String relativePath, Collection<Path> files) {
+        folders.computeIfAbsent(relativePath, path -> new ArrayList<>()).addAll(files);
+    }
+
+    /**
+     * Returns the number of files to export.
+     *
+     * @return the number of files
+     */
+    int getNumberOfFiles() {
+        return folders.values().stream().mapToInt(Collection::size).sum();
+    }
+
+    /**
+     * Copies all files into the staging folder. If the thread is interrupted,
+     * the copying stops and the staging folder is kept to resume later.
+     *
+     * @param progress
+     *            is called with the number of files done after each file
+     * @throws IOException
+     *             if a file cannot be copied
+     * @throws InterruptedException
+     *             if the thread was interrupted
+     */
+    void copy(IntConsumer progress) throws IOException, InterruptedException {
+        Files.createDirectories(staging);
+        readManifest();
+        ExecutorService copiers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "export " + staging.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (BufferedWriter writer = Files.newBufferedWriter(staging.resolve(MANIFEST), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            manifestWriter = writer;
+            AtomicInteger done = new AtomicInteger();
+            List<Future<?>> copies = new ArrayList<>();
+            for (Map.Entry<String, Collection<Path>> folder : folders.entrySet()) {
+                Files.createDirectories(staging.resolve(folder.getKey()));
+                for (Path file : folder.getValue()) {
+                    copies.add(copiers.submit(() -> {
+                        stage(folder.getKey(), file);
+                        progress.accept(done.incrementAndGet());
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> copy : copies) {
+                copy.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } finally {
+            copiers.shutdownNow();
+        }
+    }
+
+    private void readManifest() throws IOException {
+        manifest.clear();
+        Path manifestFile = staging.resolve(MANIFEST);
+        if (!Files.exists(manifestFile)) {
+            return;
+        }
+        try (Stream<String> lines = Files.lines(manifestFile, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                String[] fields = line.split(String.valueOf(SEPARATOR));
+                if (fields.length == 3) {
+                    manifest.put(fields[0], new ManifestEntry(Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+                }
+            });
+        }
+    }
+
+    private void stage(String folder, Path source) throws IOException {
+        String fileName = source.getFileName().toString();
+        String relativePath = folder.isEmpty() ? fileName : folder + '/' + fileName;
+        Path staged = staging.resolve(relativePath);
+        long size = Files.size(source);
+        long lastModified = Files.getLastModifiedTime(source).toMillis();
+
+        ManifestEntry copied = manifest.get(relativePath);
+        if (Objects.nonNull(copied) && copied.size == size && copied.lastModified == lastModified
+                && Files.isRegularFile(staged) && Files.size(staged) == size) {
+            return;
+        }
+
+        Files.deleteIfExists(staged);
+        Path published = destination.resolve(relativePath);
+        if (Files.isRegularFile(published) && Files.size(published) == size
+                && checksum(published) == checksum(source)) {
+            if (!link(staged, published)) {
+                Files.copy(published, staged, StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        } else if (!hardLinks || !link(staged, source)) {
+            Files.copy(source, staged, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+        record(relativePath, new ManifestEntry(size, lastModified));
+    }
+
+    private boolean link(Path link, Path existing) {
+        if (hardLinksFailed) {
+            return false;
+        }
+        try {
+            Files.createLink(link, existing);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            // for example, on different file systems, so do not try again
+            logger.debug("Cannot hard-link {}: {}", existing, e.getMessage());
+            hardLinksFailed = true;
+            return false;
+        }
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[65536];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private synchronized void record(String relativePath, ManifestEntry entry) throws IOException {
+        manifest.put(relativePath, entry);
+        manifestWriter.write(relativePath + SEPARATOR + entry.size + SEPARATOR + entry.lastModified);
+        manifestWriter.newLine();
+        manifestWriter.flush();
+    }
+
+    /**
+     * Moves the staged folders into the export folder and removes the staging
+     * folder. Each folder, or each file if the folders are not replaced, is
+     * renamed, which is atomic, as the staging folder is on the same file
+     * system.
+     *
+     * @throws IOException
+     *             if a folder cannot be moved
+     */
+    void publish() throws IOException {
+        int replaced = 0;
+        for (String folder : folders.keySet()) {
+            Path staged = staging.resolve(folder);
+            Path published = destination.resolve(folder);
+            if (replaceFolders && !folder.isEmpty()) {
+                Files.createDirectories(published.getParent());
+                if (Files.exists(published)) {
+                    move(published, staging.resolve(".replaced" + replaced++));
+                }
+                move(staged, published);
+            } else {
+                Files.createDirectories(published);
+                try (Stream<Path> files = Files.list(staged)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        if (Files.isRegularFile(file) && !file.equals(staging.resolve(MANIFEST))) {
+                            move(file, published.resolve(file.getFileName()));
+                        }
+                    }
+                }
+            }
+        }
+        deleteRecursively(staging);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@
 package org.kitodo.export;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Paths;
@@ -26,6 +27,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.xslt.TemplatesCache;
 
 public class XsltHelper {
 
@@ -44,9 +46,8 @@ public class XsltHelper {
      */
     static ByteArrayOutputStream transformXmlByXslt(StreamSource source, URI xslFile)
             throws TransformerException, IOException {
-        StreamSource xsltSource = new StreamSource(xslFile.getPath());
-        TransformerFactory factory = TransformerFactory.newInstance();
-        Transformer transformer = factory.newTransformer(xsltSource);
+        Transformer transformer = TemplatesCache.getTemplates(new File(xslFile.getPath()),
+            TransformerFactory.newInstance()).newTransformer();
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             StreamResult streamResult = new StreamResult(outputStream);
             transformer.transform(source, streamResult);
@@ -335,8 +335,7 @@ public class BatchForm extends BaseForm {
         }
 
         for (Batch selectedBatch : this.selectedBatches) {
-            selectedBatch.getProcesses().removeAll(this.selectedProcesses);
-            ServiceManager.getBatchService().save(selectedBatch);
+            ServiceManager.getBatchService().removeProcesses(selectedBatch, this.selectedProcesses);
             if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.BATCHES_LOG_CHANGES)) {
                 addCommentsToBatchProcesses(Helper.getTranslation("removeFromBatch",
                         ServiceManager.getBatchService().getLabel(selectedBatch)));
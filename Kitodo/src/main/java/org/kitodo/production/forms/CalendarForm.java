@@ -36,6 +36,9 @@ import org.joda.time.LocalDate;
 import org.joda.time.ReadablePartial;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.DateUtils;
 import org.kitodo.production.helper.FacesUtils;
 import org.kitodo.production.helper.Helper;
@@ -44,6 +47,7 @@ import org.kitodo.production.model.bibliography.course.Block;
 import org.kitodo.production.model.bibliography.course.Course;
 import org.kitodo.production.model.bibliography.course.Granularity;
 import org.kitodo.production.model.bibliography.course.Issue;
+import org.kitodo.production.services.ServiceManager;
 import org.primefaces.model.UploadedFile;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
@@ -635,6 +639,13 @@ public class CalendarForm implements Serializable {
      */
     private LocalDate firstAppearanceIsToChange = null;
 
+    /**
+     * The field overallProcess holds the process that represents the entirety
+     * of the newspaper. The processes for the course of appearance are created
+     * as its children.
+     */
+    private Process overallProcess;
+
     /**
      * The constant field today hold the date of today. Reading the system clock
      * requires much synchronisation throughout the JVM and is therefore only
@@ -879,6 +890,32 @@ public class CalendarForm implements Serializable {
         return course;
     }
 
+    /**
+     * Returns the process that represents the entirety of the newspaper as
+     * read-only property "overallProcess" to pass it to the next form.
+     *
+     * @return the overall process
+     */
+    public Process getOverallProcess() {
+        return overallProcess;
+    }
+
+    /**
+     * Loads the process that represents the entirety of the newspaper whose
+     * course of appearance is edited.
+     *
+     * @param id
+     *            ID of the overall process
+     */
+    public void load(int id) {
+        try {
+            overallProcess = ServiceManager.getProcessService().getById(id);
+        } catch (DAOException e) {
+            Helper.setErrorMessage("errorLoadingOne", new Object[] {ObjectType.PROCESS.getTranslationSingular(), id },
+                logger, e);
+        }
+    }
+
     /**
      * Builds the empty calendar sheet with 31 rows
      * of twelve cells with empty objects of type Cell().
@@ -27,9 +27,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Process;
 import org.kitodo.production.helper.FacesUtils;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.XMLUtils;
+import org.kitodo.production.helper.tasks.CreateNewspaperProcessesTask;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.model.bibliography.course.Course;
 import org.kitodo.production.model.bibliography.course.Granularity;
 import org.w3c.dom.Document;
@@ -68,6 +71,15 @@ public class GranularityForm {
      */
     protected Long numberOfPages;
 
+    /**
+     * The field overallProcess holds the process that represents the entirety
+     * of the newspaper, as loaded by the calendar form. This field is a
+     * managed property which is automatically populated by JSF upon form
+     * creation by calling setOverallProcess().
+     */
+    @ManagedProperty(name = "overallProcess", value = "#{CalendarForm.overallProcess}")
+    protected Process overallProcess;
+
     /**
      * The procedure is called from the procedures which are
      * called if the user clicks one of the button to select the granularity
@@ -91,11 +103,9 @@ public class GranularityForm {
 
     /**
      * The procedure is called if the user clicks the
-     * button to create processes for the course of appearance. If the
-     * underlying ProzesskopieForm is incomplete, the user will be redirected
-     * back to the page to fix the problems and nothing more happens. If
-     * everything is fine, the meta data field “PublicationRun”—if available—is
-     * populated with the course of appearance in text form. Then, a long
+     * button to create processes for the course of appearance. If there is no
+     * overall process or no processes in the course of appearance, an error
+     * message is shown and nothing more happens. If everything is fine, a long
      * running task to create processes is prepared and the user will be
      * redirected to the task manager page where it can observe the task
      * progressing.
@@ -104,17 +114,11 @@ public class GranularityForm {
      *         in faces_config.xml
      */
     public String createProcessesClick() {
-        //TODO: find more elegant way to validate content from processCopyForm - avoid injection
-        /*if (!processCopyForm.isContentValid(false)) {
-            return null;
-        }
-        if (course == null || course.getNumberOfProcesses() < 1) {
+        if (Objects.isNull(overallProcess) || Objects.isNull(course) || course.getNumberOfProcesses() < 1) {
             Helper.setErrorMessage("errorDataIncomplete", "granularity.header");
             return null;
         }
-        CreateNewspaperProcessesTask createProcesses = new CreateNewspaperProcessesTask(processCopyForm, course,
-                generateBatches);
-        TaskManager.addTask(createProcesses);*/
+        TaskManager.addTask(new CreateNewspaperProcessesTask(overallProcess, course));
         return "/pages/taskmanager";
     }
 
@@ -366,6 +370,16 @@ public class GranularityForm {
         this.course = course;
     }
 
+    /**
+     * The method is called by JSF to inject the overall process into the form.
+     *
+     * @param overallProcess
+     *            process that represents the entirety of the newspaper
+     */
+    public void setOverallProcess(Process overallProcess) {
+        this.overallProcess = overallProcess;
+    }
+
     /**
      * The procedure is called by Faces on postbacks
      * to save the received value of the read-write property
@@ -18,7 +18,6 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -36,9 +35,7 @@ import javax.json.JsonReader;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.kitodo.config.ConfigCore;
 import org.kitodo.config.ConfigMain;
-import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.elasticsearch.index.IndexRestClient;
@@ -110,7 +107,7 @@ public class IndexingForm {
 
     private Map<ObjectType, SearchService> searchServices = new EnumMap<>(ObjectType.class);
 
-    private Map<ObjectType, List<IndexWorker>> indexWorkers = new EnumMap<>(ObjectType.class);
+    private Map<ObjectType, IndexWorker> indexWorkers = new EnumMap<>(ObjectType.class);
 
     private IndexWorker currentIndexWorker;
 
@@ -259,11 +256,8 @@ public class IndexingForm {
      * Starts the process of indexing all objects to the ElasticSearch index.
      */
     public void startAllIndexingRemaining() {
-        for (Map.Entry<ObjectType, List<IndexWorker>> workerEntry : indexWorkers.entrySet()) {
-            List<IndexWorker> indexWorkerList = workerEntry.getValue();
-            for (IndexWorker worker : indexWorkerList) {
-                worker.setIndexAllObjects(false);
-            }
+        for (IndexWorker worker : indexWorkers.values()) {
+            worker.setIndexAllObjects(false);
         }
         startAllIndexing();
     }
@@ -401,6 +395,25 @@ public class IndexingForm {
         return progress;
     }
 
+    /**
+     * Return the number of objects per second which passed given stage of the
+     * current or last indexing run of the given ObjectType. Stages are loading
+     * from database, building of index documents and sending them to the index.
+     *
+     * @param objectType
+     *            the ObjectType for which the throughput will be determined
+     * @param stage
+     *            name of the stage: LOAD, BUILD or SEND
+     * @return throughput of the stage in objects per second
+     */
+    public int getThroughput(ObjectType objectType, String stage) {
+        IndexWorker indexWorker = indexWorkers.get(objectType);
+        if (Objects.isNull(indexWorker)) {
+            return 0;
+        }
+        return indexWorker.getThroughput(IndexWorker.Stage.valueOf(stage));
+    }
+
     private void resetGlobalProgress() {
         for (ObjectType objectType : objectTypes) {
             indexedObjects.put(objectType, 0);
@@ -624,24 +637,8 @@ public class IndexingForm {
     }
 
     private void prepareIndexWorker() {
-
-        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
-        for (ObjectType objectType : ObjectType.values()) {
-            List<IndexWorker> indexWorkerList = new ArrayList<>();
-
-            int databaseObjectsSize = getNumberOfDatabaseObjects(objectType);
-            if (databaseObjectsSize > indexLimit) {
-                int start = 0;
-
-                while (start < databaseObjectsSize) {
-                    indexWorkerList.add(new IndexWorker(searchServices.get(objectType), start));
-                    start += indexLimit;
-                }
-            } else {
-                indexWorkerList.add(new IndexWorker(searchServices.get(objectType)));
-            }
-
-            indexWorkers.put(objectType, indexWorkerList);
+        for (ObjectType objectType : objectTypes) {
+            indexWorkers.put(objectType, new IndexWorker(searchServices.get(objectType), objectType));
         }
     }
 
@@ -673,11 +670,8 @@ public class IndexingForm {
      */
     private void startIndexing(ObjectType type) {
         if (countDatabaseObjects.get(type) > 0) {
-            List<IndexWorker> indexWorkerList = indexWorkers.get(type);
-            for (IndexWorker worker : indexWorkerList) {
-                currentIndexWorker = worker;
-                runIndexing(currentIndexWorker, type);
-            }
+            currentIndexWorker = indexWorkers.get(type);
+            runIndexing(currentIndexWorker, type);
         }
     }
 
@@ -689,12 +683,9 @@ public class IndexingForm {
      */
     private void startIndexingRemaining(ObjectType type) {
         if (countDatabaseObjects.get(type) > 0) {
-            List<IndexWorker> indexWorkerList = indexWorkers.get(type);
-            for (IndexWorker worker : indexWorkerList) {
-                worker.setIndexAllObjects(false);
-                currentIndexWorker = worker;
-                runIndexing(currentIndexWorker, type);
-            }
+            currentIndexWorker = indexWorkers.get(type);
+            currentIndexWorker.setIndexAllObjects(false);
+            runIndexing(currentIndexWorker, type);
         }
     }
 
@@ -16,8 +16,6 @@ import de.unigoettingen.sub.search.opac.ConfigOpac;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.net.URI;
-import java.nio.file.Files;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,12 +30,9 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.goobi.production.enums.ImportFormat;
-import org.goobi.production.enums.ImportReturnValue;
 import org.goobi.production.enums.ImportType;
 import org.goobi.production.enums.PluginType;
-import org.goobi.production.flow.helper.JobCreation;
 import org.goobi.production.importer.DocstructElement;
-import org.goobi.production.importer.ImportObject;
 import org.goobi.production.importer.Record;
 import org.goobi.production.plugin.PluginLoader;
 import org.goobi.production.plugin.interfaces.IImportPlugin;
@@ -56,6 +51,8 @@ import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.exceptions.ProcessGenerationException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
+import org.kitodo.production.helper.tasks.MassImportTask;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.services.ServiceManager;
 import org.primefaces.model.UploadedFile;
 
@@ -155,83 +152,52 @@ public class MassImportForm extends BaseForm {
     }
 
     /**
-     * Convert data.
+     * Convert data. The records are read here, while fetching their data and
+     * creating the processes runs in the task manager.
      *
      * @return String
      */
-    public String convertData() throws IOException {
+    public String convertData() {
         this.processList = new ArrayList<>();
         if (StringUtils.isEmpty(currentPlugin)) {
             Helper.setErrorMessage("missingPlugin");
             return this.stayOnCurrentPage;
         }
-        if (testForData()) {
-            List<ImportObject> answer = new ArrayList<>();
-
-            // found list with ids
-            LegacyPrefsHelper prefs = ServiceManager.getRulesetService().getPreferences(this.template.getRuleset());
-            String tempFolder = ConfigCore.getParameter(ParameterCore.DIR_TEMP);
-            this.plugin.setImportFolder(tempFolder);
-            this.plugin.setPrefs(prefs);
-            this.plugin.setOpacCatalogue(this.getOpacCatalogue());
-            this.plugin.setKitodoConfigDirectory(ConfigCore.getKitodoConfigDirectory());
-
-            if (StringUtils.isNotEmpty(this.idList)) {
-                answer = this.plugin.generateFiles(generateRecordList());
-            } else if (Objects.nonNull(this.importFile)) {
-                this.plugin.setFile(this.importFile);
-                answer = getAnswer(this.plugin.generateRecordsFromFile());
-            } else if (StringUtils.isNotEmpty(this.records)) {
-                answer = getAnswer(this.plugin.splitRecords(this.records));
-            } else if (!this.selectedFilenames.isEmpty()) {
-                answer = getAnswer(this.plugin.generateRecordsFromFilenames(this.selectedFilenames));
-            }
-
-            iterateOverAnswer(answer);
-
-            if (answer.size() != this.processList.size()) {
-                // some error on process generation, don't go to next page
-                return this.stayOnCurrentPage;
-            }
-        } else {
+        if (!testForData()) {
             Helper.setErrorMessage("missingData");
             return this.stayOnCurrentPage;
         }
 
-        removeFiles();
-
-        this.idList = null;
-        this.records = "";
-        return massImportThreePath;
-    }
+        // found list with ids
+        LegacyPrefsHelper prefs = ServiceManager.getRulesetService().getPreferences(this.template.getRuleset());
+        String tempFolder = ConfigCore.getParameter(ParameterCore.DIR_TEMP);
+        this.plugin.setImportFolder(tempFolder);
+        this.plugin.setPrefs(prefs);
+        this.plugin.setOpacCatalogue(this.getOpacCatalogue());
+        this.plugin.setKitodoConfigDirectory(ConfigCore.getKitodoConfigDirectory());
 
-    private void iterateOverAnswer(List<ImportObject> answer) throws IOException {
-        Batch batch = null;
-        if (answer.size() > 1) {
-            batch = getBatch();
+        List<Record> recordList = new ArrayList<>();
+        if (StringUtils.isNotEmpty(this.idList)) {
+            recordList = generateRecordList();
+        } else if (Objects.nonNull(this.importFile)) {
+            this.plugin.setFile(this.importFile);
+            recordList = setCollections(this.plugin.generateRecordsFromFile());
+        } else if (StringUtils.isNotEmpty(this.records)) {
+            recordList = setCollections(this.plugin.splitRecords(this.records));
+        } else if (!this.selectedFilenames.isEmpty()) {
+            recordList = setCollections(this.plugin.generateRecordsFromFilenames(this.selectedFilenames));
         }
 
-        for (ImportObject io : answer) {
-            if (Objects.nonNull(batch)) {
-                io.getBatches().add(batch);
-            }
+        Batch batch = recordList.size() > 1 ? getBatch() : null;
+        TaskManager.addTask(new MassImportTask(this.currentPlugin, this.getOpacCatalogue(), prefs, this.template,
+                recordList, batch, this.importFile, this.selectedFilenames));
+        Helper.setMessage("massImportStarted");
 
-            if (io.getImportReturnValue().equals(ImportReturnValue.EXPORT_FINISHED)) {
-                addProcessToList(io);
-            } else {
-                removeImportFileNameFromSelectedFileNames(io);
-            }
-        }
-    }
-
-    private void removeFiles() throws IOException {
-        if (Objects.nonNull(this.importFile)) {
-            Files.delete(this.importFile.toPath());
-            this.importFile = null;
-        }
-        if (Objects.nonNull(selectedFilenames) && !selectedFilenames.isEmpty()) {
-            this.plugin.deleteFiles(this.selectedFilenames);
-        }
+        this.importFile = null;
+        this.selectedFilenames = new ArrayList<>();
+        this.idList = null;
+        this.records = "";
+        return massImportThreePath;
     }
 
     /**
@@ -287,11 +253,11 @@ public class MassImportForm extends BaseForm {
         return recordList;
     }
 
-    private List<ImportObject> getAnswer(List<Record> recordList) {
+    private List<Record> setCollections(List<Record> recordList) {
         for (Record record : recordList) {
             record.setCollections(this.digitalCollections);
         }
-        return this.plugin.generateFiles(recordList);
+        return recordList;
     }
 
     private Batch getBatch() {
@@ -305,31 +271,6 @@ public class MassImportForm extends BaseForm {
         }
     }
 
-    private void addProcessToList(ImportObject importObject) throws IOException {
-        URI importFileName = importObject.getImportFileName();
-        Process process = JobCreation.generateProcess(importObject, this.template);
-        if (Objects.isNull(process)) {
-            if (Objects.nonNull(importFileName)
-                    && !ServiceManager.getFileService().getFileName(importFileName).isEmpty()
-                    && Objects.nonNull(selectedFilenames) && !selectedFilenames.isEmpty()) {
-                selectedFilenames.remove(importFileName.getRawPath());
-            }
-            Helper.setErrorMessage("import failed for " + importObject.getProcessTitle() + ", process generation failed");
-        } else {
-            Helper.setMessage(ImportReturnValue.EXPORT_FINISHED.getValue() + " for " + importObject.getProcessTitle());
-            this.processList.add(process);
-        }
-    }
-
-    private void removeImportFileNameFromSelectedFileNames(ImportObject io) {
-        URI importFileName = io.getImportFileName();
-        Helper.setErrorMessage("importFailedError", new Object[] {io.getProcessTitle(), io.getErrorMessage() });
-        if (Objects.nonNull(importFileName) && !ServiceManager.getFileService().getFileName(importFileName).isEmpty()
-                && Objects.nonNull(selectedFilenames) && !selectedFilenames.isEmpty()) {
-            selectedFilenames.remove(importFileName.getRawPath());
-        }
-    }
-
     /**
      * Set id list.
      *
@@ -11,8 +11,6 @@
 
 package org.kitodo.production.forms;
 
-import com.itextpdf.text.DocumentException;
-
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -32,6 +30,7 @@ import javax.inject.Named;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.goobi.production.flow.helper.SearchResultFormat;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Batch;
@@ -954,19 +953,30 @@ public class ProcessForm extends TemplateBaseForm {
      */
     public void generateResultAsPdf() {
         try {
-            ServiceManager.getProcessService().generateResultAsPdf(this.filter);
-        } catch (IOException | DocumentException e) {
+            ServiceManager.getProcessService().generateResult(this.filter, SearchResultFormat.PDF);
+        } catch (IOException | DataException e) {
             Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultPDF") }, logger, e);
         }
     }
 
+    /**
+     * Generate result as CSV.
+     */
+    public void generateResultAsCsv() {
+        try {
+            ServiceManager.getProcessService().generateResult(this.filter, SearchResultFormat.CSV);
+        } catch (IOException | DataException e) {
+            Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultSet") }, logger, e);
+        }
+    }
+
     /**
      * Generate result set.
      */
     public void generateResult() {
         try {
-            ServiceManager.getProcessService().generateResult(this.filter);
-        } catch (IOException e) {
+            ServiceManager.getProcessService().generateResult(this.filter, SearchResultFormat.XLS);
+        } catch (IOException | DataException e) {
             Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultSet") }, logger, e);
         }
     }
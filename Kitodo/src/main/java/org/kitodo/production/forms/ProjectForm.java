@@ -14,12 +14,15 @@ package org.kitodo.production.forms;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -115,6 +118,13 @@ public class ProjectForm extends BaseForm {
      */
     private Map<String, String> mimeTypes = Collections.emptyMap();
 
+    /**
+     * Numbers of processes of the projects on the displayed page of the list,
+     * and the page they were counted for.
+     */
+    private Map<Integer, Long> numbersOfProcesses = Collections.emptyMap();
+    private transient List<?> countedProjects;
+
     /**
      * Empty default constructor that also sets the LazyDTOModel instance of
      * this bean.
@@ -627,6 +637,42 @@ public class ProjectForm extends BaseForm {
         }
     }
 
+    /**
+     * Return the number of processes of a project, as counted by the index.
+     * The processes of all projects on the displayed page of the list are
+     * counted together, when the number of one of them is asked for the first
+     * time.
+     *
+     * @param projectId
+     *            id of project
+     * @return number of processes
+     */
+    public Long getNumberOfProcesses(Integer projectId) {
+        List<?> projects = lazyDTOModel.getEntities();
+        if (projects != countedProjects || !numbersOfProcesses.containsKey(projectId)) {
+            Set<Integer> projectIds = new HashSet<>();
+            projectIds.add(projectId);
+            for (Object project : projects) {
+                if (project instanceof ProjectDTO) {
+                    projectIds.add(((ProjectDTO) project).getId());
+                }
+            }
+            try {
+                Map<Integer, Long> counts = ServiceManager.getProcessService().countByProjects(projectIds);
+                numbersOfProcesses = new HashMap<>();
+                for (Integer id : projectIds) {
+                    numbersOfProcesses.put(id, counts.getOrDefault(id, 0L));
+                }
+                countedProjects = projects;
+            } catch (DataException e) {
+                Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                    logger, e);
+                return 0L;
+            }
+        }
+        return numbersOfProcesses.get(projectId);
+    }
+
     /**
      * Set referring view which will be returned when the user clicks "save" or
      * "cancel" on the project edit page.
@@ -89,6 +89,7 @@ public class RulesetForm extends BaseForm {
                     return this.stayOnCurrentPage;
                 }
                 ServiceManager.getRulesetService().save(this.ruleset);
+                ServiceManager.getRulesetService().closeRuleset(this.ruleset);
                 return rulesetListPath;
             } else {
                 Helper.setErrorMessage("rulesetNotFound");
@@ -110,6 +111,7 @@ public class RulesetForm extends BaseForm {
                 Helper.setErrorMessage("rulesetInUse");
             } else {
                 ServiceManager.getRulesetService().remove(this.ruleset);
+                ServiceManager.getRulesetService().closeRuleset(this.ruleset);
             }
         } catch (DataException e) {
             Helper.setErrorMessage(ERROR_DELETING, new Object[] {ObjectType.RULESET.getTranslationSingular() }, logger,
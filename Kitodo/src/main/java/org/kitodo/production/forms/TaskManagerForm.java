@@ -11,14 +11,21 @@
 
 package org.kitodo.production.forms;
 
+import java.io.IOException;
 import java.util.List;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
+import org.kitodo.production.helper.tasks.SearchResultExportTask;
 import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.helper.tasks.TaskSitter;
+import org.kitodo.production.services.ServiceManager;
 
 public class TaskManagerForm {
+    private static final Logger logger = LogManager.getLogger(TaskManagerForm.class);
 
     /**
      * The field task can be populated by a task object by the Tomahawk
@@ -69,6 +76,33 @@ public class TaskManagerForm {
         task.interrupt(Behaviour.DELETE_IMMEDIATELY);
     }
 
+    /**
+     * Sends the file of a finished search result export to the user. The file
+     * is deleted afterwards.
+     */
+    public void downloadTaskResult() {
+        if (task instanceof SearchResultExportTask) {
+            SearchResultExportTask exportTask = (SearchResultExportTask) task;
+            try {
+                ServiceManager.getProcessService().downloadSearchResult(exportTask);
+                exportTask.deleteResultFile();
+            } catch (IOException e) {
+                Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a task has a result file to download.
+     *
+     * @param task
+     *            task to check
+     * @return whether the download button shall show
+     */
+    public boolean isDownloadable(EmptyTask task) {
+        return task instanceof SearchResultExportTask && ((SearchResultExportTask) task).isDownloadable();
+    }
+
     /**
      * Provides write access to the property "task" and
      * will be called by the Tomahawk updateActionListener tag when an action
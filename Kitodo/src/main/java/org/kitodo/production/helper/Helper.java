@@ -46,7 +46,7 @@ import org.kitodo.production.helper.messages.Message;
  */
 public class Helper implements Observer, Serializable {
 
-    private static Map<String, String> activeMQReporting = null;
+    private static final ThreadLocal<Map<String, String>> activeMQReporting = new ThreadLocal<>();
     private static final Logger logger = LogManager.getLogger(Helper.class);
     private static Map<Locale, ResourceBundle> commonMessages = null;
     private static Map<Locale, ResourceBundle> errorMessages = null;
@@ -268,8 +268,9 @@ public class Helper implements Observer, Serializable {
         String descript = getTranslation(description);
 
         String compoundMessage = msg.replaceFirst(":\\s*$", "") + ": " + descript;
-        if (Objects.nonNull(activeMQReporting)) {
-            new WebServiceResult(activeMQReporting.get("queueName"), activeMQReporting.get("id"),
+        Map<String, String> reporting = activeMQReporting.get();
+        if (Objects.nonNull(reporting)) {
+            new WebServiceResult(reporting.get("queueName"), reporting.get("id"),
                     onlyInfo ? ReportLevel.INFO : ReportLevel.ERROR, compoundMessage).send();
         }
 
@@ -439,13 +440,18 @@ public class Helper implements Observer, Serializable {
     }
 
     /**
-     * Set activeMQReporting.
+     * Set activeMQReporting for the current thread. Messages of several queues
+     * are processed in parallel, each on its own thread.
      *
      * @param activeMQReporting
-     *            as Map of Strings
+     *            as Map of Strings, or null to turn reporting off
      */
     public static void setActiveMQReporting(Map<String, String> activeMQReporting) {
-        Helper.activeMQReporting = activeMQReporting;
+        if (Objects.nonNull(activeMQReporting)) {
+            Helper.activeMQReporting.set(activeMQReporting);
+        } else {
+            Helper.activeMQReporting.remove();
+        }
     }
 
     /**
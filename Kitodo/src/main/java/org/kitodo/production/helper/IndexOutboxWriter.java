@@ -0,0 +1,303 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BaseBean;
+import org.kitodo.data.database.beans.IndexOutboxEntry;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.IndexOutboxDAO;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.base.SearchService;
+
+/**
+ * The IndexOutboxWriter sends the changes recorded in the index outbox to the
+ * index. It runs in the background every some milliseconds and reads the
+ * outbox in order. Several changes of one object are coalesced, so the object
+ * is sent only once, and all objects of one type are sent in one bulk request.
+ * Entries are removed from the outbox only after they were sent successfully.
+ * Failed ones stay and are retried after a waiting time, which doubles with
+ * every failed attempt. After the configured number of attempts, an entry is
+ * no longer sent, but kept in the outbox for inspection, so that it doesn't
+ * hold up the entries behind it.
+ *
+ * <p>
+ * The writer is started with the servlet container if the outbox is enabled
+ * in the configuration, so changes which were recorded before a shutdown get
+ * indexed, too.
+ */
+@WebListener
+public class IndexOutboxWriter implements Runnable, ServletContextListener {
+
+    private static final Logger logger = LogManager.getLogger(IndexOutboxWriter.class);
+
+    /**
+     * Longest time in milliseconds to wait before sending a failed change
+     * again.
+     */
+    private static final long MAXIMUM_BACKOFF = TimeUnit.HOURS.toMillis(1);
+
+    private static final Object monitor = new Object();
+    private static ScheduledExecutorService scheduler;
+
+    private final IndexOutboxDAO outboxDAO = new IndexOutboxDAO();
+
+    /**
+     * Starts the writer when the servlet is loading, if the outbox is enabled.
+     *
+     * @see javax.servlet.ServletContextListener#contextInitialized(javax.servlet.ServletContextEvent)
+     */
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        if (isEnabled()) {
+            start();
+        }
+    }
+
+    /**
+     * Stops the writer on container shutdown. Changes which weren't sent yet
+     * stay in the outbox.
+     *
+     * @see javax.servlet.ServletContextListener#contextDestroyed(javax.servlet.ServletContextEvent)
+     */
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        synchronized (monitor) {
+            if (Objects.nonNull(scheduler)) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    /**
+     * Returns whether changes are sent to the index through the outbox.
+     *
+     * @return true, if the outbox is enabled in the configuration
+     */
+    public static boolean isEnabled() {
+        return ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX);
+    }
+
+    /**
+     * Starts the background writer, if it isn't running yet.
+     */
+    public static void start() {
+        synchronized (monitor) {
+            if (Objects.isNull(scheduler)) {
+                int interval = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_INTERVAL);
+                scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, IndexOutboxWriter.class.getSimpleName());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                scheduler.scheduleWithFixedDelay(new IndexOutboxWriter(), interval, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Waits until all recorded changes of the given object are visible in the
+     * index, but at most the configured time.
+     *
+     * @param baseBean
+     *            changed object
+     * @return true, if the changes are visible in the index, false if the
+     *         time elapsed
+     */
+    public static boolean awaitIndexed(BaseBean baseBean) throws DAOException {
+        start();
+        IndexOutboxDAO outboxDAO = new IndexOutboxDAO();
+        long timeout = TimeUnit.SECONDS
+                .toMillis(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_WAIT_TIMEOUT));
+        long end = System.currentTimeMillis() + timeout;
+        synchronized (monitor) {
+            while (outboxDAO.isPending(baseBean, getMaxAttempts())) {
+                long remaining = end - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    monitor.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int getMaxAttempts() {
+        return ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Sends all changes which are currently due in the outbox to the index. If
+     * sending fails for an object type, the remaining entries are left for
+     * the next run, while the failed ones wait for their next attempt.
+     */
+    @Override
+    public void run() {
+        try {
+            int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
+            int maxAttempts = getMaxAttempts();
+            List<IndexOutboxEntry> entries = outboxDAO.getDue(maxAttempts, batchSize);
+            while (!entries.isEmpty()) {
+                boolean failed = false;
+                for (Map.Entry<String, List<IndexOutboxEntry>> entriesOfType : groupByType(entries).entrySet()) {
+                    failed |= !send(entriesOfType.getKey(), entriesOfType.getValue(), maxAttempts);
+                }
+                synchronized (monitor) {
+                    monitor.notifyAll();
+                }
+                if (failed || entries.size() < batchSize) {
+                    break;
+                }
+                entries = outboxDAO.getDue(maxAttempts, batchSize);
+            }
+        } catch (DAOException | RuntimeException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, List<IndexOutboxEntry>> groupByType(List<IndexOutboxEntry> entries) {
+        Map<String, List<IndexOutboxEntry>> entriesByType = new LinkedHashMap<>();
+        for (IndexOutboxEntry entry : entries) {
+            entriesByType.computeIfAbsent(entry.getObjectType(), objectType -> new ArrayList<>()).add(entry);
+        }
+        return entriesByType;
+    }
+
+    /**
+     * Sends entries of one object type to the index. Entries are read in the
+     * order of recording, so the last action recorded for an object wins.
+     *
+     * @return true, if all entries were sent successfully
+     */
+    @SuppressWarnings("unchecked")
+    private boolean send(String objectType, List<IndexOutboxEntry> entries, int maxAttempts) throws DAOException {
+        SearchService searchService = getSearchService(objectType);
+        if (Objects.isNull(searchService)) {
+            logger.warn("Outbox entries of unknown type {} can't be sent", objectType);
+            fail(objectType, entries, maxAttempts);
+            return false;
+        }
+        Map<Integer, IndexAction> actions = new LinkedHashMap<>();
+        for (IndexOutboxEntry entry : entries) {
+            actions.remove(entry.getObjectId());
+            actions.put(entry.getObjectId(), entry.getIndexAction());
+        }
+
+        Set<Integer> failedIds = searchService.sendToIndex(actions);
+
+        List<Integer> completedEntries = new ArrayList<>();
+        List<IndexOutboxEntry> failedEntries = new ArrayList<>();
+        for (IndexOutboxEntry entry : entries) {
+            if (failedIds.contains(entry.getObjectId())) {
+                failedEntries.add(entry);
+            } else {
+                completedEntries.add(entry.getId());
+            }
+        }
+        List<Integer> sentIds = new ArrayList<>();
+        List<Integer> indexedIds = new ArrayList<>();
+        for (Map.Entry<Integer, IndexAction> action : actions.entrySet()) {
+            if (!failedIds.contains(action.getKey())) {
+                sentIds.add(action.getKey());
+                if (action.getValue() == IndexAction.INDEX) {
+                    indexedIds.add(action.getKey());
+                }
+            }
+        }
+        outboxDAO.complete(objectType, completedEntries, sentIds, indexedIds);
+        fail(objectType, failedEntries, maxAttempts);
+        return failedEntries.isEmpty();
+    }
+
+    /**
+     * Records a failed attempt for the entries. The next attempt is due after
+     * a waiting time which doubles with every attempt. Entries which reached
+     * the maximum number of attempts are no longer sent.
+     */
+    private void fail(String objectType, List<IndexOutboxEntry> entries, int maxAttempts) throws DAOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long interval = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_INTERVAL);
+        Map<Integer, List<Integer>> entriesByAttempts = new TreeMap<>();
+        for (IndexOutboxEntry entry : entries) {
+            entriesByAttempts.computeIfAbsent(entry.getAttempts(), attempts -> new ArrayList<>()).add(entry.getId());
+        }
+        for (Map.Entry<Integer, List<Integer>> entriesWithAttempts : entriesByAttempts.entrySet()) {
+            int attempts = entriesWithAttempts.getKey() + 1;
+            long backoff = Math.min(interval << Math.min(attempts, 30), MAXIMUM_BACKOFF);
+            outboxDAO.fail(entriesWithAttempts.getValue(), new Date(now + backoff));
+            if (attempts >= maxAttempts) {
+                logger.error("{} changes of type {} couldn't be sent to the index after {} attempts and are given up,"
+                        + " outbox entries {}", entriesWithAttempts.getValue().size(), objectType, attempts,
+                    entriesWithAttempts.getValue());
+            } else {
+                logger.warn("{} changes of type {} couldn't be sent to the index and will be retried in {} ms",
+                    entriesWithAttempts.getValue().size(), objectType, backoff);
+            }
+        }
+    }
+
+    private static SearchService getSearchService(String objectType) {
+        switch (objectType) {
+            case "Batch":
+                return ServiceManager.getBatchService();
+            case "Docket":
+                return ServiceManager.getDocketService();
+            case "Filter":
+                return ServiceManager.getFilterService();
+            case "Process":
+                return ServiceManager.getProcessService();
+            case "Project":
+                return ServiceManager.getProjectService();
+            case "Property":
+                return ServiceManager.getPropertyService();
+            case "Ruleset":
+                return ServiceManager.getRulesetService();
+            case "Task":
+                return ServiceManager.getTaskService();
+            case "Template":
+                return ServiceManager.getTemplateService();
+            case "Workflow":
+                return ServiceManager.getWorkflowService();
+            default:
+                return null;
+        }
+    }
+}
@@ -11,108 +11,197 @@
 
 package org.kitodo.production.helper;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.data.base.SearchService;
 
+/**
+ * Indexes all objects of one type. The work is done in three stages which run
+ * in parallel and are connected by bounded queues: objects are loaded from the
+ * database in chunks ordered by id, index documents are built by a number of
+ * worker threads and are sent to the index by bulk requests.
+ */
 public class IndexWorker implements Runnable {
 
-    private int indexedObjects = 0;
-    private int startIndexing;
-    private boolean indexAllObjects = true;
-    private SearchService searchService;
     private static final Logger logger = LogManager.getLogger(IndexWorker.class);
 
     /**
-     * Constructor initializing an IndexWorker object with the given SearchService
-     * and list of objects that will be indexed.
-     *
-     * @param searchService
-     *            SearchService instance used for indexing
+     * Stages of the indexing pipeline.
      */
-    public IndexWorker(SearchService searchService) {
-        this.searchService = searchService;
-        this.startIndexing = 0;
+    public enum Stage {
+        LOAD,
+        BUILD,
+        SEND
     }
 
+    private final AtomicInteger indexedObjects = new AtomicInteger();
+    private final Map<Stage, AtomicInteger> processedObjects = new EnumMap<>(Stage.class);
+    private volatile long startTime;
+    private volatile long endTime;
+    private boolean indexAllObjects = true;
+    private SearchService searchService;
+    private ObjectType objectType;
+
     /**
      * Constructor initializing an IndexWorker object with the given SearchService
-     * and list of objects that will be indexed.
+     * and type of objects that will be indexed.
      *
      * @param searchService
      *            SearchService instance used for indexing
+     * @param objectType
+     *            type of indexed objects, used to read type specific
+     *            configuration
      */
-    public IndexWorker(SearchService searchService, int startIndexing) {
+    public IndexWorker(SearchService searchService, ObjectType objectType) {
         this.searchService = searchService;
-        this.startIndexing = startIndexing;
+        this.objectType = objectType;
+        for (Stage stage : Stage.values()) {
+            processedObjects.put(stage, new AtomicInteger());
+        }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void run() {
-        this.indexedObjects = 0;
+        this.indexedObjects.set(0);
+        for (AtomicInteger counter : processedObjects.values()) {
+            counter.set(0);
+        }
+        this.startTime = System.nanoTime();
+        this.endTime = 0;
+
         int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
-        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
+        int queueSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXING_QUEUE_SIZE);
+        int builders = getNumberOfThreads(ParameterCore.ELASTICSEARCH_INDEXING_WORKERS);
+        int senders = getNumberOfThreads(ParameterCore.ELASTICSEARCH_INDEXING_SENDERS);
+
+        BlockingQueue<List<BaseIndexedBean>> beans = new ArrayBlockingQueue<>(queueSize);
+        BlockingQueue<Map<Integer, Map<String, Object>>> documents = new ArrayBlockingQueue<>(queueSize);
+        ExecutorService buildExecutor = Executors.newFixedThreadPool(builders);
+        ExecutorService sendExecutor = Executors.newFixedThreadPool(senders);
         try {
-            int amountToIndex = getAmountToIndex();
-
-            if (amountToIndex < batchSize) {
-                if (indexAllObjects) {
-                    indexObjects(searchService.getAll());
-                } else {
-                    indexObjects(searchService.getAllNotIndexed());
-                }
-            } else {
-                if (amountToIndex > indexLimit) {
-                    amountToIndex = indexLimit;
-                }
-                while (this.indexedObjects < amountToIndex) {
-                    indexChunks(batchSize);
-                }
+            List<Future<?>> sendResults = new ArrayList<>();
+            for (int i = 0; i < senders; i++) {
+                sendResults.add(sendExecutor.submit(() -> sendDocuments(documents)));
+            }
+            List<Future<?>> buildResults = new ArrayList<>();
+            for (int i = 0; i < builders; i++) {
+                buildResults.add(buildExecutor.submit(() -> buildDocuments(beans, documents, sendResults)));
             }
-        } catch (CustomResponseException | DAOException e) {
-            logger.error(e.getMessage(), e);
-        }
-    }
 
-    private int getAmountToIndex() throws DAOException {
-        if (indexAllObjects) {
-            return searchService.countDatabaseRows().intValue() - this.startIndexing;
-        } else {
-            return searchService.countNotIndexedDatabaseRows().intValue() - this.startIndexing;
+            loadObjects(beans, batchSize, buildResults);
+            for (int i = 0; i < builders; i++) {
+                put(beans, Collections.emptyList(), buildResults);
+            }
+            awaitAll(buildResults);
+            for (int i = 0; i < senders; i++) {
+                put(documents, Collections.emptyMap(), sendResults);
+            }
+            awaitAll(sendResults);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DAOException | ExecutionException | IllegalStateException e) {
+            logger.error(e.getMessage(), e);
+        } finally {
+            buildExecutor.shutdownNow();
+            sendExecutor.shutdownNow();
+            this.endTime = System.nanoTime();
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void indexChunks(int batchSize) throws CustomResponseException, DAOException {
-        List<Object> objectsToIndex;
-        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
-        while (this.indexedObjects < indexLimit) {
-            int offset = this.indexedObjects + this.startIndexing;
-
+    private void loadObjects(BlockingQueue<List<BaseIndexedBean>> beans, int batchSize, List<Future<?>> builders)
+            throws DAOException, InterruptedException, ExecutionException {
+        int lastId = 0;
+        while (true) {
+            List<BaseIndexedBean> objectsToIndex;
             if (indexAllObjects) {
-                objectsToIndex = searchService.getAll(offset, batchSize);
+                objectsToIndex = searchService.getAllAfterId(lastId, batchSize);
             } else {
-                objectsToIndex = searchService.getAllNotIndexed(offset, batchSize);
+                objectsToIndex = searchService.getAllNotIndexedAfterId(lastId, batchSize);
             }
             if (objectsToIndex.isEmpty()) {
                 break;
             }
-
-            indexObjects(objectsToIndex);
+            processedObjects.get(Stage.LOAD).addAndGet(objectsToIndex.size());
+            lastId = objectsToIndex.get(objectsToIndex.size() - 1).getId();
+            put(beans, objectsToIndex, builders);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void indexObjects(List<Object> objectsToIndex) throws CustomResponseException, DAOException {
-        this.searchService.addAllObjectsToIndex(objectsToIndex);
-        this.indexedObjects = this.indexedObjects + objectsToIndex.size();
+    private Void buildDocuments(BlockingQueue<List<BaseIndexedBean>> beans,
+            BlockingQueue<Map<Integer, Map<String, Object>>> documents, List<Future<?>> senders)
+            throws InterruptedException, ExecutionException {
+        List<BaseIndexedBean> objectsToIndex = beans.take();
+        while (!objectsToIndex.isEmpty()) {
+            put(documents, searchService.createDocuments(objectsToIndex), senders);
+            processedObjects.get(Stage.BUILD).addAndGet(objectsToIndex.size());
+            objectsToIndex = beans.take();
+        }
+        return null;
+    }
+
+    private Void sendDocuments(BlockingQueue<Map<Integer, Map<String, Object>>> documents)
+            throws InterruptedException, CustomResponseException {
+        Map<Integer, Map<String, Object>> documentsToIndex = documents.take();
+        while (!documentsToIndex.isEmpty()) {
+            searchService.addDocumentsToIndex(documentsToIndex);
+            processedObjects.get(Stage.SEND).addAndGet(documentsToIndex.size());
+            indexedObjects.addAndGet(documentsToIndex.size());
+            documentsToIndex = documents.take();
+        }
+        return null;
+    }
+
+    /**
+     * Put element into queue of the next stage. If the queue is full, it waits
+     * until there is space, but gives up if all workers of the next stage have
+     * ended, as then the queue would never be emptied.
+     */
+    private static <E> void put(BlockingQueue<E> queue, E element, List<Future<?>> consumers)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(element, 1, TimeUnit.SECONDS)) {
+            if (consumers.stream().allMatch(Future::isDone)) {
+                awaitAll(consumers);
+                throw new IllegalStateException("Next indexing stage has ended unexpectedly");
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> results) throws InterruptedException, ExecutionException {
+        for (Future<?> result : results) {
+            result.get();
+        }
+    }
+
+    private int getNumberOfThreads(ParameterCore parameter) {
+        int threads = ConfigCore.getIntParameterOrDefaultValue(parameter);
+        if (Objects.nonNull(objectType)) {
+            threads = ConfigCore.getConfig().getInt(parameter.getName() + "." + objectType.name().toLowerCase(),
+                threads);
+        }
+        return Math.max(threads, 1);
     }
 
     /**
@@ -122,7 +211,27 @@ public class IndexWorker implements Runnable {
      * @return int the number of objects indexed during the current indexing run
      */
     public int getIndexedObjects() {
-        return indexedObjects + startIndexing;
+        return indexedObjects.get();
+    }
+
+    /**
+     * Return the number of objects which passed given stage per second since
+     * start of current or last indexing run.
+     *
+     * @param stage
+     *            stage of indexing
+     * @return throughput of given stage in objects per second
+     */
+    public int getThroughput(Stage stage) {
+        if (startTime == 0) {
+            return 0;
+        }
+        long end = endTime == 0 ? System.nanoTime() : endTime;
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(end - startTime);
+        if (elapsed == 0) {
+            return 0;
+        }
+        return (int) (processedObjects.get(stage).get() * 1000L / elapsed);
     }
 
     /**
@@ -0,0 +1,178 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.metadata;
+
+import java.io.InputStream;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.json.JSONObject;
+import org.json.XML;
+
+/**
+ * Reads the descriptive metadata sections of a METS file with a streaming
+ * parser. The result has the same structure as the one of
+ * {@link XML#toJSONObject(String)}, but contains only the root element and its
+ * dmdSec children. All other parts of the file, like the file section and the
+ * structure maps, are skipped without being kept in memory.
+ */
+public class MetsDmdSecReader {
+
+    private static final String CONTENT = "content";
+    private static final String DMD_SEC = "dmdSec";
+    private static final String METS = "mets";
+    private static final String XMLNS = "xmlns";
+
+    private static final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private MetsDmdSecReader() {
+
+    }
+
+    /**
+     * Read the dmdSec elements of a METS file.
+     *
+     * @param metsFile
+     *            input stream of METS file
+     * @return JSON object with root element as key, which contains the dmdSec
+     *         elements, or an empty JSON object if the file has no root
+     *         element
+     * @throws XMLStreamException
+     *             if the file is not well-formed
+     */
+    public static JSONObject read(InputStream metsFile) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(metsFile);
+        try {
+            JSONObject document = new JSONObject();
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    String rootName = getName(reader.getPrefix(), reader.getLocalName());
+                    JSONObject root = new JSONObject();
+                    if (METS.equals(stripPrefix(rootName))) {
+                        readDmdSecs(reader, root);
+                    }
+                    document.put(rootName, root);
+                    break;
+                }
+            }
+            return document;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void readDmdSecs(XMLStreamReader reader, JSONObject root) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = getName(reader.getPrefix(), reader.getLocalName());
+                if (depth == 1 && DMD_SEC.equals(stripPrefix(name))) {
+                    root.accumulate(name, readElement(reader));
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Read the element at the current position of the reader up to its end
+     * tag, in the way org.json converts elements: attributes and child
+     * elements become keys, text becomes key content, an element with text
+     * only becomes its text and an empty element becomes an empty string.
+     */
+    private static Object readElement(XMLStreamReader reader) throws XMLStreamException {
+        JSONObject element = new JSONObject();
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            element.accumulate(Objects.isNull(prefix) || prefix.isEmpty() ? XMLNS : getName(XMLNS, prefix),
+                XML.stringToValue(Objects.toString(reader.getNamespaceURI(i), "")));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.accumulate(getName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                XML.stringToValue(reader.getAttributeValue(i)));
+        }
+
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    text.append(reader.getText());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    addText(element, text);
+                    if (reader.getTextLength() > 0) {
+                        element.accumulate(CONTENT, reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    addText(element, text);
+                    element.accumulate(getName(reader.getPrefix(), reader.getLocalName()), readElement(reader));
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    addText(element, text);
+                    if (element.length() == 0) {
+                        return "";
+                    } else if (element.length() == 1 && element.has(CONTENT)) {
+                        return element.get(CONTENT);
+                    }
+                    return element;
+                default:
+                    // comments and processing instructions separate texts
+                    addText(element, text);
+                    break;
+            }
+        }
+    }
+
+    private static void addText(JSONObject element, StringBuilder text) {
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        String content = text.substring(start).trim();
+        text.setLength(0);
+        if (!content.isEmpty()) {
+            element.accumulate(CONTENT, XML.stringToValue(content));
+        }
+    }
+
+    private static String getName(String prefix, String localName) {
+        if (Objects.isNull(prefix) || prefix.isEmpty()) {
+            return localName;
+        }
+        return prefix + ':' + localName;
+    }
+
+    private static String stripPrefix(String name) {
+        return name.substring(name.indexOf(':') + 1);
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
@@ -46,6 +46,23 @@ public class LegacyPrefsHelper {
      */
     private RulesetManagementInterface ruleset;
 
+    /**
+     * Creates a legacy prefs helper without a ruleset. A ruleset can be loaded
+     * with {@link #loadPrefs(String)}.
+     */
+    public LegacyPrefsHelper() {
+    }
+
+    /**
+     * Creates a legacy prefs helper for an opened ruleset.
+     *
+     * @param ruleset
+     *            the ruleset accessed via this soldering class
+     */
+    public LegacyPrefsHelper(RulesetManagementInterface ruleset) {
+        this.ruleset = ruleset;
+    }
+
     /**
      * MetadataType aus Preferences ermitteln.
      *
@@ -0,0 +1,114 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.IOException;
+
+import javax.naming.ConfigurationException;
+
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.ProcessGenerationException;
+import org.kitodo.production.helper.Helper;
+import org.kitodo.production.model.bibliography.course.Course;
+import org.kitodo.production.process.NewspaperProcessesGenerator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Creates the processes for the course of appearance of a newspaper in the
+ * background. The processes are created in chunks by the newspaper processes
+ * generator. If the task is stopped, it can be restarted in the task manager
+ * and continues with the next chunk.
+ */
+public class CreateNewspaperProcessesTask extends EmptyTask {
+
+    private final NewspaperProcessesGenerator generator;
+    private final SecurityContext securityContext;
+
+    /**
+     * CreateNewspaperProcessesTask constructor. The security context of the
+     * current user is taken over, as the processes are created on behalf of
+     * the user.
+     *
+     * @param overallProcess
+     *            process that represents the entirety of the newspaper
+     * @param course
+     *            course of appearance, split into processes
+     */
+    public CreateNewspaperProcessesTask(Process overallProcess, Course course) {
+        super(overallProcess.getTitle());
+        this.generator = new NewspaperProcessesGenerator(overallProcess, course);
+        this.securityContext = SecurityContextHolder.getContext();
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart a task that was
+     * previously interrupted by the user. The generator continues with the
+     * next step.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private CreateNewspaperProcessesTask(CreateNewspaperProcessesTask source) {
+        super(source);
+        this.generator = source.generator;
+        this.securityContext = source.securityContext;
+    }
+
+    /**
+     * Returns the display name of the task to show to the user.
+     *
+     * @see org.kitodo.production.helper.tasks.INameableTask#getDisplayName()
+     */
+    @Override
+    public String getDisplayName() {
+        return Helper.getTranslation("createNewspaperProcessesTask");
+    }
+
+    /**
+     * Works the steps of the newspaper processes generator. The progress is
+     * updated after each step, that is, after each chunk of processes.
+     *
+     * @see org.kitodo.production.helper.tasks.EmptyTask#run()
+     */
+    @Override
+    public void run() {
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            while (generator.getProgress() < generator.getNumberOfSteps() && !isInterrupted()) {
+                generator.nextStep();
+                setWorkDetail(generator.getProgress() + " / " + generator.getNumberOfSteps());
+                setProgress(100d * generator.getProgress() / generator.getNumberOfSteps());
+            }
+        } catch (ConfigurationException | DAOException | DataException | IOException | ProcessGenerationException
+                | RuntimeException e) {
+            setException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of this
+     * thread object. This is necessary for threads that have terminated in
+     * order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     * @see org.kitodo.production.helper.tasks.EmptyTask#replace()
+     */
+    @Override
+    public CreateNewspaperProcessesTask replace() {
+        return new CreateNewspaperProcessesTask(this);
+    }
+}
@@ -147,6 +147,14 @@ public class EmptyTask extends Thread implements INameableTask {
         return new EmptyTask(this);
     }
 
+    /**
+     * Is called when the task is removed from the task manager, or replaced
+     * to be restarted. Subclasses which keep resources beyond the end of the
+     * thread must release them here. The method may be called more than once.
+     */
+    protected void dispose() {
+    }
+
     /**
      * Returns the instruction how the TaskSitter
      * shall behave towards this task. Usually, the behavior isn’t set while
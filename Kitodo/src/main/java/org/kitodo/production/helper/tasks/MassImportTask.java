@@ -0,0 +1,309 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.goobi.production.enums.ImportReturnValue;
+import org.goobi.production.enums.PluginType;
+import org.goobi.production.flow.helper.JobCreation;
+import org.goobi.production.importer.ImportObject;
+import org.goobi.production.importer.Record;
+import org.goobi.production.plugin.PluginLoader;
+import org.goobi.production.plugin.interfaces.IImportPlugin;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Batch;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Template;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
+import org.kitodo.production.services.ServiceManager;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Imports records with an import plug-in and creates a process for each of
+ * them in the background. The records are fetched, for example from a library
+ * catalogue, by several threads at the same time, each using a plug-in
+ * instance of its own, while the processes are created one after another in
+ * the order of the records. If the task is stopped, it can be restarted in the
+ * task manager and continues after the last record processed.
+ */
+public class MassImportTask extends EmptyTask {
+    private static final Logger logger = LogManager.getLogger(MassImportTask.class);
+
+    /**
+     * Maximum number of failed records listed in the work detail.
+     */
+    private static final int LISTED_FAILURES = 10;
+
+    private final String pluginTitle;
+    private final String opacCatalogue;
+    private final LegacyPrefsHelper prefs;
+    private final int templateId;
+    private final List<Record> records;
+    private final Batch batch;
+    private final File importFile;
+    private final List<String> selectedFilenames;
+    private final SecurityContext securityContext;
+
+    /**
+     * Number of records processed so far. A restarted task continues with the
+     * next record.
+     */
+    private int processed;
+    private int created;
+    private final Map<String, String> failures;
+
+    /**
+     * MassImportTask constructor. The security context of the current user is
+     * taken over, as the processes are created on behalf of the user.
+     *
+     * @param pluginTitle
+     *            title of the import plug-in
+     * @param opacCatalogue
+     *            library catalogue to fetch the records from, may be null
+     * @param prefs
+     *            ruleset preferences of the template
+     * @param template
+     *            template to create the processes from
+     * @param records
+     *            records to import
+     * @param batch
+     *            batch to add the processes to, may be null
+     * @param importFile
+     *            uploaded file the records were read from, deleted when the
+     *            import has finished, may be null
+     * @param selectedFilenames
+     *            files of a folder import, deleted when the import has
+     *            finished
+     */
+    public MassImportTask(String pluginTitle, String opacCatalogue, LegacyPrefsHelper prefs, Template template,
+            List<Record> records, Batch batch, File importFile, List<String> selectedFilenames) {
+        super(template.getTitle());
+        this.pluginTitle = pluginTitle;
+        this.opacCatalogue = opacCatalogue;
+        this.prefs = prefs;
+        this.templateId = template.getId();
+        this.records = new ArrayList<>(records);
+        this.batch = batch;
+        this.importFile = importFile;
+        this.selectedFilenames = new ArrayList<>(selectedFilenames);
+        this.securityContext = SecurityContextHolder.getContext();
+        this.failures = new LinkedHashMap<>();
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart an import that was
+     * previously interrupted by the user. The import continues after the last
+     * record processed.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private MassImportTask(MassImportTask source) {
+        super(source);
+        this.pluginTitle = source.pluginTitle;
+        this.opacCatalogue = source.opacCatalogue;
+        this.prefs = source.prefs;
+        this.templateId = source.templateId;
+        this.records = source.records;
+        this.batch = source.batch;
+        this.importFile = source.importFile;
+        this.selectedFilenames = source.selectedFilenames;
+        this.securityContext = source.securityContext;
+        this.processed = source.processed;
+        this.created = source.created;
+        this.failures = source.failures;
+    }
+
+    /**
+     * Returns the display name of the task to show to the user.
+     *
+     * @see org.kitodo.production.helper.tasks.INameableTask#getDisplayName()
+     */
+    @Override
+    public String getDisplayName() {
+        return Helper.getTranslation("massImportTask");
+    }
+
+    /**
+     * Fetches the records and creates the processes. Twice as many records as
+     * there are fetching threads are requested ahead, so that the next records
+     * are usually ready when a process has been created.
+     *
+     * @see org.kitodo.production.helper.tasks.EmptyTask#run()
+     */
+    @Override
+    public void run() {
+        SecurityContextHolder.setContext(securityContext);
+        int threads = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.MASS_IMPORT_FETCH_THREADS));
+        ExecutorService fetchers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, getName() + " fetcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ThreadLocal<IImportPlugin> plugins = ThreadLocal.withInitial(this::createPlugin);
+        try {
+            Template template = ServiceManager.getTemplateService().getById(templateId);
+            Deque<Future<ImportObject>> fetched = new ArrayDeque<>();
+            int next = processed;
+            while (processed < records.size() && !isInterrupted()) {
+                while (next < records.size() && fetched.size() < 2 * threads) {
+                    Record record = records.get(next++);
+                    fetched.add(fetchers.submit(() -> fetch(plugins.get(), record)));
+                }
+                createProcess(fetched.remove().get(), template, records.get(processed));
+                processed++;
+                setProgress(100d * processed / records.size());
+                setWorkDetail(getSummary());
+            }
+            if (processed == records.size()) {
+                removeFiles();
+            }
+        } catch (InterruptedException e) {
+            // stopped by the user, can be restarted with the next record
+        } catch (DAOException | ExecutionException | IOException | RuntimeException e) {
+            setException(e);
+        } finally {
+            fetchers.shutdownNow();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private IImportPlugin createPlugin() {
+        IImportPlugin plugin = (IImportPlugin) PluginLoader.getPluginByTitle(PluginType.IMPORT, pluginTitle);
+        plugin.setImportFolder(ConfigCore.getParameter(ParameterCore.DIR_TEMP));
+        plugin.setPrefs(prefs);
+        plugin.setOpacCatalogue(opacCatalogue);
+        plugin.setKitodoConfigDirectory(ConfigCore.getKitodoConfigDirectory());
+        return plugin;
+    }
+
+    private static ImportObject fetch(IImportPlugin plugin, Record record) {
+        try {
+            List<ImportObject> importObjects = plugin.generateFiles(Collections.singletonList(record));
+            if (!importObjects.isEmpty()) {
+                return importObjects.get(0);
+            }
+            return failedImportObject(record, "no data");
+        } catch (RuntimeException e) {
+            logger.error("Fetching record " + record.getId() + " failed", e);
+            return failedImportObject(record, e.getMessage());
+        }
+    }
+
+    private static ImportObject failedImportObject(Record record, String errorMessage) {
+        ImportObject importObject = new ImportObject();
+        importObject.setProcessTitle(record.getId());
+        importObject.setErrorMessage(errorMessage);
+        importObject.setImportReturnValue(ImportReturnValue.NO_DATA);
+        return importObject;
+    }
+
+    private void createProcess(ImportObject importObject, Template template, Record record) {
+        if (Objects.nonNull(batch)) {
+            importObject.getBatches().add(batch);
+        }
+        if (!ImportReturnValue.EXPORT_FINISHED.equals(importObject.getImportReturnValue())) {
+            addFailure(record, importObject, importObject.getErrorMessage());
+            return;
+        }
+        try {
+            Process process = JobCreation.generateProcess(importObject, template);
+            if (Objects.isNull(process)) {
+                addFailure(record, importObject, "process generation failed");
+            } else {
+                created++;
+            }
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            addFailure(record, importObject, e.getMessage());
+        }
+    }
+
+    private void addFailure(Record record, ImportObject importObject, String errorMessage) {
+        logger.error("Import failed for {}: {}", record.getId(), errorMessage);
+        failures.put(record.getId(), Objects.toString(errorMessage, ""));
+        URI importFileName = importObject.getImportFileName();
+        if (Objects.nonNull(importFileName)) {
+            // keep the file of a failed record
+            selectedFilenames.remove(importFileName.getRawPath());
+        }
+    }
+
+    private String getSummary() {
+        StringBuilder summary = new StringBuilder(Helper.getTranslation("massImportProgress",
+            Arrays.asList(Integer.toString(processed), Integer.toString(records.size()), Integer.toString(created),
+                Integer.toString(failures.size()))));
+        if (!failures.isEmpty()) {
+            summary.append(": ").append(
+                failures.keySet().stream().limit(LISTED_FAILURES).collect(Collectors.joining(", ")));
+            if (failures.size() > LISTED_FAILURES) {
+                summary.append(", …");
+            }
+        }
+        return summary.toString();
+    }
+
+    private void removeFiles() throws IOException {
+        if (Objects.nonNull(importFile)) {
+            Files.deleteIfExists(importFile.toPath());
+        }
+        if (!selectedFilenames.isEmpty()) {
+            createPlugin().deleteFiles(selectedFilenames);
+        }
+    }
+
+    /**
+     * Returns the records which could not be imported.
+     *
+     * @return the error messages by record id
+     */
+    public Map<String, String> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of this
+     * thread object. This is necessary for threads that have terminated in
+     * order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     * @see org.kitodo.production.helper.tasks.EmptyTask#replace()
+     */
+    @Override
+    public MassImportTask replace() {
+        return new MassImportTask(this);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Objects;
+
+import org.goobi.production.flow.helper.SearchResultFormat;
+import org.goobi.production.flow.helper.SearchResultGeneration;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.helper.Helper;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Exports a search result of the process list into a temporary file in the
+ * background. This is used for search results too big to be written while the
+ * user waits for the response. When the task is finished, the file can be
+ * downloaded from the task manager.
+ */
+public class SearchResultExportTask extends EmptyTask {
+
+    private final SearchResultGeneration searchResultGeneration;
+    private final SearchResultFormat format;
+    private final long numberOfProcesses;
+    private final SecurityContext securityContext;
+    private File resultFile;
+
+    /**
+     * SearchResultExportTask constructor. The security context of the current
+     * user is taken over, as the search result is restricted to the projects
+     * of the user and the session client.
+     *
+     * @param filter
+     *            filter of the search result
+     * @param searchResultGeneration
+     *            search result to write
+     * @param format
+     *            file format to write
+     * @param numberOfProcesses
+     *            number of processes found, used to calculate the progress
+     */
+    public SearchResultExportTask(String filter, SearchResultGeneration searchResultGeneration,
+            SearchResultFormat format, long numberOfProcesses) {
+        super(filter);
+        this.searchResultGeneration = searchResultGeneration;
+        this.format = format;
+        this.numberOfProcesses = numberOfProcesses;
+        this.securityContext = SecurityContextHolder.getContext();
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart an export that was
+     * previously interrupted by the user.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private SearchResultExportTask(SearchResultExportTask source) {
+        super(source);
+        this.searchResultGeneration = source.searchResultGeneration;
+        this.format = source.format;
+        this.numberOfProcesses = source.numberOfProcesses;
+        this.securityContext = source.securityContext;
+    }
+
+    /**
+     * Returns the display name of the task to show to the user.
+     *
+     * @see org.kitodo.production.helper.tasks.INameableTask#getDisplayName()
+     */
+    @Override
+    public String getDisplayName() {
+        return Helper.getTranslation("searchResultExportTask");
+    }
+
+    /**
+     * Writes the search result into a temporary file. The progress is updated
+     * after each page of processes read from the index.
+     *
+     * @see org.kitodo.production.helper.tasks.EmptyTask#run()
+     */
+    @Override
+    public void run() {
+        SecurityContextHolder.setContext(securityContext);
+        File file = null;
+        try {
+            file = File.createTempFile("search", format.getFileName().substring(format.getFileName().indexOf('.')));
+            file.deleteOnExit();
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+                searchResultGeneration.write(format, outputStream, written -> {
+                    setWorkDetail(written + " / " + numberOfProcesses);
+                    if (numberOfProcesses > 0) {
+                        setProgress(Math.min(100, 100d * written / numberOfProcesses));
+                    }
+                });
+            }
+            if (isInterrupted()) {
+                Files.deleteIfExists(file.toPath());
+                return;
+            }
+            resultFile = file;
+            setProgress(100);
+        } catch (DataException | IOException | RuntimeException e) {
+            deleteQuietly(file);
+            setException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Deletes the written file. This is done after the file was downloaded,
+     * and when the task is removed from the task manager.
+     */
+    public void deleteResultFile() {
+        deleteQuietly(resultFile);
+        resultFile = null;
+    }
+
+    private void deleteQuietly(File file) {
+        if (Objects.nonNull(file) && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Returns the written file, if the task has finished.
+     *
+     * @return the file, or null if the export is not finished
+     */
+    public File getResultFile() {
+        return resultFile;
+    }
+
+    /**
+     * Returns the name under which the file is offered for download.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return format.getFileName();
+    }
+
+    /**
+     * Returns whether the file can be downloaded.
+     *
+     * @return whether the export has finished
+     */
+    public boolean isDownloadable() {
+        return Objects.nonNull(resultFile) && TaskState.FINISHED.equals(getTaskState());
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of this
+     * thread object. This is necessary for threads that have terminated in
+     * order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     * @see org.kitodo.production.helper.tasks.EmptyTask#replace()
+     */
+    @Override
+    public SearchResultExportTask replace() {
+        return new SearchResultExportTask(this);
+    }
+
+    /**
+     * Deletes the written file, if it wasn't downloaded.
+     *
+     * @see org.kitodo.production.helper.tasks.EmptyTask#dispose()
+     */
+    @Override
+    protected void dispose() {
+        deleteResultFile();
+    }
+}
@@ -145,7 +145,13 @@ public class TaskManager {
         do {
             redo = false;
             try {
-                singleton().taskList.removeIf(emptyTask -> emptyTask.getState().equals(Thread.State.TERMINATED));
+                singleton().taskList.removeIf(emptyTask -> {
+                    if (emptyTask.getState().equals(Thread.State.TERMINATED)) {
+                        emptyTask.dispose();
+                        return true;
+                    }
+                    return false;
+                });
             } catch (ConcurrentModificationException listModifiedByAnotherThreadWhileIterating) {
                 redo = true;
             }
@@ -222,6 +228,7 @@ public class TaskManager {
                         task.interrupt(Behaviour.DELETE_IMMEDIATELY);
                     } else {
                         inspector.remove();
+                        task.dispose();
                     }
                 }
             } catch (ConcurrentModificationException listModifiedByAnotherThreadWhileIterating) {
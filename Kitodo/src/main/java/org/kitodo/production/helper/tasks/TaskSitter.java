@@ -171,6 +171,7 @@ public class TaskSitter implements Runnable, ServletContextListener {
                     case NEW:
                         if (Behaviour.DELETE_IMMEDIATELY.equals(task.getBehaviour())) {
                             position.remove();
+                            task.dispose();
                         } else {
                             launchableThreads.addLast(task);
                         }
@@ -179,9 +180,11 @@ public class TaskSitter implements Runnable, ServletContextListener {
                         switch (task.getBehaviour()) {
                             case DELETE_IMMEDIATELY:
                                 position.remove();
+                                task.dispose();
                                 break;
                             case PREPARE_FOR_RESTART:
                                 EmptyTask replacement = task.replace();
+                                task.dispose();
                                 if (Objects.nonNull(replacement)) {
                                     position.set(replacement);
                                     launchableThreads.addLast(replacement);
@@ -195,6 +198,7 @@ public class TaskSitter implements Runnable, ServletContextListener {
                                 } else if (durationDead
                                         .isLongerThan(taskFinishedSuccessfully ? successfulMaxAge : failedMaxAge)) {
                                     position.remove();
+                                    task.dispose();
                                     break;
                                 }
                                 if (taskFinishedSuccessfully) {
@@ -212,10 +216,12 @@ public class TaskSitter implements Runnable, ServletContextListener {
 
         while (finishedThreads.size() > successfulMaxCount && (task = finishedThreads.pollFirst()) != null) {
             taskManager.taskList.remove(task);
+            task.dispose();
         }
 
         while (failedThreads.size() > failedMaxCount && (task = failedThreads.pollFirst()) != null) {
             taskManager.taskList.remove(task);
+            task.dispose();
         }
 
         while (launchableThreads.size() > availableClearance) {
@@ -24,6 +24,12 @@ public class MetadataImageComparator implements Comparator<Object> {
 
     private FileService fileService = ServiceManager.getFileService();
 
+    /**
+     * How to sort the images. The setting is read once, as the comparator is
+     * called very often when a folder with many files is sorted.
+     */
+    private final String imageSorting = ConfigCore.getParameter(ParameterCore.IMAGE_SORTING, "number");
+
     @Override
     public int compare(Object firstObject, Object secondObject) {
         String firstName;
@@ -53,8 +59,6 @@ public class MetadataImageComparator implements Comparator<Object> {
     }
 
     private int compareImages(String firstName, String secondName) {
-        String imageSorting = ConfigCore.getParameter(ParameterCore.IMAGE_SORTING, "number");
-
         if (imageSorting.equalsIgnoreCase("number")) {
             try {
                 Integer firstIterator = Integer.valueOf(firstName);
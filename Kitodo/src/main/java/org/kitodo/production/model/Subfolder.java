@@ -16,9 +16,13 @@ import java.io.FilenameFilter;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.net.URI;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -60,6 +64,50 @@ import org.kitodo.production.services.file.FileService;
  * institutions to migrate the files.
  */
 public class Subfolder {
+    /**
+     * Maximum number of directory listings kept.
+     */
+    private static final int CACHED_LISTINGS = 64;
+
+    /**
+     * Time in milliseconds a directory must be unchanged before its listing is
+     * kept. Some file systems store the time of last modification in seconds
+     * only, so a file added right after listing the directory could otherwise
+     * go unnoticed.
+     */
+    private static final long MODIFICATION_TIME_RESOLUTION = 2000;
+
+    /**
+     * Listings of directories by directory and file name pattern, shared by
+     * all subfolders, so that the data editor, the image generator and the
+     * validation don't list the same directory one after another. A listing
+     * is used as long as the time of last modification of the directory is
+     * unchanged, which changes whenever a file is added, removed or renamed.
+     */
+    private static final Map<String, Listing> listings = Collections
+            .synchronizedMap(new LinkedHashMap<String, Listing>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Listing> eldest) {
+                    return size() > CACHED_LISTINGS;
+                }
+            });
+
+    /**
+     * The contents of a directory together with the time of last modification
+     * of the directory when it was listed.
+     */
+    private static final class Listing {
+        private final long lastModified;
+        private final SortedMap<String, URI> contents;
+
+        private Listing(long lastModified, SortedMap<String, URI> contents) {
+            this.lastModified = lastModified;
+            this.contents = contents;
+        }
+    }
+
     private final FileService fileService = ServiceManager.getFileService();
     /**
      * The general metrics of this kind of subfolder. So to say its type.
@@ -78,6 +126,12 @@ public class Subfolder {
      */
     private final VariableReplacer variableReplacer;
 
+    /**
+     * The pattern to which the file names must correspond. It doesn't contain
+     * variables, so it is determined only once.
+     */
+    private Pattern fileNamePattern;
+
     /**
      * Creates a new subfolder.
      * 
@@ -184,7 +238,10 @@ public class Subfolder {
      * @return the canonical part of the file name
      */
     public String getCanonical(URI uri) {
-        return createKeyMapperForPattern(determineDirectoryAndFileNamePattern().getRight()).apply(uri);
+        if (Objects.isNull(fileNamePattern)) {
+            fileNamePattern = determineDirectoryAndFileNamePattern().getRight();
+        }
+        return createKeyMapperForPattern(fileNamePattern).apply(uri);
     }
 
     /**
@@ -285,10 +342,26 @@ public class Subfolder {
      * files representing the same content in two different folders. A typical
      * canonical part could be “00000001”.
      *
+     * <p>
+     * The directory is listed again only if it was changed since it was listed
+     * last.
+     *
      * @return map of canonical file name parts to URIs
      */
     public Map<String, URI> listContents() {
-        return listDirectory(determineDirectoryAndFileNamePattern());
+        Pair<URI, Pattern> query = determineDirectoryAndFileNamePattern();
+        String key = query.getLeft() + File.pathSeparator + query.getRight().pattern();
+        long lastModified = new File(query.getLeft().getPath()).lastModified();
+        Listing listing = listings.get(key);
+        if (Objects.isNull(listing) || listing.lastModified != lastModified) {
+            listing = new Listing(lastModified, listDirectory(query));
+            if (lastModified > 0 && System.currentTimeMillis() - lastModified > MODIFICATION_TIME_RESOLUTION) {
+                listings.put(key, listing);
+            } else {
+                listings.remove(key);
+            }
+        }
+        return new TreeMap<>(listing.contents);
     }
 
     /**
@@ -299,7 +372,7 @@ public class Subfolder {
      *            searched and a pattern to which the file names must correspond
      * @return a map from the canonical file name part to the URI
      */
-    private Map<String, URI> listDirectory(Pair<URI, Pattern> query) {
+    private SortedMap<String, URI> listDirectory(Pair<URI, Pattern> query) {
         FilenameFilter filter = (dir, name) -> query.getRight().matcher(name).matches();
         Stream<URI> relativeURIs = fileService.getSubUris(filter, query.getLeft()).parallelStream();
         Stream<URI> absoluteURIs = relativeURIs
@@ -16,8 +16,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.joda.time.Days;
 import org.joda.time.LocalDate;
 import org.joda.time.format.DateTimeFormatter;
 import org.kitodo.production.model.bibliography.course.metadata.CountableMetadata;
@@ -191,12 +193,8 @@ public class Block {
             return 0;
         }
         long numberOfIndividualIssues = 0;
-        for (LocalDate day = firstAppearance; !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-            for (Issue issue : getIssues()) {
-                if (issue.isMatch(day)) {
-                    numberOfIndividualIssues += 1;
-                }
-            }
+        for (Issue issue : issues) {
+            numberOfIndividualIssues += issue.countIndividualIssues(firstAppearance, lastAppearance);
         }
         return numberOfIndividualIssues;
     }
@@ -248,6 +246,22 @@ public class Block {
         return result;
     }
 
+    /**
+     * Returns the {@code IndividualIssue} objects of this block day by day.
+     * The objects are generated lazily while the stream is consumed.
+     *
+     * @return a stream of IndividualIssue objects, each of them representing
+     *         one physically appeared issue
+     */
+    public Stream<IndividualIssue> streamIndividualIssues() {
+        if (Objects.isNull(firstAppearance) || Objects.isNull(lastAppearance)) {
+            return Stream.empty();
+        }
+        long days = Days.daysBetween(firstAppearance, lastAppearance).getDays() + 1L;
+        return Stream.iterate(firstAppearance, day -> day.plusDays(1)).limit(Math.max(days, 0))
+                .flatMap(day -> getIndividualIssues(day).stream());
+    }
+
     /**
      * Returns an issue from the Block by the issue’s
      * heading, or null if the block doesn’t contain an issue with that heading.
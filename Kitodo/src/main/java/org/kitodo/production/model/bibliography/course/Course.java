@@ -15,9 +15,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -264,6 +266,13 @@ public class Course extends ArrayList<Block> {
 
     private boolean processesAreVolatile = true;
 
+    /**
+     * Granularity the processes were split into. As long as the processes
+     * were not cleared because the course changed, splitting into the same
+     * granularity again returns at once.
+     */
+    private transient Granularity splitGranularity;
+
     /**
      * The name of the year, such as “business year”, “fiscal year”, or
      * “season”.
@@ -535,25 +544,19 @@ public class Course extends ArrayList<Block> {
     }
 
     /**
-     * Generates a list of IndividualIssue
-     * objects, each of them representing a stamping of one physically appeared
-     * issue.
+     * Returns the IndividualIssue objects, each of them representing a stamping
+     * of one physically appeared issue, in the order of their appearance. The
+     * objects are generated lazily block by block and day by day while the
+     * stream is consumed, so they are never all held in memory at once.
      *
-     * @return a LinkedHashSet of IndividualIssue objects, each of them
-     *         representing one physically appeared issue
+     * @return a stream of IndividualIssue objects, each of them representing
+     *         one physically appeared issue
      */
-    public Set<IndividualIssue> getIndividualIssues() {
-        LinkedHashSet<IndividualIssue> individualIssues = new LinkedHashSet<>();
-        LocalDate lastAppearance = getLastAppearance();
-        LocalDate firstAppearance = getFirstAppearance();
-        if (Objects.nonNull(firstAppearance)) {
-            for (LocalDate day = firstAppearance; !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-                for (Block block : this) {
-                    individualIssues.addAll(block.getIndividualIssues(day));
-                }
-            }
-        }
-        return individualIssues;
+    public Stream<IndividualIssue> streamIndividualIssues() {
+        // blocks must not overlap, so their issues follow one another
+        return stream().filter(block -> Objects.nonNull(block.getFirstAppearance()))
+                .sorted(Comparator.comparing(Block::getFirstAppearance))
+                .flatMap(Block::streamIndividualIssues);
     }
 
     /**
@@ -638,14 +641,11 @@ public class Course extends ArrayList<Block> {
     public long guessTotalNumberOfPages() {
         long totalNumberOfPages = 0;
         for (Block block : this) {
-            LocalDate lastAppearance = block.getLastAppearance();
-            for (LocalDate day = block.getFirstAppearance(); !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-                for (Issue issue : block.getIssues()) {
-                    if (issue.isMatch(day)) {
-                        totalNumberOfPages += day.getDayOfWeek() != DateTimeConstants.SUNDAY ? WEEKDAY_PAGES
-                                : SUNDAY_PAGES;
-                    }
-                }
+            for (Issue issue : block.getIssues()) {
+                totalNumberOfPages += WEEKDAY_PAGES * issue.countIndividualIssues(block.getFirstAppearance(),
+                    block.getLastAppearance(), dayOfWeek -> dayOfWeek != DateTimeConstants.SUNDAY);
+                totalNumberOfPages += SUNDAY_PAGES * issue.countIndividualIssues(block.getFirstAppearance(),
+                    block.getLastAppearance(), dayOfWeek -> dayOfWeek == DateTimeConstants.SUNDAY);
             }
         }
         return totalNumberOfPages;
@@ -764,19 +764,25 @@ public class Course extends ArrayList<Block> {
     }
 
     /**
-     * Calculates the processes depending on the given BreakMode.
+     * Calculates the processes depending on the given BreakMode. If the
+     * processes have already been calculated for this mode and the course has
+     * not changed since, they are kept.
      *
      * @param mode
      *            how the course shall be broken into issues
      */
 
     public void splitInto(Granularity mode) {
+        if (mode.equals(splitGranularity) && !processes.isEmpty()) {
+            return;
+        }
         int initialCapacity = 10;
         Integer lastMark = null;
         List<IndividualIssue> process = null;
 
         processes.clear();
-        for (IndividualIssue issue : getIndividualIssues()) {
+        for (Iterator<IndividualIssue> issues = streamIndividualIssues().iterator(); issues.hasNext();) {
+            IndividualIssue issue = issues.next();
             Integer mark = issue.getBreakMark(mode, yearStart);
             if (!mark.equals(lastMark) && process != null) {
                 initialCapacity = (int) Math.round(1.1 * process.size());
@@ -792,6 +798,7 @@ public class Course extends ArrayList<Block> {
         if (process != null) {
             processes.add(process);
         }
+        splitGranularity = mode;
     }
 
     /**
@@ -911,5 +918,6 @@ public class Course extends ArrayList<Block> {
      */
     public void setYearStart(MonthDay yearStart) {
         this.yearStart = yearStart;
+        splitGranularity = null;
     }
 }
@@ -14,8 +14,10 @@ package org.kitodo.production.model.bibliography.course;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 import org.joda.time.DateTimeConstants;
+import org.joda.time.Days;
 import org.joda.time.LocalDate;
 
 /**
@@ -243,15 +245,57 @@ public class Issue {
      *             if lastAppearance is null
      */
     long countIndividualIssues(LocalDate firstAppearance, LocalDate lastAppearance) {
+        return countIndividualIssues(firstAppearance, lastAppearance, dayOfWeek -> true);
+    }
+
+    /**
+     * Determines how many stampings of this issue physically appeared on the
+     * given days of week. The regular appearances are counted per day of week
+     * from the length of the time range, and then the exclusions and
+     * additions are taken into account, so the time needed does not depend on
+     * the length of the time range.
+     *
+     * @param firstAppearance
+     *            first day of the time range to inspect
+     * @param lastAppearance
+     *            last day of the time range to inspect
+     * @param daysOfWeekFilter
+     *            days of week to count
+     * @return the count of issues
+     */
+    long countIndividualIssues(LocalDate firstAppearance, LocalDate lastAppearance, IntPredicate daysOfWeekFilter) {
+        if (firstAppearance.isAfter(lastAppearance)) {
+            return 0;
+        }
+        int days = Days.daysBetween(firstAppearance, lastAppearance).getDays() + 1;
         long numberOfIndividualIssues = 0;
-        for (LocalDate day = firstAppearance; !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-            if (isMatch(day)) {
-                numberOfIndividualIssues += 1;
+        for (int dayOfWeek : daysOfWeek) {
+            if (daysOfWeekFilter.test(dayOfWeek)) {
+                int offset = (dayOfWeek - firstAppearance.getDayOfWeek() + DateTimeConstants.DAYS_PER_WEEK)
+                        % DateTimeConstants.DAYS_PER_WEEK;
+                numberOfIndividualIssues += days / DateTimeConstants.DAYS_PER_WEEK
+                        + (offset < days % DateTimeConstants.DAYS_PER_WEEK ? 1 : 0);
+            }
+        }
+        for (LocalDate exclusion : exclusions) {
+            if (isInRange(exclusion, firstAppearance, lastAppearance) && daysOfWeekFilter.test(exclusion.getDayOfWeek())
+                    && daysOfWeek.contains(exclusion.getDayOfWeek()) && !additions.contains(exclusion)) {
+                numberOfIndividualIssues--;
+            }
+        }
+        for (LocalDate addition : additions) {
+            if (isInRange(addition, firstAppearance, lastAppearance) && daysOfWeekFilter.test(addition.getDayOfWeek())
+                    && !daysOfWeek.contains(addition.getDayOfWeek())) {
+                numberOfIndividualIssues++;
             }
         }
         return numberOfIndividualIssues;
     }
 
+    private static boolean isInRange(LocalDate date, LocalDate firstAppearance, LocalDate lastAppearance) {
+        return !date.isBefore(firstAppearance) && !date.isAfter(lastAppearance);
+    }
+
     /**
      * Getter function for the Set of additions.
      *
@@ -25,6 +25,10 @@ import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -45,8 +49,11 @@ import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterfac
 import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+import org.kitodo.config.ConfigCore;
 import org.kitodo.config.ConfigProject;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.ProcessGenerationException;
@@ -61,7 +68,10 @@ import org.kitodo.production.services.dataformat.MetsService;
 import org.kitodo.production.services.file.FileService;
 
 /**
- * A generator for newspaper processes.
+ * A generator for newspaper processes. The processes are created in chunks.
+ * The processes of a chunk are saved to the database in one transaction, their
+ * METS files are written by several threads, they are sent to the index in one
+ * request, and the year process they belong to is saved once.
  */
 public class NewspaperProcessesGenerator extends ProcessGenerator {
     private static final Logger logger = LogManager.getLogger(NewspaperProcessesGenerator.class);
@@ -90,6 +100,18 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private static final String PATTERN_DOUBLE_YEAR = "yyyy/yyyy";
 
+    /**
+     * Maximum number of processes created in one step.
+     */
+    private final int chunkSize = Math.max(1,
+        ConfigCore.getIntParameterOrDefaultValue(ParameterCore.NEWSPAPER_CHUNK_SIZE));
+
+    /**
+     * Number of METS files written at the same time.
+     */
+    private final int writeThreads = Math.max(1,
+        ConfigCore.getIntParameterOrDefaultValue(ParameterCore.NEWSPAPER_WRITE_THREADS));
+
     /**
      * This class requires service for files.
      */
@@ -122,7 +144,9 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
 
     /**
      * The current step. This class operates step by step and the long running
-     * task can always be paused between two steps in Task Manager.
+     * task can always be paused between two steps in Task Manager. There is a
+     * step for each process to create, but the processes are created a chunk
+     * at a time, so one call may complete several steps.
      */
     private int currentStep = 0;
 
@@ -245,7 +269,8 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     }
 
     /**
-     * Works the next step of the long-running task.
+     * Works the next step of the long-running task. When processes are
+     * created, the steps for a whole chunk of processes are worked.
      *
      * @throws ConfigurationException
      *             if the configuration is wrong
@@ -266,12 +291,13 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
 
         if (currentStep == 0) {
             initialize();
+            currentStep++;
         } else if (currentStep - NUMBER_OF_INIT_STEPS < processesToCreate.size()) {
-            createProcess(currentStep - NUMBER_OF_INIT_STEPS);
+            currentStep += createProcesses(currentStep - NUMBER_OF_INIT_STEPS);
         } else {
             finish();
+            currentStep++;
         }
-        currentStep++;
     }
 
     /**
@@ -428,34 +454,119 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         return metadataEntries;
     }
 
-    private void createProcess(int index) throws DAOException, DataException, IOException, ProcessGenerationException {
+    /**
+     * Creates a chunk of processes, beginning with the given one. A chunk ends
+     * with the year, so all processes of a chunk belong to the same year
+     * process.
+     *
+     * @param first
+     *            index of the first process to create
+     * @return the number of steps worked
+     */
+    private int createProcesses(int first)
+            throws DAOException, DataException, IOException, ProcessGenerationException {
         final long begin = System.nanoTime();
 
-        List<IndividualIssue> individualIssuesForProcess = processesToCreate.get(index);
-        if (individualIssuesForProcess.isEmpty()) {
-            return;
+        List<Process> processes = new ArrayList<>(chunkSize);
+        List<List<IndividualIssue>> individualIssuesForProcesses = new ArrayList<>(chunkSize);
+        String yearMark = null;
+        int index = first;
+        while (index < processesToCreate.size() && processes.size() < chunkSize) {
+            List<IndividualIssue> individualIssuesForProcess = processesToCreate.get(index);
+            if (!individualIssuesForProcess.isEmpty()) {
+                IndividualIssue firstIssue = individualIssuesForProcess.get(0);
+                String processYearMark = dateMark(yearSimpleMetadataView.getScheme(), firstIssue.getDate());
+                if (Objects.isNull(yearMark)) {
+                    yearMark = processYearMark;
+                    prepareTheAppropriateYearProcess(yearMark);
+                    generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
+                } else if (processYearMark.equals(yearMark)) {
+                    generateNextProcess();
+                } else {
+                    break;
+                }
+                Process process = getGeneratedProcess();
+                process.setTitle(titleGenerator.generateTitle(titleDefinition, firstIssue.getGenericFields()));
+                process.setParent(yearProcess);
+                process.setIndexAction(IndexAction.INDEX);
+                processes.add(process);
+                individualIssuesForProcesses.add(individualIssuesForProcess);
+            }
+            index++;
         }
 
-        IndividualIssue firstIssue = individualIssuesForProcess.get(0);
-        prepareTheAppropriateYearProcess(dateMark(yearSimpleMetadataView.getScheme(), firstIssue.getDate()));
-
-        generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
-        String title = titleGenerator.generateTitle(titleDefinition, firstIssue.getGenericFields());
-        getGeneratedProcess().setTitle(title);
-        processService.save(getGeneratedProcess());
-        processService.refresh(getGeneratedProcess());
-        getGeneratedProcess().setParent(yearProcess);
-        yearProcess.getChildren().add(getGeneratedProcess());
-        createMetadataFileForProcess(individualIssuesForProcess);
-        processService.save(getGeneratedProcess());
+        if (!processes.isEmpty()) {
+            processService.saveList(processes);
+            yearProcess.getChildren().addAll(processes);
+            createMetadataFilesForProcesses(processes, individualIssuesForProcesses);
+            processService.saveListToIndex(processes);
+            saveCurrentYearProcess();
+        }
 
         if (logger.isTraceEnabled()) {
-            logger.trace("Creating newspaper process {} took {} ms", title,
+            logger.trace("Creating {} newspaper processes took {} ms", processes.size(),
                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
+        return index - first;
+    }
+
+    /**
+     * Creates the METS files of a chunk of processes. The object models are
+     * created and linked into the year one after another, as the year is
+     * shared, and then they are written by several threads. The method returns
+     * when all files are written, even if the thread is interrupted, so that
+     * the chunk is complete.
+     *
+     * @param processes
+     *            processes to create the METS files for
+     * @param individualIssuesForProcesses
+     *            the issues of each process
+     * @throws IOException
+     *             if a file cannot be written
+     */
+    private void createMetadataFilesForProcesses(List<Process> processes,
+            List<List<IndividualIssue>> individualIssuesForProcesses) throws IOException {
+
+        ExecutorService writers = Executors.newFixedThreadPool(Math.min(writeThreads, processes.size()), runnable -> {
+            Thread thread = new Thread(runnable, "newspaper processes of " + overallProcess.getTitle());
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean interrupted = false;
+        try {
+            List<Future<?>> writes = new ArrayList<>(processes.size());
+            for (int i = 0; i < processes.size(); i++) {
+                Process process = processes.get(i);
+                Workpiece workpiece = createWorkpiece(process, individualIssuesForProcesses.get(i));
+                fileService.createProcessLocation(process);
+                URI metadataFileUri = processService.getMetadataFileUri(process);
+                writes.add(writers.submit(() -> {
+                    metsService.saveWorkpiece(workpiece, metadataFileUri);
+                    return null;
+                }));
+            }
+            for (Future<?> write : writes) {
+                while (true) {
+                    try {
+                        write.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } finally {
+            writers.shutdown();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
-    private void createMetadataFileForProcess(List<IndividualIssue> individualIssues) throws IOException {
+    private Workpiece createWorkpiece(Process process, List<IndividualIssue> individualIssues) {
 
         IncludedStructuralElement rootElement = new IncludedStructuralElement();
         MetadataEntry dateMetadataEntry = new MetadataEntry();
@@ -489,16 +600,14 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
             IncludedStructuralElement yearIssue = new IncludedStructuralElement();
             LinkedMetsResource linkToProcess = new LinkedMetsResource();
             linkToProcess.setLoctype("Kitodo.Production");
-            linkToProcess.setUri(processService.getProcessURI(getGeneratedProcess()));
+            linkToProcess.setUri(processService.getProcessURI(process));
             yearIssue.setLink(linkToProcess);
             yearDay.getChildren().add(yearIssue);
         }
 
         Workpiece workpiece = new Workpiece();
         workpiece.setRootElement(rootElement);
-        fileService.createProcessLocation(getGeneratedProcess());
-        final URI metadataFileUri = processService.getMetadataFileUri(getGeneratedProcess());
-        metsService.saveWorkpiece(workpiece, metadataFileUri);
+        return workpiece;
     }
 
     /**
@@ -536,29 +645,35 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         if (yearMark.equals(currentYear)) {
             return;
         } else if (Objects.nonNull(currentYear)) {
-            saveAndCloseCurrentYearProcess();
+            closeCurrentYearProcess();
         }
         if (!openExistingYearProcess(yearMark)) {
             createNewYearProcess(yearMark);
         }
     }
 
-    private void saveAndCloseCurrentYearProcess() throws DataException, IOException {
+    /**
+     * Saves the year process with the links to its children. This is done
+     * after each chunk, so the year process is always complete between two
+     * steps.
+     */
+    private void saveCurrentYearProcess() throws DataException, IOException {
         final long begin = System.nanoTime();
 
         metsService.saveWorkpiece(yearWorkpiece, yearMetadataFileUri);
         processService.save(yearProcess);
 
+        if (logger.isTraceEnabled()) {
+            logger.trace("Saving year process for {} took {} ms", currentYear,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
+    }
+
+    private void closeCurrentYearProcess() {
         this.yearProcess = null;
         this.yearWorkpiece = null;
         this.yearMetadataFileUri = null;
-        String year = currentYear;
         this.currentYear = null;
-
-        if (logger.isTraceEnabled()) {
-            logger.trace("Saving year process for {} took {} ms", year,
-                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
-        }
     }
 
     private boolean openExistingYearProcess(String yearMark)
@@ -664,7 +779,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     private void finish() throws DataException, IOException {
         final long begin = System.nanoTime();
 
-        saveAndCloseCurrentYearProcess();
+        closeCurrentYearProcess();
         metsService.saveWorkpiece(overallWorkpiece, overallMetadataFileUri);
         processService.save(overallProcess);
 
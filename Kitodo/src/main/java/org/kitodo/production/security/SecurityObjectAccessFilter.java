@@ -12,9 +12,10 @@
 package org.kitodo.production.security;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -39,6 +40,26 @@ public class SecurityObjectAccessFilter extends GenericFilterBean {
     private AccessDeniedHandler accessDeniedHandler = new AccessDeniedHandlerImpl();
     private SecurityAccessService securityAccessService = ServiceManager.getSecurityAccessService();
 
+    /**
+     * Authority checks by page. Only the check of the requested page is
+     * evaluated.
+     */
+    private final Map<String, BooleanSupplier> requested = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     */
+    public SecurityObjectAccessFilter() {
+        requested.put("processEdit", securityAccessService::hasAuthorityToViewProcess);
+        requested.put("projectEdit", securityAccessService::hasAuthorityToViewProject);
+        requested.put("templateEdit", securityAccessService::hasAuthorityToViewTemplate);
+        requested.put("workflowEdit", securityAccessService::hasAuthorityToViewWorkflow);
+        requested.put("docketEdit", securityAccessService::hasAuthorityToViewDocket);
+        requested.put("rulesetEdit", securityAccessService::hasAuthorityToViewRuleset);
+        requested.put("roleEdit", securityAccessService::hasAuthorityToViewRole);
+        requested.put("clientEdit", securityAccessService::hasAuthorityToViewClient);
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -60,17 +81,7 @@ public class SecurityObjectAccessFilter extends GenericFilterBean {
                 return;
             }
 
-            Map<String, Boolean> requested = new HashMap<>();
-            requested.put("processEdit", securityAccessService.hasAuthorityToViewProcess());
-            requested.put("projectEdit", securityAccessService.hasAuthorityToViewProject());
-            requested.put("templateEdit", securityAccessService.hasAuthorityToViewTemplate());
-            requested.put("workflowEdit", securityAccessService.hasAuthorityToViewWorkflow());
-            requested.put("docketEdit", securityAccessService.hasAuthorityToViewDocket());
-            requested.put("rulesetEdit", securityAccessService.hasAuthorityToViewRuleset());
-            requested.put("roleEdit", securityAccessService.hasAuthorityToViewRole());
-            requested.put("clientEdit", securityAccessService.hasAuthorityToViewClient());
-
-            for (Map.Entry<String, Boolean> entry : requested.entrySet()) {
+            for (Map.Entry<String, BooleanSupplier> entry : requested.entrySet()) {
                 if (isAccessDenied(httpServletRequest, httpServletResponse, entry.getKey(), entry.getValue())) {
                     return;
                 }
@@ -87,8 +98,8 @@ public class SecurityObjectAccessFilter extends GenericFilterBean {
     }
 
     private boolean isAccessDenied(HttpServletRequest request, HttpServletResponse response, String page,
-            boolean hasAuthority) throws IOException, ServletException {
-        if (request.getRequestURI().contains("pages/" + page) && !hasAuthority) {
+            BooleanSupplier hasAuthority) throws IOException, ServletException {
+        if (request.getRequestURI().contains("pages/" + page) && !hasAuthority.getAsBoolean()) {
             denyAccess(request, response);
             return true;
         }
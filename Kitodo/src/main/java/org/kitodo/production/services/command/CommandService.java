@@ -11,25 +11,70 @@
 
 package org.kitodo.production.services.command;
 
-import io.reactivex.Flowable;
-import io.reactivex.schedulers.Schedulers;
-
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandInterface;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
+/**
+ * Runs scripts. All scripts are run by a pool with a limited number of
+ * threads, so that a large number of automatic tasks starting at the same time
+ * queue up instead of starting all their scripts at once. A script running
+ * longer than its timeout, or whose caller is interrupted, is terminated.
+ */
 public class CommandService {
+    private static final Logger logger = LogManager.getLogger(CommandService.class);
+
+    private static final ThreadPoolExecutor commandExecutor = createCommandExecutor();
+
+    /**
+     * Terminates scripts which run longer than their timeout.
+     */
+    private static final ScheduledExecutorService watchdog = Executors
+            .newSingleThreadScheduledExecutor(daemonThreads("script watchdog"));
 
-    private ArrayList<CommandResult> finishedCommandResults = new ArrayList<>();
+    private List<CommandResult> finishedCommandResults = new CopyOnWriteArrayList<>();
     private Random random = new Random(1000000);
 
+    private static ThreadPoolExecutor createCommandExecutor() {
+        int threads = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SCRIPT_THREADS));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), daemonThreads("script runner"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger number = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " " + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     /**
      * Method executes a script string.
      *
@@ -43,20 +88,88 @@ public class CommandService {
      *             an IOException
      */
     public CommandResult runCommand(String script) throws IOException {
+        return runCommand(script, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SCRIPT_TIMEOUT),
+            TimeUnit.SECONDS);
+    }
+
+    /**
+     * Method executes a script string with a timeout. The script waits in the
+     * queue until a thread of the pool is free. The timeout starts when the
+     * script starts running. If the calling thread is interrupted meanwhile,
+     * the script is terminated or removed from the queue.
+     *
+     * @param script
+     *            Path to the script file with optional arguments (filepath
+     *            parameter1 parameter2 ...).
+     * @param timeout
+     *            maximum run time of the script, 0 for no limit
+     * @param unit
+     *            time unit of the timeout
+     * @return The CommandResult.
+     *
+     * @throws IOException
+     *             an IOException
+     */
+    public CommandResult runCommand(String script, long timeout, TimeUnit unit) throws IOException {
         if (Objects.isNull(script)) {
             return null;
         }
         KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-        CommandInterface command = serviceLoader.loadModule();
+        CommandInterface command = serviceLoader.loadSingletonModule();
 
-        CommandResult commandResult = command.runCommand(random.nextInt(), script);
+        int id = random.nextInt();
+        long queued = System.nanoTime();
+        Future<CommandResult> execution = commandExecutor
+                .submit(() -> execute(command, id, script, timeout, unit, queued));
+        CommandResult commandResult;
+        try {
+            commandResult = execution.get();
+        } catch (InterruptedException e) {
+            execution.cancel(true);
+            Thread.currentThread().interrupt();
+            return new CommandResult(id, script, false, Collections.singletonList("Script was cancelled"));
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
         List<String> commandResultMessages = commandResult.getMessages();
-        if (!commandResultMessages.isEmpty() && commandResultMessages.get(0).contains("IOException")) {
+        if (!commandResultMessages.isEmpty() && Objects.nonNull(commandResultMessages.get(0))
+                && commandResultMessages.get(0).contains("IOException")) {
             throw new IOException(commandResultMessages.get(1));
         }
         return commandResult;
     }
 
+    /**
+     * Runs a script on a thread of the pool and logs how long it waited in the
+     * queue and ran.
+     */
+    private static CommandResult execute(CommandInterface command, int id, String script, long timeout,
+            TimeUnit unit, long queued) {
+        long started = System.nanoTime();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        Thread runner = Thread.currentThread();
+        ScheduledFuture<?> deadline = timeout > 0 ? watchdog.schedule(() -> {
+            timedOut.set(true);
+            runner.interrupt();
+        }, timeout, unit) : null;
+        try {
+            CommandResult commandResult = command.runCommand(id, script);
+            if (timedOut.get()) {
+                String message = "Script timed out after " + timeout + " " + unit.toString().toLowerCase();
+                logger.error("{}: {}", message, script);
+                return new CommandResult(id, script, false, Collections.singletonList(message));
+            }
+            return commandResult;
+        } finally {
+            if (Objects.nonNull(deadline)) {
+                deadline.cancel(false);
+            }
+            logger.info("Script {} waited {} ms and ran {} ms, {} more scripts waiting", script,
+                TimeUnit.NANOSECONDS.toMillis(started - queued), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                commandExecutor.getQueue().size());
+        }
+    }
+
     /**
      * Method executes a script file with parameters.
      *
@@ -97,7 +210,8 @@ public class CommandService {
     }
 
     /**
-     * Method runs a specified script file asynchron.
+     * Method runs a specified script file asynchron. The script waits in the
+     * queue until a thread of the pool is free.
      *
      * @param script
      *            The script.
@@ -105,15 +219,12 @@ public class CommandService {
     public void runCommandAsync(String script) {
         if (Objects.nonNull(script)) {
             KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-            CommandInterface commandInterface = serviceLoader.loadModule();
-
-            Flowable<CommandResult> source = Flowable.fromCallable(() ->
-                commandInterface.runCommand(random.nextInt(), script)
-            );
+            CommandInterface commandInterface = serviceLoader.loadSingletonModule();
 
-            Flowable<CommandResult> commandBackgroundWorker = source.subscribeOn(Schedulers.io());
-            Flowable<CommandResult> commandResultListener = commandBackgroundWorker.observeOn(Schedulers.single());
-            commandResultListener.subscribe(this::handleCommandResult);
+            int id = random.nextInt();
+            long queued = System.nanoTime();
+            commandExecutor.execute(() -> handleCommandResult(execute(commandInterface, id, script,
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SCRIPT_TIMEOUT), TimeUnit.SECONDS, queued)));
         }
     }
 
@@ -15,6 +15,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +48,7 @@ public class KitodoScriptService {
     private static final String STATUS = "status";
     private static final String TASK_TITLE = "steptitle";
     private static final String ROLE = "role";
+    private static final int PROCESSES_REMOVED_AT_ONCE = 100;
 
     /**
      * Start the script execution.
@@ -76,7 +78,7 @@ public class KitodoScriptService {
             Helper.setErrorMessage(KITODO_SCRIPT_FIELD, "missing action",
                 " - possible: 'action:addRole, action:setTaskProperty, action:setStepStatus, "
                         + "action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
-                        + "action:importFromFileSystem'");
+                        + "action:importFromFileSystem, action:rescanImages'");
             return;
         }
 
@@ -109,6 +111,9 @@ public class KitodoScriptService {
             case "deleteTiffHeaderFile":
                 deleteTiffHeaderFile(processes);
                 break;
+            case "rescanImages":
+                rescanImages(processes);
+                break;
             case "setRuleset":
                 setRuleset(processes);
                 break;
@@ -142,7 +147,7 @@ public class KitodoScriptService {
                 Helper.setErrorMessage(KITODO_SCRIPT_FIELD, "Unknown action",
                     " - use: 'action:addRole, action:setTaskProperty, action:setStepStatus, "
                             + "action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
-                            + "action:importFromFileSystem'");
+                            + "action:importFromFileSystem, action:rescanImages'");
                 return false;
         }
         return true;
@@ -161,7 +166,29 @@ public class KitodoScriptService {
         Helper.setMessage(KITODO_SCRIPT_FIELD, "", "updateContentFiles finished");
     }
 
+    /**
+     * Read the image directories of the given processes again, to take images
+     * into account which were added or removed outside of Kitodo.Production,
+     * and update the number of images of the processes.
+     *
+     * @param processes
+     *            list of Process objects
+     */
+    private void rescanImages(List<Process> processes) {
+        for (Process process : processes) {
+            URI imagesOrigDirectory = ServiceManager.getProcessService().getImagesOriginDirectory(true, process);
+            fileService.rescanDirectory(imagesOrigDirectory);
+            Integer numberOfFiles = fileService.getNumberOfFiles(imagesOrigDirectory);
+            if (!numberOfFiles.equals(process.getSortHelperImages())) {
+                process.setSortHelperImages(numberOfFiles);
+                saveProcess(process);
+            }
+        }
+        Helper.setMessage(KITODO_SCRIPT_FIELD, "", "rescanImages finished");
+    }
+
     private void deleteProcess(List<Process> processes, boolean contentOnly) {
+        List<Process> processesToRemove = new ArrayList<>();
         for (Process process : processes) {
             String title = process.getTitle();
             if (contentOnly) {
@@ -179,13 +206,35 @@ public class KitodoScriptService {
                     Helper.setErrorMessage("errorDeleting", new Object[] {"content for " + title }, logger, e);
                 }
             } else {
+                processesToRemove.add(process);
+            }
+        }
+        removeProcesses(processesToRemove);
+    }
+
+    /**
+     * Removes processes from database and index in chunks, and deletes the
+     * metadata directories of the processes of a chunk only after the chunk
+     * was removed. If a chunk cannot be removed, the processes not yet
+     * removed are kept, together with their files.
+     */
+    private void removeProcesses(List<Process> processes) {
+        for (int from = 0; from < processes.size(); from += PROCESSES_REMOVED_AT_ONCE) {
+            List<Process> chunk = processes.subList(from, Math.min(from + PROCESSES_REMOVED_AT_ONCE,
+                processes.size()));
+            try {
+                ServiceManager.getProcessService().removeList(chunk);
+            } catch (DataException e) {
+                Helper.setErrorMessage("errorDeleting", new Object[] {Helper.getTranslation("processes") }, logger, e);
+                return;
+            }
+            for (Process process : chunk) {
                 try {
                     deleteMetadataDirectory(process);
-                    ServiceManager.getProcessService().remove(process);
-                    Helper.setMessage("Process " + title + " deleted.");
-                } catch (DataException | IOException e) {
+                    Helper.setMessage("Process " + process.getTitle() + " deleted.");
+                } catch (IOException e) {
                     Helper.setErrorMessage("errorDeleting",
-                        new Object[] {Helper.getTranslation("process") + " " + title }, logger, e);
+                        new Object[] {Helper.getTranslation("process") + " " + process.getTitle() }, logger, e);
                 }
             }
         }
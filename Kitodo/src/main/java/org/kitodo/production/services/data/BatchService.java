@@ -13,13 +13,13 @@ package org.kitodo.production.services.data;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
-import org.elasticsearch.index.query.Operator;
-import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Process;
@@ -33,6 +33,7 @@ import org.kitodo.data.elasticsearch.index.type.enums.BatchTypeField;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BatchDTO;
+import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.base.TitleSearchService;
@@ -134,8 +135,7 @@ public class BatchService extends TitleSearchService<Batch, BatchDTO, BatchDAO>
      * @return list of JSON objects with batches for specific process id
      */
     public List<Map<String, Object>> findByProcessId(Integer id) throws DataException {
-        QueryBuilder query = createSimpleQuery("processes.id", id, true);
-        return findDocuments(query);
+        return findByIds(ServiceManager.getProcessService().findBatchIdsByProcessId(id));
     }
 
     /**
@@ -146,8 +146,11 @@ public class BatchService extends TitleSearchService<Batch, BatchDTO, BatchDAO>
      * @return list of JSON objects with batches for specific process title
      */
     public List<Map<String, Object>> findByProcessTitle(String title) throws DataException {
-        QueryBuilder query = createSimpleQuery("processes.title", title, true, Operator.AND);
-        return findDocuments(query);
+        return findByIds(ServiceManager.getProcessService().findBatchIdsByProcessTitle(title));
+    }
+
+    private List<Map<String, Object>> findByIds(Set<Integer> ids) throws DataException {
+        return findDocuments(createSetQuery("_id", ids, true));
     }
 
     @Override
@@ -162,8 +165,47 @@ public class BatchService extends TitleSearchService<Batch, BatchDTO, BatchDAO>
     }
 
     private void convertRelatedJSONObjects(Map<String, Object> jsonObject, BatchDTO batchDTO) throws DataException {
-        batchDTO.setProcesses(convertRelatedJSONObjectToDTO(jsonObject, BatchTypeField.PROCESSES.getKey(),
-            ServiceManager.getProcessService()));
+        batchDTO.setProcesses(ServiceManager.getProcessService().findByBatch(batchDTO.getId()));
+    }
+
+    /**
+     * Converts a list of batches. The processes of all batches are found with
+     * one query, instead of one query for each batch.
+     */
+    @Override
+    protected List<BatchDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        List<BatchDTO> batchDTOs = super.convertJSONObjectsToDTOs(jsonObjects, true);
+        if (!related && !batchDTOs.isEmpty()) {
+            Set<Integer> batchIds = new HashSet<>();
+            for (BatchDTO batchDTO : batchDTOs) {
+                batchIds.add(batchDTO.getId());
+            }
+            Map<Integer, List<ProcessDTO>> processesByBatch = ServiceManager.getProcessService()
+                    .findByBatches(batchIds);
+            for (BatchDTO batchDTO : batchDTOs) {
+                batchDTO.setProcesses(processesByBatch.getOrDefault(batchDTO.getId(), new ArrayList<>()));
+            }
+        }
+        return batchDTOs;
+    }
+
+    /**
+     * Removes processes from a batch. The removed processes are saved as well,
+     * as their index documents name the batches they belong to.
+     *
+     * @param batch
+     *            batch to remove the processes from
+     * @param processes
+     *            processes to remove
+     */
+    public void removeProcesses(Batch batch, List<Process> processes) throws DataException {
+        batch.getProcesses().removeAll(processes);
+        save(batch);
+        for (Process process : processes) {
+            process.getBatches().remove(batch);
+            ServiceManager.getProcessService().save(process);
+        }
     }
 
     /**
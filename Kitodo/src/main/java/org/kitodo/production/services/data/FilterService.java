@@ -29,7 +29,6 @@ import org.elasticsearch.index.query.QueryBuilders;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Filter;
-import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.enums.TaskStatus;
@@ -44,8 +43,6 @@ import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.dto.FilterDTO;
-import org.kitodo.production.dto.ProcessDTO;
-import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.FilterString;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
@@ -159,7 +156,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
 
         // this is needed if we filter task
         if (objectType == ObjectType.TASK) {
-            query = buildTaskQuery(onlyOpenTasks, onlyUserAssignedTasks);
+            query = limitToUserAssignedTasks(onlyOpenTasks, onlyUserAssignedTasks);
         }
 
         for (String tokenizedFilter : prepareFilters(filter)) {
@@ -232,16 +229,6 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return query;
     }
 
-    private BoolQueryBuilder buildTaskQuery(Boolean onlyOpenTasks, Boolean onlyUserAssignedTasks) throws DataException {
-        BoolQueryBuilder taskQuery = limitToUserAssignedTasks(onlyOpenTasks, onlyUserAssignedTasks);
-
-        if (onlyOpenTasks && onlyUserAssignedTasks) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findAll();
-            taskQuery.must(createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true));
-        }
-        return taskQuery;
-    }
-
     Set<Integer> collectIds(List<? extends BaseDTO> dtos) {
         Set<Integer> ids = new HashSet<>();
         for (BaseDTO processDTO : dtos) {
@@ -432,22 +419,13 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
             taskQuery.must(processingStatus);
         }
 
-        // only assigned projects
-        List<Project> assignedProjects = user.getProjects();
-        Set<Integer> projectIds = new HashSet<>();
-        for (Project project : assignedProjects) {
-            projectIds.add(project.getId());
-        }
-
-        // only processes which are not templates and are part of assigned
-        // projects
-        try {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService()
-                    .findByProjectIds(projectIds, true);
-            taskQuery.must(createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true));
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
-        }
+        // only tasks of processes, not of templates, which are part of the
+        // assigned projects and of the selected client, filtered by the ids
+        // stored in the task documents
+        taskQuery.must(createSimpleQuery(TaskTypeField.TEMPLATE_TASK.getKey(), false, true));
+        taskQuery.must(createSetQueryForBeans(TaskTypeField.PROJECT_ID.getKey(), user.getProjects(), true));
+        taskQuery.must(createSimpleQuery(TaskTypeField.CLIENT_ID.getKey(),
+            ServiceManager.getUserService().getSessionClientId(), true));
 
         // only tasks assigned to the user groups the current user is member of
         List<Role> userRoles = user.getRoles();
@@ -511,9 +489,9 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), true);
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(
-                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), true), true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true);
+            Set<Integer> processIds = ServiceManager.getProcessService().findIds(
+                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), true));
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processIds, true);
         }
         return new BoolQueryBuilder();
     }
@@ -1003,8 +981,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     private QueryBuilder getQueryAccordingToObjectTypeAndSearchInTask(ObjectType objectType, QueryBuilder query)
             throws DataException {
         if (objectType == ObjectType.PROCESS) {
-            List<TaskDTO> taskDTOS = ServiceManager.getTaskService().findByQuery(query, true);
-            return createSetQuery("tasks.id", collectIds(taskDTOS), true);
+            return createSetQuery("tasks.id", ServiceManager.getTaskService().findIds(query), true);
         } else if (objectType == ObjectType.TASK) {
             return query;
         }
@@ -1016,8 +993,8 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return query;
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(query, true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true);
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), ServiceManager.getProcessService().findIds(query),
+                true);
         }
         return new BoolQueryBuilder();
     }
@@ -11,18 +11,13 @@
 
 package org.kitodo.production.services.data;
 
+import static org.elasticsearch.index.query.QueryBuilders.idsQuery;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.elasticsearch.index.query.QueryBuilders.multiMatchQuery;
 import static org.elasticsearch.index.query.QueryBuilders.nestedQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 
-import com.itextpdf.text.Document;
-import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.PageSize;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Rectangle;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
-
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FilenameFilter;
@@ -32,7 +27,6 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.time.Duration;
@@ -57,19 +51,13 @@ import java.util.stream.Collectors;
 
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.join.ScoreMode;
-import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.MatchQueryBuilder;
 import org.elasticsearch.index.query.MultiMatchQueryBuilder;
@@ -79,6 +67,7 @@ import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
+import org.goobi.production.flow.helper.SearchResultFormat;
 import org.goobi.production.flow.helper.SearchResultGeneration;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -91,7 +80,6 @@ import org.kitodo.api.filemanagement.filters.FileNameBeginsAndEndsWithFilter;
 import org.kitodo.api.filemanagement.filters.FileNameEndsAndDoesNotBeginWithFilter;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
-import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Property;
@@ -119,11 +107,14 @@ import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.metadata.ImageHelper;
 import org.kitodo.production.helper.metadata.MetadataHelper;
+import org.kitodo.production.helper.metadata.MetsDmdSecReader;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyDocStructHelperInterface;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetadataHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetadataTypeHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
+import org.kitodo.production.helper.tasks.SearchResultExportTask;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.metadata.MetadataLock;
 import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
@@ -230,6 +221,14 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         super.addAllObjectsToIndex(processes);
     }
 
+    @Override
+    public Map<Integer, Map<String, Object>> createDocuments(List<Process> processes) {
+        for (Process process : processes) {
+            process.setMetadata(getMetadataForIndex(process, true));
+        }
+        return super.createDocuments(processes);
+    }
+
     /**
      * MetadataType aus Preferences eines Prozesses ermitteln.
      *
@@ -284,8 +283,10 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Method saves or removes batches, tasks and project related to modified
-     * process.
+     * Method saves or removes tasks, templates, workpieces and properties
+     * related to modified process. Batches and projects are not saved, as
+     * their documents don't list their processes. Their processes are found by
+     * the batch and project ids in the process documents.
      *
      * @param process
      *            object
@@ -293,8 +294,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     @Override
     protected void manageDependenciesForIndex(Process process)
             throws CustomResponseException, DAOException, DataException, IOException {
-        manageBatchesDependenciesForIndex(process);
-        manageProjectDependenciesForIndex(process);
         manageTaskDependenciesForIndex(process);
         manageTemplatesDependenciesForIndex(process);
         manageWorkpiecesDependenciesForIndex(process);
@@ -302,37 +301,30 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Check if IndexAction flag is delete. If true remove process from list of
-     * processes and re-save batch, if false only re-save batch object.
-     *
-     * @param process
-     *            object
-     */
-    private void manageBatchesDependenciesForIndex(Process process)
-            throws CustomResponseException, DataException, IOException {
-        if (process.getIndexAction() == IndexAction.DELETE) {
-            for (Batch batch : process.getBatches()) {
-                batch.getProcesses().remove(process);
-                ServiceManager.getBatchService().saveToIndex(batch, false);
-            }
-        } else {
-            for (Batch batch : process.getBatches()) {
-                ServiceManager.getBatchService().saveToIndex(batch, false);
-            }
-        }
-    }
-
-    /**
-     * Add process to project, if project is assigned to process.
+     * Sends the tasks and properties of a list of processes to the index in
+     * one bulk request per type. Unlike for a single process, the tasks in the
+     * index are not compared with the database, so tasks which were removed
+     * from the processes are not removed from the index. This is meant for
+     * processes which have just been created.
      *
-     * @param process
-     *            object
+     * @param processes
+     *            list of processes
      */
-    private void manageProjectDependenciesForIndex(Process process)
-            throws CustomResponseException, DataException, IOException {
-        if (Objects.nonNull(process.getProject())) {
-            ServiceManager.getProjectService().saveToIndex(process.getProject(), false);
+    @Override
+    protected void manageDependenciesForIndex(List<Process> processes)
+            throws CustomResponseException, DAOException, DataException, IOException {
+        List<Task> tasks = new ArrayList<>();
+        List<Property> properties = new ArrayList<>();
+        for (Process process : processes) {
+            tasks.addAll(process.getTasks());
+            properties.addAll(process.getProperties());
+            properties.addAll(process.getTemplates());
+            properties.addAll(process.getWorkpieces());
         }
+        TaskService taskService = ServiceManager.getTaskService();
+        taskService.addDocumentsToIndex(taskService.createDocuments(tasks));
+        PropertyService propertyService = ServiceManager.getPropertyService();
+        propertyService.addDocumentsToIndex(propertyService.createDocuments(properties));
     }
 
     /**
@@ -476,11 +468,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         dao.refresh(process);
     }
 
-    List<Map<String, Object>> findForCurrentSessionClient() throws DataException {
-        return findDocuments(
-            getQueryProjectIsAssignedToSelectedClient(ServiceManager.getUserService().getSessionClientId()));
-    }
-
     /**
      * Find processes by metadata.
      *
@@ -570,6 +557,103 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return createSimpleQuery(ProcessTypeField.PROJECT_ID.getKey(), projectId.toString(), true, Operator.AND);
     }
 
+    /**
+     * Find processes by batch id. The number of processes is not limited.
+     *
+     * @param batchId
+     *            id of batch for search
+     * @return list of processes in the batch
+     */
+    public List<ProcessDTO> findByBatch(Integer batchId) throws DataException {
+        QueryBuilder query = createSimpleQuery(ProcessTypeField.BATCHES.getKey() + ".id", batchId, true);
+        List<ProcessDTO> processes = new ArrayList<>();
+        scrollByQuery(query, null, true, processes::add);
+        return processes;
+    }
+
+    /**
+     * Find processes of several batches with one scrolled query. The number
+     * of processes is not limited.
+     *
+     * @param batchIds
+     *            ids of batches
+     * @return map of batch id to the processes of the batch, batches without
+     *         processes are left out
+     */
+    public Map<Integer, List<ProcessDTO>> findByBatches(Collection<Integer> batchIds) throws DataException {
+        Map<Integer, List<ProcessDTO>> processesByBatch = new HashMap<>();
+        if (batchIds.isEmpty()) {
+            return processesByBatch;
+        }
+        scrollDocumentsByQuery(termsQuery(ProcessTypeField.BATCHES.getKey() + ".id", batchIds), null, null,
+            documents -> {
+                List<ProcessDTO> processes = convertJSONObjectsToDTOs(documents, true);
+                for (int i = 0; i < documents.size(); i++) {
+                    for (Map<String, Object> batch : ProcessTypeField.BATCHES.getJsonArray(documents.get(i))) {
+                        Integer batchId = BatchTypeField.ID.getIntValue(batch);
+                        if (batchIds.contains(batchId)) {
+                            processesByBatch.computeIfAbsent(batchId, id -> new ArrayList<>()).add(processes.get(i));
+                        }
+                    }
+                }
+            });
+        return processesByBatch;
+    }
+
+    /**
+     * Find ids of the batches a process belongs to.
+     *
+     * @param processId
+     *            id of process
+     * @return ids of batches
+     */
+    public Set<Integer> findBatchIdsByProcessId(Integer processId) throws DataException {
+        return findBatchIds(idsQuery().addIds(processId.toString()));
+    }
+
+    /**
+     * Find ids of the batches the processes with matching title belong to.
+     *
+     * @param title
+     *            of processes
+     * @return ids of batches
+     */
+    public Set<Integer> findBatchIdsByProcessTitle(String title) throws DataException {
+        return findBatchIds(matchQuery(ProcessTypeField.TITLE.getKey(), title).operator(Operator.AND));
+    }
+
+    private Set<Integer> findBatchIds(QueryBuilder query) throws DataException {
+        Set<Integer> batchIds = new HashSet<>();
+        for (Map<String, Object> process : findDocuments(query)) {
+            for (Map<String, Object> batch : ProcessTypeField.BATCHES.getJsonArray(process)) {
+                batchIds.add(BatchTypeField.ID.getIntValue(batch));
+            }
+        }
+        return batchIds;
+    }
+
+    /**
+     * Count the processes of several projects with one terms aggregation.
+     *
+     * @param projectIds
+     *            ids of projects
+     * @return map of project id to number of processes, projects without
+     *         processes are left out
+     */
+    public Map<Integer, Long> countByProjects(Collection<Integer> projectIds) throws DataException {
+        Map<Integer, Long> numbersOfProcesses = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return numbersOfProcesses;
+        }
+        Map<String, Long> counts = countDocumentsByTerms(
+            termsQuery(ProcessTypeField.PROJECT_ID.getKey(), projectIds), ProcessTypeField.PROJECT_ID.getKey(),
+            projectIds.size());
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            numbersOfProcesses.put(Integer.valueOf(count.getKey()), count.getValue());
+        }
+        return numbersOfProcesses;
+    }
+
     /**
      * Find processes by docket id.
      *
@@ -642,17 +726,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return findByProperty(title, value, "workpiece", "workpieces.id", contains);
     }
 
-    /**
-     * Get query for projects assigned to selected client.
-     *
-     * @param id
-     *            of selected client
-     * @return query as QueryBuilder
-     */
-    private QueryBuilder getQueryProjectIsAssignedToSelectedClient(int id) {
-        return createSimpleQuery(ProcessTypeField.PROJECT_CLIENT_ID.getKey(), id, true);
-    }
-
     /**
      * Searches for linkable processes based on user input. A process can be
      * linked if it has the same rule set, belongs to the same client, and the
@@ -744,11 +817,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return findDocuments(createSetQuery(key, properties, true));
     }
 
-    List<ProcessDTO> findByProjectIds(Set<Integer> projectIds, boolean related) throws DataException {
-        QueryBuilder query = createSetQuery("project.id", projectIds, true);
-        return findByQuery(query, related);
-    }
-
     /**
      * Get query for sort helper status.
      *
@@ -800,6 +868,20 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return processes;
     }
 
+    @Override
+    protected void prefetchRelatedDTOs(List<Map<String, Object>> jsonObjects, boolean related) throws DataException {
+        prefetchRelatedDTOs(jsonObjects, ProcessTypeField.PROPERTIES.getKey(), ServiceManager.getPropertyService(),
+            true);
+        if (!related) {
+            Set<Integer> projectIds = new HashSet<>();
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                projectIds.add(ProcessTypeField.PROJECT_ID.getIntValue(jsonObject));
+            }
+            prefetchDTOs(projectIds, ServiceManager.getProjectService(), false);
+            prefetchRelatedDTOs(jsonObjects, ProcessTypeField.TASKS.getKey(), ServiceManager.getTaskService(), true);
+        }
+    }
+
     @Override
     public ProcessDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
         ProcessDTO processDTO = new ProcessDTO();
@@ -1471,9 +1553,12 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             // write run note to servlet output stream
             DocketInterface module = initialiseDocketModule();
 
-            File file = module.generateDocket(getDocketData(process), xsltFile);
-            writeToOutputStream(facesContext, file, Helper.getNormalizedTitle(process.getTitle()) + ".pdf");
-            Files.deleteIfExists(file.toPath());
+            ExternalContext externalContext = prepareHeaderInformation(facesContext,
+                Helper.getNormalizedTitle(process.getTitle()) + ".pdf");
+            try (OutputStream outputStream = new BufferedOutputStream(externalContext.getResponseOutputStream())) {
+                module.generateDocket(getDocketData(process), xsltFile, outputStream);
+            }
+            facesContext.responseComplete();
         }
     }
 
@@ -1492,77 +1577,54 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
             DocketInterface module = initialiseDocketModule();
-            File file = module.generateMultipleDockets(ServiceManager.getProcessService().getDocketData(processes),
-                xsltFile);
-
-            writeToOutputStream(facesContext, file, "batch_docket.pdf");
-            Files.deleteIfExists(file.toPath());
+            ExternalContext externalContext = prepareHeaderInformation(facesContext, "batch_docket.pdf");
+            try (OutputStream outputStream = new BufferedOutputStream(externalContext.getResponseOutputStream())) {
+                module.generateMultipleDockets(getDocketData(processes), xsltFile, outputStream);
+            }
+            facesContext.responseComplete();
         }
     }
 
     /**
-     * Generate result as PDF.
+     * Generate the search result of the process list. Small search results are
+     * written directly to the response. For search results above the
+     * configured threshold, a task is added to the task manager, where the file
+     * can be downloaded when it is finished.
      *
      * @param filter
      *            for generating search results
+     * @param format
+     *            file format of the search result
      */
-    public void generateResultAsPdf(String filter) throws DocumentException, IOException {
+    public void generateResult(String filter, SearchResultFormat format) throws DataException, IOException {
+        SearchResultGeneration searchResultGeneration = new SearchResultGeneration(filter, this.showClosedProcesses,
+                this.showInactiveProjects);
+        long count = searchResultGeneration.count();
+        if (count > ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SEARCH_RESULT_BACKGROUND_THRESHOLD)) {
+            TaskManager.addTask(new SearchResultExportTask(filter, searchResultGeneration, format, count));
+            Helper.setMessage("searchResultExportStarted");
+            return;
+        }
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
-            ExternalContext response = prepareHeaderInformation(facesContext, "search.pdf");
+            ExternalContext response = prepareHeaderInformation(facesContext, format.getFileName());
             try (OutputStream out = response.getResponseOutputStream()) {
-                SearchResultGeneration sr = new SearchResultGeneration(filter, this.showClosedProcesses,
-                        this.showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                List<List<HSSFCell>> rowList = new ArrayList<>();
-                HSSFSheet mySheet = wb.getSheetAt(0);
-                Iterator<Row> rowIter = mySheet.rowIterator();
-                while (rowIter.hasNext()) {
-                    HSSFRow myRow = (HSSFRow) rowIter.next();
-                    Iterator<Cell> cellIter = myRow.cellIterator();
-                    List<HSSFCell> row = new ArrayList<>();
-                    while (cellIter.hasNext()) {
-                        HSSFCell myCell = (HSSFCell) cellIter.next();
-                        row.add(myCell);
-                    }
-                    rowList.add(row);
-                }
-                Document document = new Document();
-                Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
-                PdfWriter.getInstance(document, out);
-                document.setPageSize(rectangle);
-                document.open();
-                if (!rowList.isEmpty()) {
-                    Paragraph paragraph = new Paragraph(rowList.get(0).get(0).toString());
-                    document.add(paragraph);
-                    document.add(getPdfTable(rowList));
-                }
-
-                document.close();
-                out.flush();
+                searchResultGeneration.write(format, out, written -> { });
                 facesContext.responseComplete();
             }
         }
     }
 
     /**
-     * Generate result set.
+     * Send the file of a finished search result export task to the response.
      *
-     * @param filter
-     *            for generating search results
+     * @param task
+     *            finished export task
      */
-    public void generateResult(String filter) throws IOException {
+    public void downloadSearchResult(SearchResultExportTask task) throws IOException {
         FacesContext facesContext = FacesContext.getCurrentInstance();
-        if (!facesContext.getResponseComplete()) {
-            ExternalContext response = prepareHeaderInformation(facesContext, "search.xls");
-            try (OutputStream out = response.getResponseOutputStream()) {
-                SearchResultGeneration sr = new SearchResultGeneration(filter, this.showClosedProcesses,
-                        this.showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                wb.write(out);
-                out.flush();
-                facesContext.responseComplete();
-            }
+        if (!facesContext.getResponseComplete() && task.isDownloadable()) {
+            writeToOutputStream(facesContext, task.getResultFile(), task.getFileName());
         }
     }
 
@@ -1582,8 +1644,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
 
         try (OutputStream outputStream = externalContext.getResponseOutputStream();
                 FileInputStream fileInputStream = new FileInputStream(file)) {
-            byte[] bytes = IOUtils.toByteArray(fileInputStream);
-            outputStream.write(bytes);
+            IOUtils.copy(fileInputStream, outputStream);
             outputStream.flush();
         }
         facesContext.responseComplete();
@@ -1600,25 +1661,9 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return externalContext;
     }
 
-    private PdfPTable getPdfTable(List<List<HSSFCell>> rowList) {
-        // create formatter for cells with default locale
-        DataFormatter formatter = new DataFormatter();
-
-        PdfPTable table = new PdfPTable(9);
-        table.setSpacingBefore(20);
-        for (List<HSSFCell> row : rowList) {
-            for (HSSFCell hssfCell : row) {
-                String stringCellValue = formatter.formatCellValue(hssfCell);
-                table.addCell(stringCellValue);
-            }
-        }
-
-        return table;
-    }
-
     private DocketInterface initialiseDocketModule() {
         KitodoServiceLoader<DocketInterface> loader = new KitodoServiceLoader<>(DocketInterface.class);
-        return loader.loadModule();
+        return loader.loadSingletonModule();
     }
 
     /**
@@ -2207,7 +2252,12 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getMetadataForIndex(Process process, boolean forIndexingAll) {
         try (InputStream metadataFile = ServiceManager.getFileService().readMetadataFile(process, forIndexingAll)) {
-            JSONObject xmlJSONObject = XML.toJSONObject(IOUtils.toString(metadataFile, StandardCharsets.UTF_8));
+            JSONObject xmlJSONObject;
+            if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXING_STREAM_METADATA)) {
+                xmlJSONObject = MetsDmdSecReader.read(metadataFile);
+            } else {
+                xmlJSONObject = XML.toJSONObject(IOUtils.toString(metadataFile, StandardCharsets.UTF_8));
+            }
             Map<String, Object> json = iterateOverJsonObject(xmlJSONObject);
             if (json.keySet().contains("mets")) {
                 Map<String, Object> mets = (Map<String, Object>) json.get("mets");
@@ -2222,6 +2272,8 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             }
         } catch (NullPointerException | IOException e) {
             logger.info("File was not found: " + e.getMessage(), e);
+        } catch (XMLStreamException e) {
+            logger.error("File could not be read: " + e.getMessage(), e);
         }
         return new ArrayList<>();
     }
@@ -192,6 +192,14 @@ public class ProjectService extends ClientSearchService<Project, ProjectDTO, Pro
         return projectDTOS;
     }
 
+    @Override
+    protected void prefetchRelatedDTOs(List<Map<String, Object>> jsonObjects, boolean related) throws DataException {
+        if (!related) {
+            prefetchRelatedDTOs(jsonObjects, ProjectTypeField.TEMPLATES.getKey(), ServiceManager.getTemplateService(),
+                true);
+        }
+    }
+
     @Override
     public ProjectDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
         ProjectDTO projectDTO = new ProjectDTO();
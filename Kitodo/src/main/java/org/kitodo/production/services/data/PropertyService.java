@@ -13,9 +13,11 @@ package org.kitodo.production.services.data;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.Operator;
@@ -209,6 +211,32 @@ public class PropertyService extends TitleSearchService<Property, PropertyDTO, P
         return findDocuments(query);
     }
 
+    /**
+     * Find titles and values of properties by their ids. All properties are
+     * fetched with one scrolling search, only with the title and value fields.
+     *
+     * @param ids
+     *            of the properties
+     * @return map of property DTO objects with id, title and value, by id
+     */
+    public Map<Integer, PropertyDTO> findTitlesAndValues(Set<Integer> ids) throws DataException {
+        Map<Integer, PropertyDTO> properties = new HashMap<>();
+        if (ids.isEmpty()) {
+            return properties;
+        }
+        String[] fields = {PropertyTypeField.TITLE.getKey(), PropertyTypeField.VALUE.getKey() };
+        scrollDocumentsByQuery(createSetQuery("_id", ids, true), null, fields, page -> {
+            for (Map<String, Object> jsonObject : page) {
+                PropertyDTO propertyDTO = new PropertyDTO();
+                propertyDTO.setId(getIdFromJSONObject(jsonObject));
+                propertyDTO.setTitle(PropertyTypeField.TITLE.getStringValue(jsonObject));
+                propertyDTO.setValue(PropertyTypeField.VALUE.getStringValue(jsonObject));
+                properties.put(propertyDTO.getId(), propertyDTO);
+            }
+        });
+        return properties;
+    }
+
     @Override
     public PropertyDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
         PropertyDTO propertyDTO = new PropertyDTO();
@@ -15,6 +15,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +49,41 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     private static final Logger logger = LogManager.getLogger(RulesetService.class);
     private static volatile RulesetService instance = null;
 
+    /**
+     * Opened rulesets by absolute path of their file, the least recently used
+     * first. Opened rulesets are not changed after loading, so they are shared
+     * by all users.
+     */
+    private final Map<String, OpenedRuleset> openedRulesets = new LinkedHashMap<String, OpenedRuleset>(16, 0.75f,
+            true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, OpenedRuleset> eldest) {
+            return size() > ConfigCore.getIntParameterOrDefaultValue(ParameterCore.RULESET_CACHE_SIZE);
+        }
+    };
+
+    /**
+     * A ruleset loaded from a file, along with the state of the file when it
+     * was loaded.
+     */
+    private static final class OpenedRuleset {
+        private final long lastModified;
+        private final long length;
+        private final RulesetManagementInterface rulesetManagement;
+        private final LegacyPrefsHelper preferences;
+
+        private OpenedRuleset(File file, RulesetManagementInterface rulesetManagement) {
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+            this.rulesetManagement = rulesetManagement;
+            this.preferences = new LegacyPrefsHelper(rulesetManagement);
+        }
+
+        private boolean isUpToDate(File file) {
+            return lastModified == file.lastModified() && length == file.length();
+        }
+    }
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
@@ -200,13 +236,12 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
      * @return preferences
      */
     public LegacyPrefsHelper getPreferences(Ruleset ruleset) {
-        LegacyPrefsHelper myPreferences = new LegacyPrefsHelper();
         try {
-            myPreferences.loadPrefs(ConfigCore.getParameter(ParameterCore.DIR_RULESETS) + ruleset.getFile());
+            return getOpenedRuleset(getRulesetFile(ruleset)).preferences;
         } catch (IOException e) {
             logger.error(e.getMessage(), e);
+            return new LegacyPrefsHelper();
         }
-        return myPreferences;
     }
 
     private QueryBuilder getRulesetsForCurrentUserQuery() {
@@ -217,17 +252,53 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     }
 
     /**
-     * Acquires a ruleset Management and loads a ruleset into it.
+     * Acquires a ruleset Management and loads a ruleset into it. If the
+     * ruleset was opened before and its file is unchanged, the already loaded
+     * ruleset Management is returned.
      *
      * @param ruleset
      *            database object that references the ruleset
      * @return a Ruleset Management in which the ruleset has been loaded
      */
     public RulesetManagementInterface openRuleset(Ruleset ruleset) throws IOException {
-        String rulesetPath = Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), ruleset.getFile())
-                .toString();
-        RulesetManagementInterface openRuleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        openRuleset.load(new File(rulesetPath));
-        return openRuleset;
+        return getOpenedRuleset(getRulesetFile(ruleset)).rulesetManagement;
+    }
+
+    /**
+     * Forgets the opened ruleset, so that it is read from its file again when
+     * it is opened the next time.
+     *
+     * @param ruleset
+     *            database object that references the ruleset
+     */
+    public void closeRuleset(Ruleset ruleset) {
+        if (Objects.nonNull(ruleset.getFile())) {
+            synchronized (openedRulesets) {
+                openedRulesets.remove(getRulesetFile(ruleset).getAbsolutePath());
+            }
+        }
+    }
+
+    private File getRulesetFile(Ruleset ruleset) {
+        return Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), ruleset.getFile()).toFile();
+    }
+
+    private OpenedRuleset getOpenedRuleset(File rulesetFile) throws IOException {
+        String key = rulesetFile.getAbsolutePath();
+        synchronized (openedRulesets) {
+            OpenedRuleset openedRuleset = openedRulesets.get(key);
+            if (Objects.nonNull(openedRuleset) && openedRuleset.isUpToDate(rulesetFile)) {
+                return openedRuleset;
+            }
+        }
+        // loaded outside the lock, so that other rulesets can be opened meanwhile
+        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
+                .getRulesetManagement();
+        OpenedRuleset openedRuleset = new OpenedRuleset(rulesetFile, rulesetManagement);
+        rulesetManagement.load(rulesetFile);
+        synchronized (openedRulesets) {
+            openedRulesets.put(key, openedRuleset);
+        }
+        return openedRuleset;
     }
 }
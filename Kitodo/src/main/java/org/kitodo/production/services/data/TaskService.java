@@ -152,9 +152,6 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
             query.must(getQueryForTypeAutomatic(false));
         }
 
-        List<Map<String, Object>> processes = ServiceManager.getProcessService().findForCurrentSessionClient();
-        query.must(createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processes, true));
-
         return query;
     }
 
@@ -266,6 +263,15 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
         return findDistinctValues(QueryBuilders.matchAllQuery(), "title.keyword", true, countDatabaseRows());
     }
 
+    @Override
+    protected void prefetchRelatedDTOs(List<Map<String, Object>> jsonObjects, boolean related) throws DataException {
+        Set<Integer> processIds = new HashSet<>();
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            processIds.add(TaskTypeField.PROCESS_ID.getIntValue(jsonObject));
+        }
+        prefetchDTOs(processIds, ServiceManager.getProcessService(), true);
+    }
+
     @Override
     public TaskDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
         TaskDTO taskDTO = new TaskDTO();
@@ -27,6 +27,7 @@ import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.persistence.BaseDAO;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.BaseType;
+import org.kitodo.data.elasticsearch.search.ResultConsumer;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
@@ -138,6 +139,12 @@ public abstract class ClientSearchService<T extends BaseIndexedBean, S extends B
         return super.findByQuery(queryForClient(query), sort, offset, size, related);
     }
 
+    @Override
+    public void scrollDocumentsByQuery(QueryBuilder query, SortBuilder sort, String[] fields,
+            ResultConsumer<List<Map<String, Object>>> consumer) throws DataException {
+        super.scrollDocumentsByQuery(queryForClient(query), sort, fields, consumer);
+    }
+
     @Override
     public Long countDocuments(QueryBuilder query) throws DataException {
         return super.countDocuments(queryForClient(query));
@@ -12,6 +12,7 @@
 package org.kitodo.production.services.data.base;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
@@ -23,6 +24,7 @@ import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.persistence.BaseDAO;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.BaseType;
+import org.kitodo.data.elasticsearch.search.ResultConsumer;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
@@ -88,6 +90,12 @@ public abstract class ProjectSearchService<T extends BaseIndexedBean, S extends
         return super.findByQuery(queryForProjects(query), sort, offset, size, related);
     }
 
+    @Override
+    public void scrollDocumentsByQuery(QueryBuilder query, SortBuilder sort, String[] fields,
+            ResultConsumer<List<Map<String, Object>>> consumer) throws DataException {
+        super.scrollDocumentsByQuery(queryForProjects(query), sort, fields, consumer);
+    }
+
     @Override
     public Long countDocuments(QueryBuilder query) throws DataException {
         return super.countDocuments(queryForProjects(query));
@@ -187,6 +187,21 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getAll(offset, size);
     }
 
+    /**
+     * Get list of objects from database with id bigger than the given one. It
+     * allows to page through whole table without increasing costs of deep
+     * offsets.
+     *
+     * @param lastId
+     *            id of the last already retrieved object, 0 to start
+     * @param size
+     *            amount of results
+     * @return list of objects from database ordered by id
+     */
+    public List<T> getAllAfterId(int lastId, int size) throws DAOException {
+        return dao.getAllAfterId(lastId, size);
+    }
+
     /**
      * Evict given bean object.
      *
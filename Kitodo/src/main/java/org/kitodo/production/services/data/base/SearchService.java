@@ -19,8 +19,12 @@ import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,6 +45,8 @@ import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.enums.IndexAction;
@@ -49,11 +55,13 @@ import org.kitodo.data.database.persistence.BaseDAO;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.BaseType;
+import org.kitodo.data.elasticsearch.search.ResultConsumer;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.IndexOutboxWriter;
 import org.kitodo.production.services.data.ProjectService;
 import org.primefaces.model.SortOrder;
 
@@ -65,6 +73,14 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         extends SearchDatabaseService<T, V> {
 
     private static final Logger logger = LogManager.getLogger(SearchService.class);
+
+    /**
+     * DTOs of related objects which were fetched in advance for the list of
+     * objects currently converted. They are kept by service and relation mode
+     * and only while the outermost list is converted.
+     */
+    private static final ThreadLocal<Map<String, PrefetchedDTOs>> prefetchedDTOs = new ThreadLocal<>();
+
     protected Searcher searcher;
     protected Indexer indexer;
     protected BaseType type;
@@ -130,6 +146,20 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return dao.getAllNotIndexed(offset, size);
     }
 
+    /**
+     * Get not indexed objects from database with id bigger than the given one.
+     * Not indexed means that row has index action INDEX or NULL.
+     *
+     * @param lastId
+     *            id of the last already retrieved object, 0 to start
+     * @param size
+     *            amount of results
+     * @return list of not indexed objects from database ordered by id
+     */
+    public List<T> getAllNotIndexedAfterId(int lastId, int size) throws DAOException {
+        return dao.getAllNotIndexedAfterId(lastId, size);
+    }
+
     /**
      * Get all DTO objects from index an convert them for frontend wit all
      * relations.
@@ -173,6 +203,78 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Create index documents for given list of objects without sending them to
+     * Elastic Search index.
+     *
+     * @param baseIndexedBeans
+     *            List of BaseIndexedBean objects
+     * @return map of ids and documents
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Integer, Map<String, Object>> createDocuments(List<T> baseIndexedBeans) {
+        return type.createDocuments(baseIndexedBeans);
+    }
+
+    /**
+     * Method adds already created documents to Elastic Search index in one bulk
+     * request.
+     *
+     * @param documents
+     *            map of ids and documents
+     */
+    public void addDocumentsToIndex(Map<Integer, Map<String, Object>> documents) throws CustomResponseException {
+        indexer.performMultipleRequests(documents);
+    }
+
+    /**
+     * Send changes recorded in the index outbox to the index of Elastic Search.
+     * Objects to index are loaded from database and sent together with the
+     * removals in one bulk request, next their dependencies are saved to the
+     * index.
+     *
+     * @param actions
+     *            map of object ids and the action which has to be performed
+     *            for them, INDEX or DELETE
+     * @return ids of objects which couldn't be sent to the index
+     */
+    @SuppressWarnings("unchecked")
+    public Set<Integer> sendToIndex(Map<Integer, IndexAction> actions) {
+        List<T> beansToIndex = new ArrayList<>();
+        List<Integer> idsToDelete = new ArrayList<>();
+        for (Map.Entry<Integer, IndexAction> action : actions.entrySet()) {
+            if (action.getValue() == IndexAction.INDEX) {
+                try {
+                    beansToIndex.add(getById(action.getKey()));
+                } catch (DAOException e) {
+                    // object was removed from database meanwhile
+                    idsToDelete.add(action.getKey());
+                }
+            } else {
+                idsToDelete.add(action.getKey());
+            }
+        }
+
+        Set<Integer> failedIds = new HashSet<>();
+        try {
+            failedIds.addAll(indexer.performBulkRequest(createDocuments(beansToIndex), idsToDelete));
+        } catch (CustomResponseException | RuntimeException e) {
+            logger.error(e.getMessage(), e);
+            return actions.keySet();
+        }
+        for (T bean : beansToIndex) {
+            if (!failedIds.contains(bean.getId())) {
+                try {
+                    manageDependenciesForIndex(bean);
+                } catch (CustomResponseException | DAOException | DataException | IOException e) {
+                    logger.error(e.getMessage(), e);
+                    failedIds.add(bean.getId());
+                }
+            }
+        }
+        return failedIds;
+    }
+
     /**
      * Method removes document from the index of Elastic Search.
      *
@@ -232,10 +334,24 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * fails and in that case, even if index is up to date, in some point of the
      * future it will be reindexed by administrator.
      *
+     * <p>
+     * If the index outbox is enabled, the object is saved to database together
+     * with an outbox entry, and the index is updated later in the background.
+     *
      * @param baseIndexedBean
      *            object
      */
     public void save(T baseIndexedBean) throws DataException {
+        if (IndexOutboxWriter.isEnabled()) {
+            try {
+                baseIndexedBean.setIndexAction(IndexAction.INDEX);
+                dao.saveWithIndexOutbox(baseIndexedBean);
+                return;
+            } catch (DAOException e) {
+                logger.debug(e);
+                throw new DataException(e);
+            }
+        }
         try {
             baseIndexedBean.setIndexAction(IndexAction.INDEX);
             saveToDatabase(baseIndexedBean);
@@ -271,6 +387,81 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Method saves object to database and document to the index of Elastic
+     * Search. If the index outbox is enabled and the caller needs to read its
+     * changes from the index, it can wait until the background writer has sent
+     * them.
+     *
+     * @param baseIndexedBean
+     *            object
+     * @param waitForIndex
+     *            if true, method returns after the changes are visible in
+     *            the index or the configured time elapsed
+     */
+    public void save(T baseIndexedBean, boolean waitForIndex) throws DataException {
+        save(baseIndexedBean);
+        if (waitForIndex && IndexOutboxWriter.isEnabled()) {
+            try {
+                if (!IndexOutboxWriter.awaitIndexed(baseIndexedBean)) {
+                    logger.warn("Changes of object {} are not yet visible in index", baseIndexedBean.getId());
+                }
+            } catch (DAOException e) {
+                throw new DataException(e);
+            }
+        }
+    }
+
+    /**
+     * Method sends objects which are already saved to database to the index of
+     * Elastic Search in one bulk request, without forcing a refresh of the
+     * index, and then marks them as indexed in database in one transaction.
+     * Objects which were saved to database with the indexAction flag set to
+     * Index, but not sent, are found again by the indexing page. If the index
+     * outbox is enabled, the objects are recorded in the outbox instead.
+     *
+     * @param baseIndexedBeans
+     *            objects already saved to database
+     */
+    public void saveListToIndex(List<T> baseIndexedBeans) throws DataException {
+        if (baseIndexedBeans.isEmpty()) {
+            return;
+        }
+        try {
+            if (IndexOutboxWriter.isEnabled()) {
+                for (T baseIndexedBean : baseIndexedBeans) {
+                    baseIndexedBean.setIndexAction(IndexAction.INDEX);
+                }
+                dao.saveListWithIndexOutbox(baseIndexedBeans);
+                return;
+            }
+            addDocumentsToIndex(createDocuments(baseIndexedBeans));
+            manageDependenciesForIndex(baseIndexedBeans);
+            for (T baseIndexedBean : baseIndexedBeans) {
+                baseIndexedBean.setIndexAction(IndexAction.DONE);
+            }
+            dao.saveList(baseIndexedBeans);
+        } catch (CustomResponseException | DAOException | IOException e) {
+            logger.debug(e);
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Method saves relations which can be potentially modified together with
+     * the objects of a list. By default, the relations of each object are
+     * saved one after another.
+     *
+     * @param baseIndexedBeans
+     *            objects
+     */
+    protected void manageDependenciesForIndex(List<T> baseIndexedBeans)
+            throws CustomResponseException, DAOException, DataException, IOException {
+        for (T baseIndexedBean : baseIndexedBeans) {
+            manageDependenciesForIndex(baseIndexedBean);
+        }
+    }
+
     /**
      * Method removes object from database and document from the index of Elastic
      * Search.
@@ -291,10 +482,27 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * Method removes object from database and document from the index of Elastic
      * Search.
      *
+     * <p>
+     * If the index outbox is enabled, dependencies are saved to the index
+     * first, as they need the object, then the object is removed from database
+     * together with recording an outbox entry, and the document is removed
+     * later in the background.
+     *
      * @param baseIndexedBean
      *            object
      */
     public void remove(T baseIndexedBean) throws DataException {
+        if (IndexOutboxWriter.isEnabled()) {
+            try {
+                baseIndexedBean.setIndexAction(IndexAction.DELETE);
+                manageDependenciesForIndex(baseIndexedBean);
+                dao.removeWithIndexOutbox(baseIndexedBean);
+                return;
+            } catch (CustomResponseException | DAOException | IOException e) {
+                logger.debug(e);
+                throw new DataException(e);
+            }
+        }
         try {
             baseIndexedBean.setIndexAction(IndexAction.DELETE);
             saveToDatabase(baseIndexedBean);
@@ -326,6 +534,39 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Method removes list of objects from database and their documents from
+     * the index of Elastic Search. Dependencies are saved to the index first,
+     * then the documents are removed in one bulk request and the objects are
+     * removed from database in one transaction. If the index outbox is enabled,
+     * the documents are removed later in the background.
+     *
+     * @param baseIndexedBeans
+     *            list of objects
+     */
+    public void removeList(List<T> baseIndexedBeans) throws DataException {
+        try {
+            List<Integer> ids = new ArrayList<>();
+            for (T baseIndexedBean : baseIndexedBeans) {
+                baseIndexedBean.setIndexAction(IndexAction.DELETE);
+                manageDependenciesForIndex(baseIndexedBean);
+                ids.add(baseIndexedBean.getId());
+            }
+            if (IndexOutboxWriter.isEnabled()) {
+                dao.removeListWithIndexOutbox(baseIndexedBeans);
+            } else {
+                Set<Integer> failedIds = indexer.performBulkRequest(Collections.emptyMap(), ids);
+                if (!failedIds.isEmpty()) {
+                    throw new DataException("Documents couldn't be removed from index: " + failedIds);
+                }
+                dao.removeList(baseIndexedBeans);
+            }
+        } catch (CustomResponseException | DAOException | IOException e) {
+            logger.debug(e);
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Count all objects in index.
      *
@@ -385,7 +626,12 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      *            findById(Integer id).
      * @return related DTO object
      */
+    @SuppressWarnings("unchecked")
     public S findById(Integer id, boolean related) throws DataException {
+        PrefetchedDTOs prefetched = getPrefetchedDTOs(this, related);
+        if (Objects.nonNull(prefetched) && prefetched.dtos.containsKey(id)) {
+            return (S) prefetched.dtos.get(id);
+        }
         try {
             return convertJSONObjectToDTO(searcher.findDocument(id), related);
         } catch (CustomResponseException e) {
@@ -458,7 +704,74 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
     }
 
     /**
-     * Convert list of JSONObject object to list of DTO objects.
+     * Go through all DTO objects found by query. Unlike the find methods,
+     * the number of objects is not limited, and only one page of them is kept
+     * in memory at a time.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, if null, objects come in index order
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @param consumer
+     *            receives the DTO objects one after another
+     */
+    public void scrollByQuery(QueryBuilder query, SortBuilder sort, boolean related, ResultConsumer<S> consumer)
+            throws DataException {
+        scrollDocumentsByQuery(query, sort, null, page -> {
+            for (S dto : convertJSONObjectsToDTOs(page, related)) {
+                consumer.accept(dto);
+            }
+        });
+    }
+
+    /**
+     * Find the ids of all objects found by query. Only the ids are fetched
+     * from the index, and their number is not limited.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @return set of ids
+     */
+    public Set<Integer> findIds(QueryBuilder query) throws DataException {
+        Set<Integer> ids = new HashSet<>();
+        scrollDocumentsByQuery(query, null, new String[0], page -> {
+            for (Map<String, Object> document : page) {
+                ids.add(getIdFromJSONObject(document));
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * Go through the index documents of all objects found by query, page by
+     * page, without converting them to DTO objects. This is the cheapest way
+     * to read the fields of many objects.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, if null, documents come in index order
+     * @param fields
+     *            fields to return, all if null, only the id if empty
+     * @param consumer
+     *            receives the documents page by page
+     */
+    public void scrollDocumentsByQuery(QueryBuilder query, SortBuilder sort, String[] fields,
+            ResultConsumer<List<Map<String, Object>>> consumer) throws DataException {
+        try {
+            searcher.scrollDocuments(query, sort, fields, consumer);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Convert list of JSONObject object to list of DTO objects. Related objects
+     * of all objects are fetched in advance with one query per related type,
+     * so converting a list doesn't cost a query for each of its objects.
      *
      * @param jsonObjects
      *            list of SearchResult objects
@@ -469,13 +782,113 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      */
     protected List<S> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
             throws DataException {
-        List<S> results = new ArrayList<>();
+        boolean outermost = Objects.isNull(prefetchedDTOs.get());
+        if (outermost) {
+            prefetchedDTOs.set(new HashMap<>());
+        }
+        try {
+            if (jsonObjects.size() > 1) {
+                prefetchRelatedDTOs(jsonObjects, related);
+            }
+            List<S> results = new ArrayList<>();
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                results.add(convertJSONObjectToDTO(jsonObject, related));
+            }
+            return results;
+        } finally {
+            if (outermost) {
+                prefetchedDTOs.remove();
+            }
+        }
+    }
+
+    /**
+     * Fetch related objects of all given objects in advance, before the
+     * objects are converted to DTOs one by one. Services which convert related
+     * objects override it and call
+     * {@link #prefetchRelatedDTOs(List, String, SearchService, boolean)} or
+     * {@link #prefetchDTOs(Collection, SearchService, boolean)} for each
+     * relation.
+     *
+     * @param jsonObjects
+     *            list of objects which will be converted
+     * @param related
+     *            determines if converted objects are related to some other
+     *            object
+     */
+    protected void prefetchRelatedDTOs(List<Map<String, Object>> jsonObjects, boolean related) throws DataException {
+    }
 
+    /**
+     * Fetch objects related by given key to any of given objects in advance.
+     *
+     * @param jsonObjects
+     *            list of objects which will be converted
+     * @param key
+     *            name of related property
+     * @param service
+     *            service of related objects
+     * @param related
+     *            relation mode in which the related objects will be requested
+     */
+    protected void prefetchRelatedDTOs(List<Map<String, Object>> jsonObjects, String key,
+            SearchService<?, ?, ?> service, boolean related) throws DataException {
+        Set<Integer> ids = new LinkedHashSet<>();
         for (Map<String, Object> jsonObject : jsonObjects) {
-            results.add(convertJSONObjectToDTO(jsonObject, related));
+            if (jsonObject.containsKey(key)) {
+                ids.addAll(getRelatedPropertyForDTO(jsonObject, key));
+            }
+        }
+        prefetchDTOs(ids, service, related);
+    }
+
+    /**
+     * Fetch objects with given ids in advance, with one query for each chunk
+     * of ids. Objects which are not found are remembered as requested, too.
+     *
+     * @param ids
+     *            ids of related objects
+     * @param service
+     *            service of related objects
+     * @param related
+     *            relation mode in which the related objects will be requested
+     */
+    protected void prefetchDTOs(Collection<Integer> ids, SearchService<?, ?, ?> service, boolean related)
+            throws DataException {
+        Map<String, PrefetchedDTOs> prefetchedByService = prefetchedDTOs.get();
+        if (Objects.isNull(prefetchedByService)) {
+            return;
+        }
+        PrefetchedDTOs prefetched = prefetchedByService.computeIfAbsent(getPrefetchKey(service, related),
+            key -> new PrefetchedDTOs());
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : ids) {
+            if (Objects.nonNull(id) && id > 0 && !prefetched.requestedIds.contains(id)) {
+                missingIds.add(id);
+            }
+        }
+        int chunkSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
+        for (int from = 0; from < missingIds.size(); from += chunkSize) {
+            List<Integer> chunk = missingIds.subList(from, Math.min(from + chunkSize, missingIds.size()));
+            List<? extends BaseDTO> dtos = service.findByQuery(createRelatedQuery(chunk, service), null, 0,
+                chunk.size(), related);
+            for (BaseDTO dto : dtos) {
+                prefetched.dtos.put(dto.getId(), dto);
+            }
+            prefetched.requestedIds.addAll(chunk);
+        }
+    }
+
+    private static PrefetchedDTOs getPrefetchedDTOs(SearchService<?, ?, ?> service, boolean related) {
+        Map<String, PrefetchedDTOs> prefetchedByService = prefetchedDTOs.get();
+        if (Objects.isNull(prefetchedByService)) {
+            return null;
         }
+        return prefetchedByService.get(getPrefetchKey(service, related));
+    }
 
-        return results;
+    private static String getPrefetchKey(SearchService<?, ?, ?> service, boolean related) {
+        return service.getClass().getName() + (related ? ":related" : "");
     }
 
     /**
@@ -487,19 +900,34 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      *            name of related property
      * @return bean object
      */
+    @SuppressWarnings("unchecked")
     protected <O extends BaseDTO> List<O> convertRelatedJSONObjectToDTO(Map<String, Object> jsonObject, String key,
             SearchService<?, O, ?> service) throws DataException {
         List<Integer> ids = getRelatedPropertyForDTO(jsonObject, key);
         if (ids.isEmpty()) {
             return new ArrayList<>();
         }
+        PrefetchedDTOs prefetched = getPrefetchedDTOs(service, true);
+        if (Objects.nonNull(prefetched) && prefetched.requestedIds.containsAll(ids)) {
+            List<O> dtos = new ArrayList<>();
+            for (Integer id : ids) {
+                if (prefetched.dtos.containsKey(id)) {
+                    dtos.add((O) prefetched.dtos.get(id));
+                }
+            }
+            return dtos;
+        }
+        return service.findByQuery(createRelatedQuery(ids, service), true);
+    }
+
+    private QueryBuilder createRelatedQuery(List<Integer> ids, SearchService<?, ?, ?> service) {
         if (service instanceof ProjectService) {
             BoolQueryBuilder query = new BoolQueryBuilder();
             query.must(createSetQueryForIds(ids));
             query.must(((ProjectService)service).getProjectsForCurrentUserQuery());
-            return service.findByQuery(query, true);
+            return query;
         }
-        return service.findByQuery(createSetQueryForIds(ids), true);
+        return createSetQueryForIds(ids);
     }
 
     private QueryBuilder createSetQueryForIds(List<Integer> ids) {
@@ -801,6 +1229,35 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Count the documents for each distinct value of a field with one terms
+     * aggregation.
+     *
+     * @param query
+     *            for documents to count
+     * @param field
+     *            by which the documents are counted
+     * @param size
+     *            maximal number of distinct values
+     * @return map of value to number of documents, values without documents
+     *         are left out
+     */
+    protected Map<String, Long> countDocumentsByTerms(QueryBuilder query, String field, int size)
+            throws DataException {
+        Map<String, Long> counts = new HashMap<>();
+        try {
+            Aggregations aggregations = searcher.aggregateDocuments(query,
+                AggregationBuilders.terms(field).field(field).size(size));
+            Terms terms = aggregations.get(field);
+            for (Terms.Bucket bucket : terms.getBuckets()) {
+                counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+            }
+            return counts;
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
     protected Map<String, Object> findDocument(QueryBuilder query) throws DataException {
         try {
             return searcher.findDocument(query);
@@ -855,4 +1312,12 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             return null;
         }
     }
+
+    /**
+     * Related DTOs fetched in advance for one service and relation mode.
+     */
+    private static class PrefetchedDTOs {
+        private final Set<Integer> requestedIds = new HashSet<>();
+        private final Map<Integer, BaseDTO> dtos = new HashMap<>();
+    }
 }
@@ -20,10 +20,10 @@ import java.net.URI;
 import java.nio.file.FileSystems;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -302,6 +302,17 @@ public class FileService {
         return fileManagementModule.getSizeOfDirectory(directory);
     }
 
+    /**
+     * Read a directory and its subdirectories again, to take changes into
+     * account which were made outside of Kitodo.Production.
+     *
+     * @param directory
+     *            URI of directory to rescan
+     */
+    public void rescanDirectory(URI directory) {
+        fileManagementModule.rescan(directory);
+    }
+
     /**
      * Copy directory.
      *
@@ -907,7 +918,7 @@ public class FileService {
     private List<String> getCanonicalFileNamePartsAndSanitizeAbsoluteURIs(Workpiece workpiece,
             Map<String, Subfolder> subfolders, URI processBaseUri) {
 
-        List<String> canonicals = new LinkedList<>();
+        List<String> canonicals = new ArrayList<>();
         String baseUriString = processBaseUri.toString();
         if (!baseUriString.endsWith("/")) {
             baseUriString = baseUriString.concat("/");
@@ -961,28 +972,37 @@ public class FileService {
 
     /**
      * Adds the new media to the workpiece. The media are sorted in according to
-     * the canonical part of the file name.
+     * the canonical part of the file name: A new medium is inserted before the
+     * first medium of the workpiece that doesn't sort before it. As the new
+     * media are sorted, too, the media of the workpiece and the new media are
+     * merged in one pass, instead of searching the insertion point for every
+     * new medium.
      */
     private void addNewMediaToWorkpiece(List<String> canonicals, Map<String, Map<Subfolder, URI>> mediaToAdd,
             Workpiece workpiece) {
 
+        if (mediaToAdd.isEmpty()) {
+            return;
+        }
+        MetadataImageComparator comparator = new MetadataImageComparator();
+        List<MediaUnit> mediaUnits = workpiece.getMediaUnit().getChildren();
+        int existing = Math.min(canonicals.size(), mediaUnits.size());
+        List<MediaUnit> mergedMediaUnits = new ArrayList<>(mediaUnits.size() + mediaToAdd.size());
+        int next = 0;
         for (Entry<String, Map<Subfolder, URI>> entry : mediaToAdd.entrySet()) {
-            int insertionPoint = 0;
-            for (String canonical : canonicals) {
-                if (new MetadataImageComparator().compare(entry.getKey(), canonical) > 0) {
-                    insertionPoint++;
-                } else {
-                    break;
-                }
+            while (next < existing && comparator.compare(entry.getKey(), canonicals.get(next)) > 0) {
+                mergedMediaUnits.add(mediaUnits.get(next++));
             }
             MediaUnit mediaUnit = createMediaUnit(entry.getValue());
-            workpiece.getMediaUnit().getChildren().add(insertionPoint, mediaUnit);
+            mergedMediaUnits.add(mediaUnit);
             View view = new View();
             view.setMediaUnit(mediaUnit);
             workpiece.getRootElement().getViews().add(view);
             view.getMediaUnit().getIncludedStructuralElements().add(workpiece.getRootElement());
-            canonicals.add(insertionPoint, entry.getKey());
         }
+        mergedMediaUnits.addAll(mediaUnits.subList(next, mediaUnits.size()));
+        mediaUnits.clear();
+        mediaUnits.addAll(mergedMediaUnits);
     }
 
     /**
@@ -25,6 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -35,11 +43,15 @@ import javax.imageio.ImageIO;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.imagemanagement.ImageDerivative;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.config.xml.fileformats.FileFormat;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.production.enums.GenerationMode;
 import org.kitodo.production.enums.ImageGeneratorStep;
+import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.ServiceManager;
@@ -135,31 +147,9 @@ public class ImageGenerator implements Runnable {
     }
 
     /**
-     * Invokes the image management interface method that creates a derivative.
-     * What kind of derivative should be created is determined from the folder
-     * configuration.
-     *
-     * @param sourceImage
-     *            address of the source image from which the derivative is to be
-     *            calculated.
-     * @param imageProperties
-     *            configuration for the target image
-     * @param imageFileFormat
-     *            image file format to create
-     * @param destinationImage
-     *            image file to write
-     * @throws IOException
-     *             if an underlying disk operation fails
-     */
-    private void createDerivative(URI sourceImage, Folder imageProperties, ImageFileFormat imageFileFormat,
-            URI destinationImage) throws IOException {
-
-        imageService.createDerivative(sourceImage, imageProperties.getDerivative().get(), destinationImage,
-            imageFileFormat);
-    }
-
-    /**
-     * Generates a set of derivatives.
+     * Generates a set of derivatives. All derivatives which are created by the
+     * image management interface are created in one call, so that the source
+     * image is read only once.
      *
      * @param instruction
      *            Instruction, which pictures are to be generated. Left: image
@@ -172,8 +162,19 @@ public class ImageGenerator implements Runnable {
      */
     public void createDerivatives(ContentToBeGenerated instruction) {
         try {
+            List<ImageDerivative> derivatives = new ArrayList<>();
             for (Subfolder destinationFolder : instruction.getSubfoldersWhoseContentsAreToBeGenerated()) {
-                generateDerivative(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
+                Optional<Double> derivative = destinationFolder.getFolder().getDerivative();
+                Optional<ImageFileFormat> imageFileFormat = destinationFolder.getFileFormat().getImageFileFormat();
+                if (derivative.isPresent() && imageFileFormat.isPresent()) {
+                    derivatives.add(new ImageDerivative(derivative.get(),
+                            destinationFolder.getUri(instruction.getCanonical()), imageFileFormat.get()));
+                } else {
+                    generateDerivative(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
+                }
+            }
+            if (!derivatives.isEmpty()) {
+                imageService.createDerivatives(instruction.getSourceURI(), derivatives);
             }
         } catch (IOException e) {
             throw new UndeclaredThrowableException(e);
@@ -243,7 +244,8 @@ public class ImageGenerator implements Runnable {
     }
 
     /**
-     * Generates the derivative depending on the declared generator function.
+     * Generates the derivative depending on the declared generator function,
+     * if it is created with the on-board tools of Java.
      *
      * @param sourceImage
      *            source file
@@ -258,15 +260,11 @@ public class ImageGenerator implements Runnable {
             throws IOException {
 
         Folder imageProperties = destinationImage.getFolder();
-        boolean isCreatingDerivative = imageProperties.getDerivative().isPresent();
         boolean isChangingDpi = imageProperties.getDpi().isPresent();
         boolean isGettingScaledWebImage = imageProperties.getImageScale().isPresent();
         boolean isGettingSizedWebImage = imageProperties.getImageSize().isPresent();
 
-        if (isCreatingDerivative && destinationImage.getFileFormat().getImageFileFormat().isPresent()) {
-            createDerivative(sourceImage, imageProperties, destinationImage.getFileFormat().getImageFileFormat().get(),
-                destinationImage.getUri(canonical));
-        } else if (isChangingDpi || isGettingScaledWebImage || isGettingSizedWebImage) {
+        if (isChangingDpi || isGettingScaledWebImage || isGettingSizedWebImage) {
             createImageWithImageIO(sourceImage, imageProperties, destinationImage.getFileFormat(),
                 destinationImage.getUri(canonical));
         }
@@ -365,7 +363,14 @@ public class ImageGenerator implements Runnable {
      */
     @Override
     public void run() {
+        int threads = getNumberOfThreads();
         do {
+            if (state.equals(ImageGeneratorStep.GENERATE_IMAGES) && threads > 1) {
+                if (!generateImagesInParallel(threads)) {
+                    return;
+                }
+                break;
+            }
             state.accept(this);
             setPosition(getPosition() + 1);
             setProgress();
@@ -377,6 +382,71 @@ public class ImageGenerator implements Runnable {
         logger.info("Completed");
     }
 
+    /**
+     * Generates the remaining elements to be generated on a pool of threads.
+     * The position and the progress are advanced whenever an element is
+     * completed. If generating an element fails, the remaining elements are
+     * cancelled and the exception is thrown.
+     *
+     * @param threads
+     *            number of elements to generate at the same time
+     * @return false, if the supervisor was interrupted
+     */
+    private boolean generateImagesInParallel(int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CompletionService<ContentToBeGenerated> completionService = new ExecutorCompletionService<>(executor);
+            int pending = 0;
+            for (ContentToBeGenerated instruction : contentToBeGenerated.subList(position, contentToBeGenerated.size())) {
+                completionService.submit(() -> {
+                    createDerivatives(instruction);
+                    return instruction;
+                });
+                pending++;
+            }
+            while (pending > 0) {
+                Future<ContentToBeGenerated> completed = completionService.poll(1, TimeUnit.SECONDS);
+                if (Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
+                    return false;
+                }
+                if (Objects.isNull(completed)) {
+                    continue;
+                }
+                pending--;
+                ContentToBeGenerated instruction = getGenerated(completed);
+                letTheSupervisorDo(emptyTask -> emptyTask.setWorkDetail(
+                    Helper.getTranslation("generateImages", Collections.singletonList(instruction.getCanonical()))));
+                logger.info("Generated ".concat(instruction.toString()));
+                setPosition(getPosition() + 1);
+                setProgress();
+            }
+            letTheSupervisorDo(emptyTask -> emptyTask.setProgress(100));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ContentToBeGenerated getGenerated(Future<ContentToBeGenerated> completed)
+            throws InterruptedException {
+        try {
+            return completed.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        }
+    }
+
+    private static int getNumberOfThreads() {
+        int threads = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.IMAGE_GENERATOR_THREADS);
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
     /**
      * Sets the current position in the list.
      *
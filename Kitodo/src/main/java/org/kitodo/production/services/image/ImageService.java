@@ -14,8 +14,10 @@ package org.kitodo.production.services.image;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collection;
 import java.util.Objects;
 
+import org.kitodo.api.imagemanagement.ImageDerivative;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
 import org.kitodo.api.imagemanagement.ImageManagementInterface;
 import org.kitodo.serviceloader.KitodoServiceLoader;
@@ -71,6 +73,24 @@ public class ImageService {
         return imageManagement.createDerivative(imageFileUri, percent, resultFileUri, resultFileFormat);
     }
 
+    /**
+     * Creates several derivatives for an image at a given path, reading the
+     * image only once.
+     *
+     * @param imageFileUri
+     *            the URI to the image
+     * @param derivatives
+     *            the derivatives to create
+     * @return true, if creation of all derivatives was successful, false
+     *         otherwise
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    boolean createDerivatives(URI imageFileUri, Collection<ImageDerivative> derivatives) throws IOException {
+        return imageManagement.createDerivatives(imageFileUri, derivatives);
+    }
+
     /**
      * Scales an image at a given path and returns it.
      *
@@ -38,7 +38,7 @@ public class LongTermPreservationValidationService {
     private LongTermPreservationValidationInterface getValidationModule() {
         KitodoServiceLoader<LongTermPreservationValidationInterface> loader = new KitodoServiceLoader<>(
                 LongTermPreservationValidationInterface.class);
-        return loader.loadModule();
+        return loader.loadSingletonModule();
     }
 
     /**
@@ -113,7 +113,7 @@ public class MetadataValidationService {
     private MetadataValidationInterface getValidationModule() {
         KitodoServiceLoader<MetadataValidationInterface> loader = new KitodoServiceLoader<>(
                 MetadataValidationInterface.class);
-        return loader.loadModule();
+        return loader.loadSingletonModule();
     }
 
     /**
@@ -15,7 +15,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -144,10 +143,8 @@ public class WorkflowControllerService {
     private boolean validateMetadata(Task task) throws IOException, DataException {
         URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(task.getProcess());
         Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
-        RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        ruleset.load(new File(Paths.get(
-                ConfigCore.getParameter(ParameterCore.DIR_RULESETS),
-                task.getProcess().getRuleset().getFile()).toString()));
+        RulesetManagementInterface ruleset = ServiceManager.getRulesetService()
+                .openRuleset(task.getProcess().getRuleset());
         ValidationResult validationResult = ServiceManager.getMetadataValidationService().validate(workpiece, ruleset);
         if (State.ERROR.equals(validationResult.getState())) {
             Helper.setErrorMessage(Helper.getTranslation("dataEditor.validation.state.error"));
@@ -63,6 +63,10 @@ public class TaskScriptThread extends EmptyTask {
             } catch (DataException e) {
                 logger.error("Data Error occurred", e);
             }
+            // stopping the task in the task manager terminates the script
+            if (isInterrupted()) {
+                return;
+            }
         }
         if (!task.getContentFolders().isEmpty()) {
             try {
@@ -0,0 +1,128 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.goobi.mq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ActiveMQDirectorTest {
+
+    private static final String QUEUE = "KitodoProduction.Test.Queue";
+    private static final String TOPIC = "KitodoProduction.Test.Topic";
+
+    private final ActiveMQDirector director = new ActiveMQDirector();
+    private Session testSession;
+
+    /**
+     * Processor which finishes only when as many messages are processed at
+     * the same time as it has consumers. A message is counted as processed
+     * after it was acknowledged.
+     */
+    private static class ParallelProcessor extends ActiveMQProcessor {
+        private final CountDownLatch started;
+        private final CountDownLatch processed;
+
+        ParallelProcessor(int consumers) {
+            super(QUEUE, consumers);
+            started = new CountDownLatch(consumers);
+            processed = new CountDownLatch(consumers);
+        }
+
+        @Override
+        protected void process(MapMessageObjectReader ticket) throws JMSException {
+            started.countDown();
+            try {
+                if (!started.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Messages were not processed in parallel");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void onMessage(Message message) {
+            super.onMessage(message);
+            processed.countDown();
+        }
+    }
+
+    @Before
+    public void connect() throws JMSException {
+        ActiveMQDirector.session = director.connectToServer("vm://localhost?broker.persistent=false");
+        assertNotNull("Should connect to embedded broker", ActiveMQDirector.session);
+        testSession = ActiveMQDirector.connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    }
+
+    @After
+    public void disconnect() throws JMSException {
+        testSession.close();
+        director.contextDestroyed(null);
+        ActiveMQDirector.resultsTopic = null;
+    }
+
+    @Test
+    public void shouldProcessMessagesInParallelAndReportResults() throws Exception {
+        ActiveMQDirector.resultsTopic = director.setUpReportChannel(TOPIC);
+        MessageConsumer results = testSession.createConsumer(testSession.createTopic(TOPIC));
+        ParallelProcessor processor = new ParallelProcessor(2);
+        director.registerListeners(new ActiveMQProcessor[] {processor });
+        assertEquals("Should attach two consumers", 2, processor.getCheckers().size());
+
+        MessageProducer producer = testSession.createProducer(testSession.createQueue(QUEUE));
+        for (String id : new String[] {"first", "second" }) {
+            MapMessage message = testSession.createMapMessage();
+            message.setString("id", id);
+            producer.send(message);
+        }
+
+        assertTrue("Should process messages in parallel", processor.processed.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 2; i++) {
+            Message result = results.receive(10000);
+            assertNotNull("Should publish result", result);
+            assertEquals("Should report success", "success", ((MapMessage) result).getString("level"));
+        }
+    }
+
+    @Test
+    public void shouldAcknowledgeProcessedMessages() throws Exception {
+        ParallelProcessor processor = new ParallelProcessor(1);
+        director.registerListeners(new ActiveMQProcessor[] {processor });
+
+        MapMessage message = testSession.createMapMessage();
+        message.setString("id", "ticket");
+        testSession.createProducer(testSession.createQueue(QUEUE)).send(message);
+        assertTrue("Should process message", processor.processed.await(10, TimeUnit.SECONDS));
+
+        for (MessageConsumer checker : processor.getCheckers()) {
+            checker.close();
+        }
+        MessageConsumer consumer = testSession.createConsumer(testSession.createQueue(QUEUE));
+        assertNull("Processed message should not be delivered again", consumer.receive(1000));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.goobi.production.flow.helper;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.Test;
+
+public class SearchResultWriterTest {
+
+    private static final List<String> HEADER = Arrays.asList("Title", "ID");
+
+    @Test
+    public void shouldWriteCsv() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SearchResultWriter writer = SearchResultFormat.CSV.createWriter(outputStream);
+        writer.start("filter", HEADER);
+        writer.writeRow(Arrays.asList("plain", "1"));
+        writer.writeRow(Arrays.asList("with, \"quotes\"", "2"));
+        writer.finish();
+
+        assertEquals("Incorrect CSV!", "Title,ID\r\nplain,1\r\n\"with, \"\"quotes\"\"\",2\r\n",
+            new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldContinueXlsOnNewSheet() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SearchResultWriter writer = SearchResultFormat.XLS.createWriter(outputStream);
+        writer.start("filter", HEADER);
+        List<String> row = Arrays.asList("title", "1");
+        for (int i = 0; i < 65536; i++) {
+            writer.writeRow(row);
+        }
+        writer.finish();
+
+        HSSFWorkbook workbook = new HSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals("Incorrect number of sheets!", 2, workbook.getNumberOfSheets());
+        assertEquals("Incorrect number of rows on first sheet!", 65535, workbook.getSheetAt(0).getLastRowNum());
+        assertEquals("Header is missing on second sheet!", "Title",
+            workbook.getSheetAt(1).getRow(0).getCell(0).getStringCellValue());
+        assertEquals("Incorrect number of rows on second sheet!", 2, workbook.getSheetAt(1).getLastRowNum());
+    }
+
+    @Test
+    public void shouldWritePdf() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SearchResultWriter writer = SearchResultFormat.PDF.createWriter(outputStream);
+        writer.start("filter", HEADER);
+        for (int i = 0; i < 1200; i++) {
+            writer.writeRow(Collections.nCopies(2, String.valueOf(i)));
+        }
+        writer.finish();
+
+        assertEquals("Not a PDF file!", "%PDF",
+            new String(Arrays.copyOf(outputStream.toByteArray(), 4), StandardCharsets.US_ASCII));
+    }
+}
@@ -12,12 +12,16 @@
 package org.kitodo.config;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.kitodo.FileLoader;
+import org.kitodo.config.enums.KitodoConfigFile;
 
 import static org.junit.Assert.assertEquals;
 
@@ -70,4 +74,18 @@ public class ConfigProjectTest {
         String expected = "ATS+TSL+'_'+PPN digital a-Satz";
         assertEquals("Title definition is incorrect!", expected, titleDefinition);
     }
+
+    @Test
+    public void shouldKeepConfigurationIfChangedFileIsMalformed() throws Exception {
+        KitodoConfigFile configFile = KitodoConfigFile.PROJECT_CONFIGURATION;
+        try {
+            Files.write(Paths.get(configFile.getAbsolutePath()), "<kitodoProjects><project".getBytes(
+                StandardCharsets.UTF_8));
+            ConfigProject.reloadProjectConfiguration(configFile);
+            assertEquals("Configuration loaded before should be kept!", "monograph",
+                new ConfigProject("default").getDocType());
+        } finally {
+            FileLoader.createConfigProjectsFile();
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FolderExportTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private List<Path> images;
+    private Path destination;
+    private Path staging;
+
+    @Before
+    public void createImages() throws IOException {
+        Path source = temporaryFolder.newFolder("images").toPath();
+        images = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            images.add(Files.write(source.resolve(String.format("%08d.tif", i)),
+                ("image " + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        destination = temporaryFolder.newFolder("export").toPath();
+        staging = destination.resolve(".process.staging");
+    }
+
+    @Test
+    public void shouldCopyAndPublishFolders() throws Exception {
+        Path published = destination.resolve("images/tif");
+        Files.createDirectories(published);
+        Files.write(published.resolve("outdated.tif"), new byte[] {1 });
+
+        FolderExport folderExport = new FolderExport(destination, staging, 3, false, true);
+        folderExport.addFolder("images/tif", images);
+        assertEquals("Should count files to export", 5, folderExport.getNumberOfFiles());
+        AtomicInteger done = new AtomicInteger();
+        folderExport.copy(done::set);
+        assertEquals("Should report progress of all files", 5, done.get());
+        folderExport.publish();
+
+        for (Path image : images) {
+            assertArrayEquals("Should publish file", Files.readAllBytes(image),
+                Files.readAllBytes(published.resolve(image.getFileName())));
+        }
+        assertFalse("Should replace previous folder", Files.exists(published.resolve("outdated.tif")));
+        assertFalse("Should remove staging folder", Files.exists(staging));
+    }
+
+    @Test
+    public void shouldResumeWithFilesNotYetCopied() throws Exception {
+        FolderExport interrupted = new FolderExport(destination, staging, 1, false, true);
+        interrupted.addFolder("tif", images.subList(0, 2));
+        interrupted.copy(done -> { });
+        Path stagedCopy = staging.resolve("tif").resolve(images.get(0).getFileName());
+        Files.write(stagedCopy, "kept 01".getBytes(StandardCharsets.UTF_8));
+
+        FolderExport resumed = new FolderExport(destination, staging, 2, false, true);
+        resumed.addFolder("tif", images);
+        resumed.copy(done -> { });
+        resumed.publish();
+
+        Path published = destination.resolve("tif");
+        assertEquals("Should not copy recorded file again", "kept 01",
+            new String(Files.readAllBytes(published.resolve(images.get(0).getFileName())), StandardCharsets.UTF_8));
+        assertEquals("Should copy remaining files", 5, published.toFile().list().length);
+    }
+
+    @Test
+    public void shouldMergeIntoSharedFolder() throws Exception {
+        Path shared = destination.resolve("tif");
+        Files.createDirectories(shared);
+        Files.write(shared.resolve("other.tif"), new byte[] {1 });
+
+        FolderExport folderExport = new FolderExport(destination, staging, 2, true, false);
+        folderExport.addFolder("tif", images);
+        folderExport.copy(done -> { });
+        folderExport.publish();
+
+        assertTrue("Should keep files of others", Files.exists(shared.resolve("other.tif")));
+        assertEquals("Should add exported files", 6, shared.toFile().list().length);
+    }
+}
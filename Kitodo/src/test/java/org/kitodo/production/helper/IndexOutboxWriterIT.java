@@ -0,0 +1,100 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Docket;
+import org.kitodo.data.database.beans.IndexOutboxEntry;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.database.persistence.IndexOutboxDAO;
+
+public class IndexOutboxWriterIT {
+
+    private final IndexOutboxDAO outboxDAO = new IndexOutboxDAO();
+
+    @BeforeClass
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertDockets();
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldNotBlockOutboxByEntryFailingAgain() throws Exception {
+        IndexOutboxEntry failing = createEntry("Unknown", 1);
+        IndexOutboxEntry docket = createEntry("Docket", 1);
+        int maxAttempts = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_MAX_ATTEMPTS);
+
+        new IndexOutboxWriter().run();
+        List<IndexOutboxEntry> entries = outboxDAO.getAll();
+        assertEquals("Entry behind failing entry was not sent!", 1, entries.size());
+        assertEquals("Failing entry was removed!", failing.getId(), entries.get(0).getId());
+        assertEquals("Failed attempt was not recorded!", 1, entries.get(0).getAttempts());
+        assertTrue("Next attempt should wait!", entries.get(0).getNextAttempt().after(new Date()));
+        assertTrue("Docket should be indexed!", outboxDAO.getAll().stream()
+                .noneMatch(entry -> entry.getId().equals(docket.getId())));
+
+        new IndexOutboxWriter().run();
+        assertEquals("Failing entry was retried too early!", 1, outboxDAO.getById(failing.getId()).getAttempts());
+
+        failing = outboxDAO.getById(failing.getId());
+        failing.setAttempts(maxAttempts - 1);
+        failing.setNextAttempt(null);
+        outboxDAO.save(failing);
+        new IndexOutboxWriter().run();
+        assertEquals("Last attempt was not recorded!", maxAttempts, outboxDAO.getById(failing.getId()).getAttempts());
+        assertTrue("Given up entry should not be due!", outboxDAO.getDue(maxAttempts, 10).isEmpty());
+
+        outboxDAO.remove(failing.getId());
+    }
+
+    @Test
+    public void shouldNotWaitForGivenUpEntry() throws Exception {
+        IndexOutboxEntry givenUp = createEntry("Docket", 2);
+        int maxAttempts = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_OUTBOX_MAX_ATTEMPTS);
+        givenUp.setAttempts(maxAttempts);
+        outboxDAO.save(givenUp);
+
+        Docket docket = new Docket();
+        docket.setId(2);
+        assertFalse("Given up entry should not be pending!", outboxDAO.isPending(docket, maxAttempts));
+
+        outboxDAO.remove(givenUp.getId());
+    }
+
+    private IndexOutboxEntry createEntry(String objectType, int objectId) throws Exception {
+        IndexOutboxEntry entry = new IndexOutboxEntry();
+        entry.setObjectType(objectType);
+        entry.setObjectId(objectId);
+        entry.setIndexAction(IndexAction.INDEX);
+        entry.setCreationDate(new Date());
+        outboxDAO.save(entry);
+        return entry;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.json.JSONObject;
+import org.json.XML;
+import org.junit.Test;
+
+public class MetsDmdSecReaderTest {
+
+    private static final String METS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<mets:mets xmlns:mets=\"http://www.loc.gov/METS/\">\n"
+            + "    <mets:metsHdr CREATEDATE=\"2018-09-14T07:45:17\"/>\n"
+            + "    <mets:dmdSec ID=\"DMDLOG_0000\">\n"
+            + "        <mets:mdWrap MDTYPE=\"MODS\">\n"
+            + "            <mets:xmlData>\n"
+            + "                <kitodo:kitodo xmlns:kitodo=\"http://meta.kitodo.org/v1/\">\n"
+            + "                    <kitodo:metadata name=\"TitleDocMain\">Title &amp; subtitle</kitodo:metadata>\n"
+            + "                    <kitodo:metadata name=\"PublicationYear\">1900</kitodo:metadata>\n"
+            + "                    <kitodo:metadata name=\"Empty\"/>\n"
+            + "                    <kitodo:metadataGroup name=\"Person\">\n"
+            + "                        <kitodo:metadata name=\"FirstName\">Jane</kitodo:metadata>\n"
+            + "                        <!-- comment -->\n"
+            + "                        <kitodo:metadata name=\"LastName\"> Doe </kitodo:metadata>\n"
+            + "                    </kitodo:metadataGroup>\n"
+            + "                </kitodo:kitodo>\n"
+            + "            </mets:xmlData>\n"
+            + "        </mets:mdWrap>\n"
+            + "    </mets:dmdSec>\n"
+            + "    <mets:structMap TYPE=\"LOGICAL\">\n"
+            + "        <mets:div DMDID=\"DMDLOG_0000\" ID=\"LOG_0000\" TYPE=\"Monograph\"/>\n"
+            + "    </mets:structMap>\n"
+            + "</mets:mets>\n";
+
+    @Test
+    public void shouldReadDmdSecLikeXmlConversion() throws XMLStreamException {
+        JSONObject dmdSecs = MetsDmdSecReader.read(new ByteArrayInputStream(METS.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("Only dmdSec should be read!", 1, dmdSecs.getJSONObject("mets:mets").length());
+        assertTrue("Read dmdSec differs from XML conversion!", dmdSecs.similar(getDmdSecs(XML.toJSONObject(METS))));
+    }
+
+    @Test
+    public void shouldReadMetadataFilesLikeXmlConversion() throws IOException, XMLStreamException {
+        for (String process : new String[] {"2", "4", "5", "7", "9" }) {
+            byte[] metsFile = Files.readAllBytes(Paths.get("src/test/resources/metadata", process, "meta.xml"));
+            try (InputStream in = new ByteArrayInputStream(metsFile)) {
+                JSONObject expected = getDmdSecs(XML.toJSONObject(new String(metsFile, StandardCharsets.UTF_8)));
+                assertTrue("Read dmdSec of process " + process + " differs from XML conversion!",
+                    MetsDmdSecReader.read(in).similar(expected));
+            }
+        }
+    }
+
+    private static JSONObject getDmdSecs(JSONObject xmlJSONObject) {
+        JSONObject mets = new JSONObject().put("mets:dmdSec",
+            xmlJSONObject.getJSONObject("mets:mets").get("mets:dmdSec"));
+        return new JSONObject().put("mets:mets", mets);
+    }
+}
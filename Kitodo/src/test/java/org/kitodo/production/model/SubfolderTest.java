@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.data.database.beans.Folder;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Ruleset;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.file.FileService;
+
+public class SubfolderTest {
+
+    private static final long AN_HOUR_AGO = System.currentTimeMillis() - 3_600_000;
+
+    private final FileService fileService = ServiceManager.getFileService();
+    private URI images;
+    private Subfolder subfolder;
+
+    @Before
+    public void createFolder() throws IOException {
+        images = fileService.createDirectory(fileService.createDirectory(URI.create(""), "14"), "images");
+        fileService.createResource(images, "00000001.tif");
+        fileService.createResource(images, "00000002.tif");
+
+        Folder folder = new Folder();
+        folder.setFileGroup("LOCAL");
+        folder.setPath("images");
+        folder.setMimeType("image/tiff");
+        Process process = new Process();
+        process.setId(14);
+        process.setTitle("Media_14");
+        process.setProcessBaseUri(URI.create("14"));
+        process.setRuleset(new Ruleset());
+        subfolder = new Subfolder(process, folder);
+    }
+
+    @After
+    public void deleteFolder() throws IOException {
+        fileService.delete(URI.create("14"));
+    }
+
+    @Test
+    public void shouldListDirectoryAgainOnlyIfChanged() throws IOException {
+        File directory = fileService.getFile(images);
+        directory.setLastModified(AN_HOUR_AGO);
+        assertEquals("Should list files", 2, subfolder.listContents().size());
+
+        fileService.createResource(images, "00000003.tif");
+        directory.setLastModified(AN_HOUR_AGO);
+        assertEquals("Should keep listing of unchanged directory", 2, subfolder.listContents().size());
+
+        directory.setLastModified(AN_HOUR_AGO + 1000);
+        assertEquals("Should list changed directory again", 3, subfolder.listContents().size());
+    }
+
+    @Test
+    public void shouldNotKeepListingOfRecentlyChangedDirectory() throws IOException {
+        assertEquals("Should list files", 2, subfolder.listContents().size());
+
+        fileService.createResource(images, "00000003.tif");
+        assertEquals("Should list directory again", 3, subfolder.listContents().size());
+    }
+}
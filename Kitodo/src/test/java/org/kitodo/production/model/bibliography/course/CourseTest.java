@@ -0,0 +1,112 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.model.bibliography.course;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.joda.time.LocalDate;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CourseTest {
+
+    private Course course;
+
+    /**
+     * Creates a course of two blocks with a daily morning issue, a weekend
+     * supplement, holidays and extra issues.
+     */
+    @Before
+    public void createCourse() {
+        course = new Course();
+        Block second = new Block(course);
+        second.setFirstAppearance(new LocalDate(1921, 1, 1));
+        second.setLastAppearance(new LocalDate(1930, 6, 30));
+        Issue evening = new Issue(course, "Evening issue");
+        evening.addMonday();
+        evening.addThursday();
+        evening.addExclusion(new LocalDate(1925, 12, 24));
+        evening.addExclusion(new LocalDate(1925, 12, 21));
+        evening.addAddition(new LocalDate(1925, 12, 21));
+        second.addIssue(evening);
+        course.add(second);
+
+        Block first = new Block(course);
+        first.setFirstAppearance(new LocalDate(1900, 1, 3));
+        first.setLastAppearance(new LocalDate(1918, 11, 9));
+        Issue morning = new Issue(course, "Morning issue");
+        morning.addMonday();
+        morning.addTuesday();
+        morning.addWednesday();
+        morning.addThursday();
+        morning.addFriday();
+        morning.addSaturday();
+        morning.addExclusion(new LocalDate(1910, 12, 26));
+        morning.addExclusion(new LocalDate(1910, 12, 25));
+        morning.addAddition(new LocalDate(1914, 8, 2));
+        morning.addAddition(new LocalDate(1919, 1, 1));
+        first.addIssue(morning);
+        Issue supplement = new Issue(course, "Supplement");
+        supplement.addSunday();
+        supplement.addAddition(new LocalDate(1914, 8, 2));
+        first.addIssue(supplement);
+        course.add(first);
+    }
+
+    @Test
+    public void shouldCountIssuesLikeTheyAreGenerated() {
+        long generated = 0;
+        for (Block block : course) {
+            for (LocalDate day = block.getFirstAppearance(); !day.isAfter(block.getLastAppearance()); day = day
+                    .plusDays(1)) {
+                generated += block.getIndividualIssues(day).size();
+            }
+        }
+        assertEquals("Should count issues by days of week and exceptions", generated,
+            course.countIndividualIssues());
+        assertEquals("Should stream all issues", generated, course.streamIndividualIssues().count());
+    }
+
+    @Test
+    public void shouldStreamIssuesInOrderOfAppearance() {
+        LocalDate previous = null;
+        for (IndividualIssue issue : (Iterable<IndividualIssue>) course.streamIndividualIssues()::iterator) {
+            if (previous != null) {
+                assertFalse("Should not go back in time", issue.getDate().isBefore(previous));
+            }
+            previous = issue.getDate();
+        }
+        assertEquals("Should start with the earlier block", new LocalDate(1900, 1, 3),
+            course.streamIndividualIssues().findFirst().get().getDate());
+    }
+
+    @Test
+    public void shouldSplitIntoYearsOnce() {
+        course.splitInto(Granularity.YEARS);
+        List<List<IndividualIssue>> processes = course.getProcesses();
+        assertEquals("Should create a process per year", 19 + 10, course.getNumberOfProcesses());
+        List<IndividualIssue> firstProcess = processes.get(0);
+
+        course.splitInto(Granularity.YEARS);
+        assertSame("Should keep processes of the same granularity", firstProcess, course.getProcesses().get(0));
+
+        course.get(0).getIssues().get(0).addTuesday();
+        course.splitInto(Granularity.YEARS);
+        assertEquals("Should split again after a change", 19 + 10, course.getNumberOfProcesses());
+        assertEquals("Should contain changed issues", course.countIndividualIssues(),
+            course.getProcesses().stream().mapToLong(List::size).sum());
+    }
+}
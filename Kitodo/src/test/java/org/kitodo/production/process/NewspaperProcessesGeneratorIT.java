@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang.SystemUtils;
 import org.awaitility.Awaitility;
+import org.joda.time.LocalDate;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -39,8 +40,10 @@ import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.KitodoConfigFile;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.production.model.bibliography.course.Block;
 import org.kitodo.production.model.bibliography.course.Course;
 import org.kitodo.production.model.bibliography.course.Granularity;
+import org.kitodo.production.model.bibliography.course.Issue;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.ProcessService;
 import org.kitodo.production.services.file.FileService;
@@ -104,6 +107,38 @@ public class NewspaperProcessesGeneratorIT {
         cleanUp();
     }
 
+    /**
+     * A chunk of processes must not span two years, as the processes of a
+     * chunk are added to one year process.
+     */
+    @Test
+    public void shouldSplitChunkAtYearBoundary() throws Exception {
+        Process completeEdition = ServiceManager.getProcessService().getById(10);
+        Course course = new Course();
+        Block block = new Block(course);
+        block.setPublicationPeriod(new LocalDate(1703, 12, 1), new LocalDate(1704, 1, 31));
+        Issue issue = new Issue(course);
+        issue.addMonday();
+        block.addIssue(issue);
+        course.add(block);
+        course.splitInto(Granularity.DAYS);
+        NewspaperProcessesGenerator underTest = new NewspaperProcessesGenerator(completeEdition, course);
+
+        underTest.nextStep();
+        int progress = underTest.getProgress();
+        underTest.nextStep();
+        Assert.assertEquals("The first chunk should end with the last issue of 1703!", 5,
+            underTest.getProgress() - progress);
+        progress = underTest.getProgress();
+        underTest.nextStep();
+        Assert.assertEquals("The second chunk should contain the issues of 1704!", 4,
+            underTest.getProgress() - progress);
+        while (underTest.getProgress() < underTest.getNumberOfSteps()) {
+            underTest.nextStep();
+        }
+        cleanUp();
+    }
+
     /**
      * To clean up after the end of the test. All metadata directories >10 will
      * be deleted.
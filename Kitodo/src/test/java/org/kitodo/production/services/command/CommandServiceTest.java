@@ -12,6 +12,7 @@
 package org.kitodo.production.services.command;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -20,6 +21,7 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.SystemUtils;
 import org.junit.AfterClass;
@@ -129,6 +131,18 @@ public class CommandServiceTest {
         service.runCommand(commandString);
     }
 
+    @Test
+    public void runScriptWithTimeout() throws IOException {
+        String commandString = scriptPath + "long_working_script_2s" + scriptExtension;
+        CommandService service = new CommandService();
+        long start = System.nanoTime();
+        CommandResult result = service.runCommand(commandString, 500, TimeUnit.MILLISECONDS);
+
+        assertFalse("script running too long should fail", result.isSuccessful());
+        assertTrue("script should be terminated before it finishes",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1900);
+    }
+
     @Test
     public void runScriptAsync() throws InterruptedException {
         String commandString = scriptPath + "working_script" + scriptExtension;
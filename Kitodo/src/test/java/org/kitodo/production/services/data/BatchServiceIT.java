@@ -16,6 +16,7 @@ import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -30,8 +31,10 @@ import org.junit.rules.ExpectedException;
 import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
 import org.kitodo.data.database.beans.Batch;
+import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.dto.BatchDTO;
 import org.kitodo.production.services.ServiceManager;
 
 /**
@@ -178,6 +181,31 @@ public class BatchServiceIT {
                 batchService.findByProcessTitle("DBConnectionTest").size());
     }
 
+    @Test
+    public void shouldRemoveProcessFromBatch() throws Exception {
+        Batch batch = batchService.getById(3);
+        Process process = ServiceManager.getProcessService().getById(2);
+        batchService.removeProcesses(batch, Collections.singletonList(process));
+        await().untilAsserted(() -> assertEquals("Removed process was not reindexed!", 0,
+            batchService.findByProcessId(2).size()));
+        assertEquals("Process was not removed from batch!", 1, batchService.getById(3).getProcesses().size());
+
+        batch.getProcesses().add(process);
+        process.getBatches().add(batch);
+        batchService.save(batch);
+        await().untilAsserted(() -> assertEquals(BATCH_NOT_FOUND, 1, batchService.findByProcessId(2).size()));
+    }
+
+    @Test
+    public void shouldFindProcessesOfAllBatches() throws DataException {
+        List<BatchDTO> batches = batchService.findAll();
+        assertEquals(BATCHES_NOT_FOUND, 4, batches.size());
+        for (BatchDTO batch : batches) {
+            int expected = batch.getId() == 1 ? 1 : batch.getId() == 3 ? 2 : 0;
+            assertEquals("Processes of batch were not found!", expected, batch.getProcesses().size());
+        }
+    }
+
     @Test
     public void shouldContainCharSequence() throws Exception {
         Batch batch = batchService.getById(1);
@@ -12,6 +12,7 @@
 package org.kitodo.production.services.data;
 
 import static org.awaitility.Awaitility.await;
+import static org.elasticsearch.index.query.QueryBuilders.idsQuery;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -45,10 +46,15 @@ import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.IndexOutboxEntry;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Property;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.IndexOutboxDAO;
+import org.kitodo.data.database.persistence.ProcessDAO;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.PropertyDTO;
@@ -532,6 +538,44 @@ public class ProcessServiceIT {
         assertFalse(processService.isProcessAssignedToOnlyOneBatch(processDTO.getBatches()));
     }
 
+    @Test
+    public void shouldSaveListToIndexWithTasksAndProperties() throws Exception {
+        TaskService taskService = ServiceManager.getTaskService();
+        PropertyService propertyService = ServiceManager.getPropertyService();
+        Process process = processService.getById(1);
+        Task task = process.getTasks().get(0);
+        Property property = process.getProperties().get(0);
+        processService.removeFromIndex(process, true);
+        taskService.removeFromIndex(task, true);
+        propertyService.removeFromIndex(property, true);
+        assertEquals("Process should be removed from index!", Long.valueOf(0),
+            processService.count(idsQuery().addIds(process.getId().toString())));
+
+        processService.saveListToIndex(Collections.singletonList(process));
+        await().untilAsserted(() -> assertEquals(processNotFound, Long.valueOf(1),
+            processService.count(idsQuery().addIds(process.getId().toString()))));
+        await().untilAsserted(() -> assertEquals("Task was not found in index!", Long.valueOf(1),
+            taskService.count(idsQuery().addIds(task.getId().toString()))));
+        await().untilAsserted(() -> assertEquals("Property was not found in index!", Long.valueOf(1),
+            propertyService.count(idsQuery().addIds(property.getId().toString()))));
+    }
+
+    @Test
+    public void shouldRecordOneOutboxEntryForEachProcess() throws Exception {
+        IndexOutboxDAO outboxDAO = new IndexOutboxDAO();
+        List<Process> processes = Arrays.asList(processService.getById(1), processService.getById(2));
+        new ProcessDAO().saveListWithIndexOutbox(processes);
+
+        List<IndexOutboxEntry> entries = outboxDAO.getAll();
+        assertEquals("There should be one outbox entry for each process!", processes.size(), entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals("Wrong object type recorded!", "Process", entries.get(i).getObjectType());
+            assertEquals("Wrong object id recorded!", processes.get(i).getId(), entries.get(i).getObjectId());
+            assertEquals("Wrong index action recorded!", IndexAction.INDEX, entries.get(i).getIndexAction());
+            outboxDAO.remove(entries.get(i).getId());
+        }
+    }
+
     @Test
     public void shouldUpdateChildrenFromRootElement() throws Exception {
         LinkedMetsResource childToKeepLink = new LinkedMetsResource();
@@ -21,7 +21,12 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang.SystemUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,9 +34,15 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.kitodo.ExecutionPermission;
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.User;
 
 public class FileServiceTest {
@@ -591,4 +602,51 @@ public class FileServiceTest {
         fileService.delete(symLinkTarget);
     }
 
+    @Test
+    public void shouldMergeNewMediaInOrderOfFileNames() throws IOException {
+        URI images = fileService.createDirectory(fileService.createDirectory(URI.create(""), "13"), "images");
+        for (int i = 1; i <= 5; i++) {
+            fileService.createResource(images, String.format("%08d.tif", i));
+        }
+        Folder folder = new Folder();
+        folder.setFileGroup("LOCAL");
+        folder.setPath("images");
+        folder.setMimeType("image/tiff");
+        Project project = new Project();
+        project.setFolders(Collections.singletonList(folder));
+        Process process = new Process();
+        process.setId(13);
+        process.setTitle("Media_13");
+        process.setProcessBaseUri(URI.create("13"));
+        process.setRuleset(new Ruleset());
+        process.setProject(project);
+
+        try {
+            Workpiece workpiece = new Workpiece();
+            workpiece.getMediaUnit().getChildren().add(createMediaUnit(1, "images/00000004.tif"));
+            workpiece.getMediaUnit().getChildren().add(createMediaUnit(2, "images/00000002.tif"));
+
+            fileService.searchForMedia(process, workpiece);
+
+            List<String> fileNames = new ArrayList<>();
+            for (MediaUnit mediaUnit : workpiece.getMediaUnit().getChildren()) {
+                fileNames.add(FilenameUtils.getBaseName(mediaUnit.getMediaFiles().values().iterator().next().getPath()));
+            }
+            assertEquals("New media should be inserted before the first medium not sorting before them",
+                Arrays.asList("00000001", "00000003", "00000004", "00000002", "00000005"), fileNames);
+        } finally {
+            fileService.delete(URI.create("13"));
+        }
+    }
+
+    private static MediaUnit createMediaUnit(int order, String file) {
+        MediaVariant mediaVariant = new MediaVariant();
+        mediaVariant.setUse("LOCAL");
+        mediaVariant.setMimeType("image/tiff");
+        MediaUnit mediaUnit = new MediaUnit();
+        mediaUnit.setType("page");
+        mediaUnit.setOrder(order);
+        mediaUnit.getMediaFiles().put(mediaVariant, URI.create(file));
+        return mediaUnit;
+    }
 }